@@ -0,0 +1,22 @@
+package com.ylab.aspect;
+
+/**
+ * AuditLevel enum defines which audit messages are written for an audited method.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public enum AuditLevel {
+    /**
+     * Only failed invocations are written.
+     */
+    FAILURES,
+    /**
+     * One message with the outcome of the invocation is written, without arguments or result.
+     */
+    SUMMARY,
+    /**
+     * The invocation is written with its arguments before it starts and with its result or error after it ends.
+     */
+    FULL
+}
@@ -0,0 +1,80 @@
+package com.ylab.aspect;
+
+import com.ylab.props.AuditProperties;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.PatternMatchUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AuditPolicy class decides whether and how a method matched by the audit pointcut is audited.
+ * <p>
+ * Methods are identified as {@code SimpleClassName.methodName} and matched against the include, exclude and
+ * sample rate patterns, which support {@code *} wildcards. The decision is computed once per method and cached.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class AuditPolicy {
+    private final AuditProperties.Aspect properties;
+    private final Map<Method, Decision> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new audit policy.
+     *
+     * @param properties the audit aspect properties
+     */
+    public AuditPolicy(AuditProperties.Aspect properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Retrieves the audit decision of a method.
+     *
+     * @param method      the most specific method being invoked
+     * @param targetClass the class of the target object
+     * @return the audit decision
+     */
+    public Decision decide(Method method, Class<?> targetClass) {
+        return decisions.computeIfAbsent(method, key -> resolve(key, targetClass));
+    }
+
+    private Decision resolve(Method method, Class<?> targetClass) {
+        Audited audited = AnnotatedElementUtils.findMergedAnnotation(method, Audited.class);
+        if (audited == null) {
+            audited = AnnotatedElementUtils.findMergedAnnotation(targetClass, Audited.class);
+        }
+        if (audited != null) {
+            return new Decision(true, audited.level(), audited.sampleRate());
+        }
+        String name = targetClass.getSimpleName() + "." + method.getName();
+        boolean included = properties.getInclude().isEmpty() || matches(properties.getInclude(), name);
+        if (!included || matches(properties.getExclude(), name)) {
+            return Decision.SKIP;
+        }
+        double sampleRate = properties.getSampleRates().entrySet().stream()
+                .filter(entry -> PatternMatchUtils.simpleMatch(entry.getKey(), name))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(properties.getDefaultSampleRate());
+        return new Decision(true, properties.getDefaultLevel(), sampleRate);
+    }
+
+    private static boolean matches(List<String> patterns, String name) {
+        return PatternMatchUtils.simpleMatch(patterns.toArray(String[]::new), name);
+    }
+
+    /**
+     * Decision record holds how the invocations of a method are audited.
+     *
+     * @param audited    whether the method is audited at all
+     * @param level      the level of detail written
+     * @param sampleRate the fraction of successful invocations audited
+     */
+    public record Decision(boolean audited, AuditLevel level, double sampleRate) {
+        static final Decision SKIP = new Decision(false, AuditLevel.FAILURES, 0);
+    }
+}
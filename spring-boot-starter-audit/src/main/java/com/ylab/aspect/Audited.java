@@ -0,0 +1,36 @@
+package com.ylab.aspect;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Audited annotation marks a method, or all methods of a class, to be audited by {@link DetailedLoggingAspect}.
+ * <p>
+ * Annotated methods are audited even when they are outside the configured pointcut or excluded by pattern.
+ * An annotation on the method takes precedence over one on the class.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Audited {
+
+    /**
+     * The level of detail written for the method.
+     *
+     * @return the audit level
+     */
+    AuditLevel level() default AuditLevel.FULL;
+
+    /**
+     * The fraction of successful invocations that are audited, between 0 and 1; failures are always audited.
+     *
+     * @return the sample rate
+     */
+    double sampleRate() default 1.0;
+}
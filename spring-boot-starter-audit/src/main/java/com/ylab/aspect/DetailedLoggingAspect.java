@@ -1,99 +1,131 @@
 package com.ylab.aspect;
 
-import com.ylab.model.AuditModel;
-import com.ylab.repository.AuditDao;
-import com.ylab.repository.impl.AuditDaoImpl;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
-import org.aspectj.lang.annotation.AfterThrowing;
-import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
-import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.stereotype.Component;
+import com.ylab.writer.AuditEvent;
+import com.ylab.writer.AuditWriter;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * DetailedLoggingAspect class
  *
- * This class represents an aspect that provides detailed logging functionality for methods
- * within the com.ylab.app package. It utilizes Aspect-Oriented Programming (AOP) to intercept
- * method execution and log information before, after successful completion, or in case of failure.
+ * This class represents an aspect that provides detailed logging functionality for the methods matched by
+ * the audit pointcut. It intercepts method execution and logs information before, after successful completion,
+ * or in case of failure, as decided by the {@link AuditPolicy} for the method. Arguments and results are only
+ * captured as references; the {@link AuditWriter} takes a cheap snapshot of them and renders it off the
+ * calling thread.
+ * <p>
+ * Audited methods called from another audited method on the same thread are not audited again, so the
+ * number of audit messages follows the business operations rather than the depth of internal calls.
  *
  * @author razlivinsky
  * @since 14.05.2024
  */
-@Aspect
-@Component
-public class DetailedLoggingAspect {
-    private final AuditDao auditDao;
+public class DetailedLoggingAspect implements MethodInterceptor {
+    private static final ThreadLocal<Boolean> IN_AUDITED_CALL = new ThreadLocal<>();
+
+    private final SingletonSupplier<AuditWriter> auditWriter;
+    private final AuditPolicy auditPolicy;
+    private final boolean suppressNested;
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<Method, Optional<String[]>> parameterNames = new ConcurrentHashMap<>();
 
     /**
      * Instantiates a new detailed logging aspect.
      *
-     * @param jdbcTemplate the jdbc template used for database operations
+     * @param auditWriter    the supplier of the writer receiving the audit events, called on first use
+     * @param auditPolicy    the policy deciding how methods are audited
+     * @param suppressNested whether audited calls nested in another audited call are skipped
      */
-    public DetailedLoggingAspect(JdbcTemplate jdbcTemplate) {
-        this.auditDao = new AuditDaoImpl(jdbcTemplate);
+    public DetailedLoggingAspect(Supplier<AuditWriter> auditWriter, AuditPolicy auditPolicy, boolean suppressNested) {
+        this.auditWriter = SingletonSupplier.of(auditWriter);
+        this.auditPolicy = auditPolicy;
+        this.suppressNested = suppressNested;
     }
 
     /**
-     * Intercepts the method execution before it begins to log the input parameters.
+     * Intercepts the method execution and writes the audit messages its audit decision calls for.
      *
-     * @param joinPoint the join point at which this advice is being executed
+     * @param invocation the method invocation being intercepted
+     * @return the result returned by the intercepted method
+     * @throws Throwable the exception thrown by the intercepted method
      */
-    @Before("execution(* com.ylab.app.service..*(..))")
-    public void beforeMethod(JoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String methodName = signature.getName();
-        String[] parameterNames = signature.getParameterNames();
-        Object[] parameterValues = joinPoint.getArgs();
-
-        StringBuilder params = new StringBuilder();
-        for (int i = 0; i < parameterNames.length; i++) {
-            params.append(parameterNames[i]).append(":").append(parameterValues[i]);
-            if (i < parameterNames.length - 1) {
-                params.append(", ");
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() == null
+                ? invocation.getMethod().getDeclaringClass()
+                : AopUtils.getTargetClass(invocation.getThis());
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        AuditPolicy.Decision decision = auditPolicy.decide(method, targetClass);
+        boolean nested = IN_AUDITED_CALL.get() != null;
+        if (!decision.audited() || (suppressNested && nested)) {
+            return invocation.proceed();
+        }
+        boolean sampled = decision.sampleRate() >= 1.0
+                || ThreadLocalRandom.current().nextDouble() < decision.sampleRate();
+        IN_AUDITED_CALL.set(Boolean.TRUE);
+        try {
+            if (sampled && decision.level() == AuditLevel.FULL) {
+                beforeMethod(method, invocation.getArguments());
+            }
+            Object result = invocation.proceed();
+            if (sampled && decision.level() != AuditLevel.FAILURES) {
+                afterReturningMethod(method, decision.level(), result);
+            }
+            return result;
+        } catch (Throwable error) {
+            afterThrowingMethod(method, error);
+            throw error;
+        } finally {
+            if (!nested) {
+                IN_AUDITED_CALL.remove();
             }
         }
-        String begin = ("BEGIN: " + methodName + "(" + params + ")");
-        AuditModel audit = new AuditModel(begin);
-        auditDao.sendMessage(audit);
-        System.out.println(auditDao.getMessage());
     }
 
     /**
-     * Intercepts the method execution after it successfully returns to log the result.
+     * Captures the input parameters before the method execution begins.
+     *
+     * @param method          the method being executed
+     * @param parameterValues the arguments of the invocation
+     */
+    private void beforeMethod(Method method, Object[] parameterValues) {
+        String[] names = parameterNames
+                .computeIfAbsent(method, key -> Optional.ofNullable(parameterNameDiscoverer.getParameterNames(key)))
+                .orElse(null);
+        auditWriter.obtain().submit(AuditEvent.begin(method.getName(), names, parameterValues.clone()));
+    }
+
+    /**
+     * Captures the outcome after the method successfully returns.
      *
-     * @param joinPoint the join point at which this advice is being executed
-     * @param result the result returned by the intercepted method
+     * @param method the method being executed
+     * @param level  the audit level of the method
+     * @param result the result returned by the method
      */
-    @AfterReturning(
-            pointcut = "execution(* com.ylab.app.service..*(..))",
-            returning = "result"
-    )
-    public void afterReturningMethod(JoinPoint joinPoint, Object result) {
-        String methodName = joinPoint.getSignature().getName();
-        String end = ("SUCCESS: " + methodName + ", RESULT: " + result);
-        AuditModel audit = new AuditModel(end);
-        auditDao.sendMessage(audit);
-        System.out.println(auditDao.getMessage());
+    private void afterReturningMethod(Method method, AuditLevel level, Object result) {
+        auditWriter.obtain().submit(level == AuditLevel.FULL
+                ? AuditEvent.success(method.getName(), result)
+                : AuditEvent.summary(method.getName()));
     }
 
     /**
-     * Intercepts the method execution after it throws an exception to log the error message.
+     * Captures the error after the method throws an exception.
      *
-     * @param joinPoint the join point at which this advice is being executed
-     * @param error the exception thrown by the intercepted method
+     * @param method the method being executed
+     * @param error  the exception thrown by the method
      */
-    @AfterThrowing(
-            pointcut = "execution(* com.ylab.app.service..*(..))",
-            throwing = "error"
-    )
-    public void afterThrowingMethod(JoinPoint joinPoint, Throwable error) {
-        String methodName = joinPoint.getSignature().getName();
-        String endException = ("FAILURE: " + methodName + ", ERROR: " + error.getMessage());
-        AuditModel audit = new AuditModel(endException);
-        auditDao.sendMessage(audit);
-        System.out.println(auditDao.getMessage());
+    private void afterThrowingMethod(Method method, Throwable error) {
+        auditWriter.obtain().submit(AuditEvent.failure(method.getName(), error));
     }
-}
\ No newline at end of file
+}
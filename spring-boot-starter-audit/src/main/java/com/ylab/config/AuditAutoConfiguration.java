@@ -0,0 +1,173 @@
+package com.ylab.config;
+
+import com.ylab.aspect.AuditPolicy;
+import com.ylab.aspect.Audited;
+import com.ylab.aspect.DetailedLoggingAspect;
+import com.ylab.maintenance.AuditPartitionMaintainer;
+import com.ylab.metrics.AuditMetrics;
+import com.ylab.props.AuditProperties;
+import com.ylab.render.AuditPayloadRenderer;
+import com.ylab.render.AuditRenderer;
+import com.ylab.repository.impl.AuditDaoImpl;
+import com.ylab.sink.AuditSink;
+import com.ylab.sink.CircuitBreakerAuditSink;
+import com.ylab.sink.JdbcAuditSink;
+import com.ylab.sink.MappedSegmentAuditSink;
+import com.ylab.sink.RingBufferAuditSink;
+import com.ylab.util.WorkerThreads;
+import com.ylab.writer.AuditWriter;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * AuditAutoConfiguration class registers the infrastructure beans of the audit starter.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@AutoConfiguration(after = {JdbcTemplateAutoConfiguration.class, AopAutoConfiguration.class})
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditAutoConfiguration {
+
+    /**
+     * Creates the maintainer of the daily audit partitions.
+     *
+     * @param jdbcTemplate    the jdbc template used for database operations
+     * @param auditProperties the audit properties
+     * @return the audit partition maintainer
+     */
+    @Bean
+    @ConditionalOnBean(JdbcTemplate.class)
+    @ConditionalOnProperty(prefix = "audit.partition", name = "maintenance-enabled", matchIfMissing = true)
+    public AuditPartitionMaintainer auditPartitionMaintainer(JdbcTemplate jdbcTemplate, AuditProperties auditProperties) {
+        return new AuditPartitionMaintainer(jdbcTemplate, auditProperties.getPartition());
+    }
+
+    /**
+     * Creates the audit sink selected with {@code audit.sink.type}.
+     * <p>
+     * Unless disabled with {@code audit.sink.breaker.enabled}, the jdbc sink runs its inserts with a query
+     * timeout behind a {@link CircuitBreakerAuditSink}, so a failing or slow audit table spills messages
+     * to local segments instead of failing or slowing the audited calls.
+     *
+     * @param jdbcTemplate    the jdbc template used by the jdbc sink
+     * @param auditProperties the audit properties
+     * @param environment     the environment deciding whether the replay runs on a virtual thread
+     * @return the audit sink
+     */
+    @Bean
+    @ConditionalOnMissingBean(AuditSink.class)
+    public AuditSink auditSink(ObjectProvider<JdbcTemplate> jdbcTemplate, AuditProperties auditProperties,
+                               Environment environment) {
+        AuditProperties.Sink sink = auditProperties.getSink();
+        return switch (sink.getType()) {
+            case JDBC -> jdbcAuditSink(jdbcTemplate.getObject(), sink.getBreaker(),
+                    WorkerThreads.factory(CircuitBreakerAuditSink.REPLAY_WORKER_NAME, Threading.VIRTUAL.isActive(environment)));
+            case SEGMENT -> new MappedSegmentAuditSink(
+                    Path.of(sink.getSegment().getDirectory()),
+                    Math.toIntExact(sink.getSegment().getSize().toBytes()),
+                    sink.getSegment().getFsync(),
+                    sink.getSegment().getFsyncInterval());
+            case MEMORY -> new RingBufferAuditSink(sink.getMemory().getCapacity());
+        };
+    }
+
+    /**
+     * Creates the writer rendering audit events and passing them to the audit sink.
+     *
+     * @param auditSink       the sink receiving the audit messages
+     * @param renderers       the renderers of specific types defined by the application
+     * @param auditProperties the audit properties
+     * @param environment     the environment deciding whether the writer runs on a virtual thread
+     * @return the audit writer
+     */
+    @Bean
+    public AuditWriter auditWriter(AuditSink auditSink, ObjectProvider<AuditRenderer<?>> renderers,
+                                   AuditProperties auditProperties, Environment environment) {
+        AuditPayloadRenderer renderer = new AuditPayloadRenderer(auditProperties.getRender(),
+                renderers.orderedStream().toList());
+        AuditProperties.Async async = auditProperties.getAsync();
+        return new AuditWriter(auditSink, renderer, async.isEnabled(), async.getQueueCapacity(), async.getShutdownTimeout(),
+                WorkerThreads.factory(AuditWriter.WORKER_NAME, Threading.VIRTUAL.isActive(environment)));
+    }
+
+    /**
+     * Configures the audit metrics when Micrometer is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class AuditMetricsConfiguration {
+
+        /**
+         * Creates the binder of the audit meters, bound to the meter registries of the application.
+         *
+         * @param auditWriter the audit writer
+         * @param auditSink   the audit sink
+         * @return the audit metrics
+         */
+        @Bean
+        public AuditMetrics auditMetrics(AuditWriter auditWriter, AuditSink auditSink) {
+            return new AuditMetrics(auditWriter, auditSink);
+        }
+    }
+
+    /**
+     * Creates the advisor applying the audit aspect to the configured pointcut and to {@link Audited} methods.
+     * <p>
+     * Advisors are created while the bean post processors are registered, so the aspect settings are bound
+     * from the environment and the audit writer, with the data source behind it, is only resolved on first use.
+     *
+     * @param auditWriter the writer receiving the audit events
+     * @param environment the environment holding the aspect settings
+     * @return the audit advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor auditAdvisor(ObjectProvider<AuditWriter> auditWriter, Environment environment) {
+        AuditProperties.Aspect aspect = Binder.get(environment)
+                .bind("audit.aspect", AuditProperties.Aspect.class)
+                .orElseGet(AuditProperties.Aspect::new);
+        String annotation = Audited.class.getName();
+        AspectJExpressionPointcutAdvisor advisor = new AspectJExpressionPointcutAdvisor();
+        advisor.setExpression("(" + aspect.getPointcut() + ") || @annotation(" + annotation + ") || @within(" + annotation + ")");
+        advisor.setAdvice(new DetailedLoggingAspect(auditWriter::getObject, new AuditPolicy(aspect), aspect.isSuppressNested()));
+        return advisor;
+    }
+
+    private static AuditSink jdbcAuditSink(JdbcTemplate jdbcTemplate, AuditProperties.Breaker breaker,
+                                           ThreadFactory replayThreadFactory) {
+        if (!breaker.isEnabled()) {
+            return new JdbcAuditSink(new AuditDaoImpl(jdbcTemplate));
+        }
+        JdbcTemplate timedTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        timedTemplate.setQueryTimeout((int) Math.max(1, breaker.getCallTimeout().toSeconds()));
+        return new CircuitBreakerAuditSink(
+                new JdbcAuditSink(new AuditDaoImpl(timedTemplate)),
+                Path.of(breaker.getSpillDirectory()),
+                Math.toIntExact(breaker.getSpillSegmentSize().toBytes()),
+                breaker.getFailureThreshold(),
+                breaker.getSlowCallThreshold(),
+                breaker.getOpenDuration(),
+                replayThreadFactory);
+    }
+}
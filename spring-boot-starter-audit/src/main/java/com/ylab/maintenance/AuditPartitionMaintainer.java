@@ -0,0 +1,86 @@
+package com.ylab.maintenance;
+
+import com.ylab.props.AuditProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.ylab.util.DataResultAuditQuery.dropAuditPartitions;
+import static com.ylab.util.DataResultAuditQuery.ensureAuditPartitions;
+
+/**
+ * AuditPartitionMaintainer class creates upcoming daily audit partitions and drops expired ones.
+ * <p>
+ * Maintenance starts once the application is ready, so the schema migrations have already run,
+ * and repeats on a dedicated daemon thread; it does not depend on scheduling being enabled in the application.
+ * Expired records are removed by dropping whole partitions rather than deleting rows.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+public class AuditPartitionMaintainer implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditProperties.Partition properties;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "audit-partition-maintainer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Instantiates a new audit partition maintainer.
+     *
+     * @param jdbcTemplate the jdbc template used for database operations
+     * @param properties   the audit partition properties
+     */
+    public AuditPartitionMaintainer(JdbcTemplate jdbcTemplate, AuditProperties.Partition properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Schedules the partition maintenance once the application is ready.
+     *
+     * @param event the application ready event
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long interval = properties.getMaintenanceInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::maintain, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates the partitions of today and the days ahead, then drops the partitions past the retention period.
+     */
+    public void maintain() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        try {
+            Integer created = jdbcTemplate.queryForObject(ensureAuditPartitions(), Integer.class,
+                    Date.valueOf(today), Date.valueOf(today.plusDays(properties.getDaysAhead())));
+            LocalDate cutoff = today.minusDays(properties.getRetention().toDays());
+            Integer dropped = jdbcTemplate.queryForObject(dropAuditPartitions(), Integer.class, Date.valueOf(cutoff));
+            log.info("Audit partitions maintained: created {}, dropped {} older than {}", created, dropped, cutoff);
+        } catch (DataAccessException e) {
+            log.warn("Failed to maintain audit partitions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the maintenance thread.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ylab.metrics;
+
+import com.ylab.sink.AuditSink;
+import com.ylab.sink.CircuitBreakerAuditSink;
+import com.ylab.writer.AuditWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * AuditMetrics class publishes the counters of the audit writer and of the circuit breaker of the audit sink.
+ * <p>
+ * Dropped events are tagged with the reason: {@code queue_full} for events rejected by the writer queue,
+ * {@code write_failed} for events that failed to render or write, and {@code spill_failed} for messages
+ * the circuit breaker could neither write nor spill.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class AuditMetrics implements MeterBinder {
+    private final AuditWriter auditWriter;
+    private final AuditSink auditSink;
+
+    /**
+     * Instantiates new audit metrics.
+     *
+     * @param auditWriter the audit writer
+     * @param auditSink   the audit sink
+     */
+    public AuditMetrics(AuditWriter auditWriter, AuditSink auditSink) {
+        this.auditWriter = auditWriter;
+        this.auditSink = auditSink;
+    }
+
+    /**
+     * Registers the audit meters.
+     *
+     * @param registry the meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("audit.events.dropped", auditWriter, AuditWriter::getDroppedCount)
+                .tag("reason", "queue_full")
+                .register(registry);
+        FunctionCounter.builder("audit.events.dropped", auditWriter, AuditWriter::getFailedCount)
+                .tag("reason", "write_failed")
+                .register(registry);
+        Gauge.builder("audit.queue.size", auditWriter, AuditWriter::getQueueSize)
+                .register(registry);
+        if (auditSink instanceof CircuitBreakerAuditSink breaker) {
+            FunctionCounter.builder("audit.events.dropped", breaker, CircuitBreakerAuditSink::getDroppedCount)
+                    .tag("reason", "spill_failed")
+                    .register(registry);
+            FunctionCounter.builder("audit.events.spilled", breaker, CircuitBreakerAuditSink::getSpilledCount)
+                    .register(registry);
+            FunctionCounter.builder("audit.events.replayed", breaker, CircuitBreakerAuditSink::getReplayedCount)
+                    .register(registry);
+            FunctionCounter.builder("audit.sink.failures", breaker, CircuitBreakerAuditSink::getFailedCount)
+                    .register(registry);
+            Gauge.builder("audit.sink.circuit.open", breaker,
+                            sink -> sink.getState() == CircuitBreakerAuditSink.State.CLOSED ? 0 : 1)
+                    .register(registry);
+            Gauge.builder("audit.spill.segments", breaker, CircuitBreakerAuditSink::getPendingSegments)
+                    .register(registry);
+        }
+    }
+}
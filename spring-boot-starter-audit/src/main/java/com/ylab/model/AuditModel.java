@@ -4,9 +4,11 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 /**
  * AuditModel class represents an audit message model.
- * This class encapsulates information about an audit message, including its ID and content.
+ * This class encapsulates information about an audit message, including its ID, content and creation time.
  *
  * @author razlivinsky
  * @since 14.05.2024
@@ -17,6 +19,7 @@ import lombok.NoArgsConstructor;
 public class AuditModel {
     private Long id;
     private String message;
+    private Instant createdAt;
 
     /**
      * Instantiates a new Audit model with the provided message.
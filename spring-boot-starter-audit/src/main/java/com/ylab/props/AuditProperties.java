@@ -0,0 +1,131 @@
+package com.ylab.props;
+
+import com.ylab.aspect.AuditLevel;
+import com.ylab.sink.FsyncPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AuditProperties class represents the configuration properties of the audit starter.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+    private Partition partition = new Partition();
+    private Sink sink = new Sink();
+    private Aspect aspect = new Aspect();
+    private Render render = new Render();
+    private Async async = new Async();
+
+    /**
+     * Partition class represents the maintenance properties of the daily audit partitions.
+     */
+    @Data
+    public static class Partition {
+        private boolean maintenanceEnabled = true;
+        private int daysAhead = 7;
+        private Duration retention = Duration.ofDays(30);
+        private Duration maintenanceInterval = Duration.ofHours(1);
+    }
+
+    /**
+     * Sink class represents the selection and settings of the audit sink.
+     */
+    @Data
+    public static class Sink {
+        private SinkType type = SinkType.JDBC;
+        private Segment segment = new Segment();
+        private Memory memory = new Memory();
+        private Breaker breaker = new Breaker();
+    }
+
+    /**
+     * SinkType enum lists the bundled audit sinks.
+     */
+    public enum SinkType {
+        JDBC,
+        SEGMENT,
+        MEMORY
+    }
+
+    /**
+     * Segment class represents the settings of the memory-mapped segment sink.
+     */
+    @Data
+    public static class Segment {
+        private String directory = "audit-segments";
+        private DataSize size = DataSize.ofMegabytes(64);
+        private FsyncPolicy fsync = FsyncPolicy.INTERVAL;
+        private Duration fsyncInterval = Duration.ofSeconds(1);
+    }
+
+    /**
+     * Memory class represents the settings of the in-memory ring buffer sink.
+     */
+    @Data
+    public static class Memory {
+        private int capacity = 1024;
+    }
+
+    /**
+     * Breaker class represents the circuit breaker protecting the jdbc sink and the spill of messages while it is open.
+     */
+    @Data
+    public static class Breaker {
+        private boolean enabled = true;
+        private int failureThreshold = 5;
+        private Duration slowCallThreshold = Duration.ofMillis(500);
+        private Duration callTimeout = Duration.ofSeconds(2);
+        private Duration openDuration = Duration.ofSeconds(30);
+        private String spillDirectory = "audit-spill";
+        private DataSize spillSegmentSize = DataSize.ofMegabytes(16);
+    }
+
+    /**
+     * Aspect class represents the selection of the audited methods.
+     * <p>
+     * Patterns match {@code SimpleClassName.methodName} and support {@code *} wildcards; an empty include
+     * list matches every method of the pointcut. The first matching sample rate pattern applies.
+     */
+    @Data
+    public static class Aspect {
+        private String pointcut = "execution(* com.ylab.app.service..*(..))";
+        private List<String> include = new ArrayList<>();
+        private List<String> exclude = new ArrayList<>();
+        private AuditLevel defaultLevel = AuditLevel.FULL;
+        private double defaultSampleRate = 1.0;
+        private Map<String, Double> sampleRates = new LinkedHashMap<>();
+        private boolean suppressNested = true;
+    }
+
+    /**
+     * Render class represents the limits applied when rendering audit payloads.
+     */
+    @Data
+    public static class Render {
+        private int maxLength = 2000;
+        private int maxDepth = 3;
+        private int maxItems = 10;
+        private List<String> redactedFields = new ArrayList<>(List.of("password", "token", "secret"));
+    }
+
+    /**
+     * Async class represents the settings of the background audit writer.
+     */
+    @Data
+    public static class Async {
+        private boolean enabled = true;
+        private int queueCapacity = 8192;
+        private Duration shutdownTimeout = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,327 @@
+package com.ylab.render;
+
+import com.ylab.props.AuditProperties;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AuditPayloadRenderer class renders arguments and results of audited methods into bounded audit text.
+ * <p>
+ * Values of a type with an {@link AuditRenderer} are rendered through their view; collections, maps and arrays
+ * are rendered item by item up to the item limit; other application objects are rendered field by field.
+ * Rendering stops at the depth limit, the output is cut at the length limit, and fields or parameters whose
+ * names contain one of the redacted words are written as {@value #REDACTED}.
+ * <p>
+ * {@link #snapshot(Object)} captures what can be recorded cheaply at the call, so the walk over the value
+ * may happen later on another thread.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class AuditPayloadRenderer {
+    public static final String REDACTED = "***";
+    private static final String TRUNCATED = "...";
+
+    private final AuditProperties.Render properties;
+    private final List<AuditRenderer<?>> renderers;
+    private final List<String> redactedWords;
+    private final Map<Class<?>, Optional<AuditRenderer<?>>> rendererCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Field>> fieldCache = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new audit payload renderer.
+     *
+     * @param properties the rendering limits
+     * @param renderers  the renderers of specific types
+     */
+    public AuditPayloadRenderer(AuditProperties.Render properties, List<AuditRenderer<?>> renderers) {
+        this.properties = properties;
+        this.renderers = List.copyOf(renderers);
+        this.redactedWords = properties.getRedactedFields().stream()
+                .map(word -> word.toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    /**
+     * Creates an output bounded by the maximum message length.
+     *
+     * @return the new output
+     */
+    public Output newOutput() {
+        return new Output(properties.getMaxLength());
+    }
+
+    /**
+     * Captures a value as it is at the call without walking it.
+     * <p>
+     * Scalars are kept as they are, values of a type with an {@link AuditRenderer} are replaced by their view,
+     * collections, maps and arrays are replaced by their type and size, and other objects are kept by
+     * reference and rendered field by field when the snapshot is rendered.
+     *
+     * @param value the value
+     * @return the snapshot of the value
+     */
+    public Object snapshot(Object value) {
+        if (value == null || isScalar(value)) {
+            return value;
+        }
+        Optional<AuditRenderer<?>> renderer = rendererCache.computeIfAbsent(value.getClass(), this::findRenderer);
+        if (renderer.isPresent()) {
+            return applyRenderer(renderer.get(), value);
+        }
+        if (value instanceof Collection<?> collection) {
+            return new Sized(value.getClass().getSimpleName(), collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return new Sized(value.getClass().getSimpleName(), map.size());
+        }
+        if (value.getClass().isArray()) {
+            return new Sized(value.getClass().getComponentType().getSimpleName() + "[]", Array.getLength(value));
+        }
+        return value;
+    }
+
+    /**
+     * Renders a named value, redacting it if the name is sensitive.
+     *
+     * @param out   the output
+     * @param name  the name of the field or parameter
+     * @param value the value
+     */
+    public void renderNamed(Output out, String name, Object value) {
+        out.append(name).append(":");
+        if (isRedacted(name)) {
+            out.append(REDACTED);
+        } else {
+            render(out, value, 0);
+        }
+    }
+
+    /**
+     * Renders a value.
+     *
+     * @param out   the output
+     * @param value the value
+     */
+    public void render(Output out, Object value) {
+        render(out, value, 0);
+    }
+
+    private void render(Output out, Object value, int depth) {
+        if (out.isFull()) {
+            return;
+        }
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        if (value instanceof Sized sized) {
+            out.append(sized.type()).append("(size=").append(String.valueOf(sized.size())).append(")");
+            return;
+        }
+        Optional<AuditRenderer<?>> renderer = rendererCache.computeIfAbsent(value.getClass(), this::findRenderer);
+        if (renderer.isPresent()) {
+            render(out, applyRenderer(renderer.get(), value), depth);
+            return;
+        }
+        if (isScalar(value)) {
+            out.append(String.valueOf(value));
+        } else if (depth >= properties.getMaxDepth()) {
+            out.append(value.getClass().getSimpleName()).append("(").append(TRUNCATED).append(")");
+        } else if (value instanceof Collection<?> collection) {
+            renderItems(out, collection.iterator(), collection.size(), depth);
+        } else if (value.getClass().isArray()) {
+            List<Object> items = new ArrayList<>();
+            int length = Array.getLength(value);
+            for (int i = 0; i < Math.min(length, properties.getMaxItems()); i++) {
+                items.add(Array.get(value, i));
+            }
+            renderItems(out, items.iterator(), length, depth);
+        } else if (value instanceof Map<?, ?> map) {
+            renderMap(out, map, depth);
+        } else {
+            renderFields(out, value, depth);
+        }
+    }
+
+    private void renderItems(Output out, Iterator<?> items, int size, int depth) {
+        out.append("[");
+        int rendered = 0;
+        while (items.hasNext() && rendered < properties.getMaxItems() && !out.isFull()) {
+            if (rendered > 0) {
+                out.append(", ");
+            }
+            render(out, items.next(), depth + 1);
+            rendered++;
+        }
+        if (size > rendered) {
+            out.append(rendered > 0 ? ", " : "").append(TRUNCATED).append("(+").append(String.valueOf(size - rendered)).append(")");
+        }
+        out.append("]");
+    }
+
+    private void renderMap(Output out, Map<?, ?> map, int depth) {
+        out.append("{");
+        int rendered = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (rendered == properties.getMaxItems() || out.isFull()) {
+                out.append(", ").append(TRUNCATED).append("(+").append(String.valueOf(map.size() - rendered)).append(")");
+                break;
+            }
+            if (rendered > 0) {
+                out.append(", ");
+            }
+            String key = String.valueOf(entry.getKey());
+            out.append(key).append("=");
+            if (isRedacted(key)) {
+                out.append(REDACTED);
+            } else {
+                render(out, entry.getValue(), depth + 1);
+            }
+            rendered++;
+        }
+        out.append("}");
+    }
+
+    private void renderFields(Output out, Object value, int depth) {
+        List<Field> fields = fieldCache.computeIfAbsent(value.getClass(), AuditPayloadRenderer::readableFields);
+        if (fields.isEmpty()) {
+            out.append(String.valueOf(value));
+            return;
+        }
+        out.append(value.getClass().getSimpleName()).append("(");
+        for (int i = 0; i < fields.size() && !out.isFull(); i++) {
+            Field field = fields.get(i);
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(field.getName()).append("=");
+            if (isRedacted(field.getName())) {
+                out.append(REDACTED);
+            } else {
+                render(out, readField(field, value), depth + 1);
+            }
+        }
+        out.append(")");
+    }
+
+    private boolean isRedacted(String name) {
+        String lowerCase = name.toLowerCase(Locale.ROOT);
+        for (String word : redactedWords) {
+            if (lowerCase.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Optional<AuditRenderer<?>> findRenderer(Class<?> type) {
+        return renderers.stream()
+                .filter(renderer -> renderer.getType().isAssignableFrom(type))
+                .findFirst();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object applyRenderer(AuditRenderer<?> renderer, Object value) {
+        return ((AuditRenderer<Object>) renderer).render(value);
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum<?> || value instanceof Temporal
+                || value instanceof Class<?> || value instanceof Throwable;
+    }
+
+    private static List<Field> readableFields(Class<?> type) {
+        String name = type.getName();
+        if (name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.")
+                || name.startsWith("org.springframework.")) {
+            return List.of();
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    fields.add(field);
+                } catch (InaccessibleObjectException | SecurityException e) {
+                    return List.of();
+                }
+            }
+        }
+        return List.copyOf(fields);
+    }
+
+    private static Object readField(Field field, Object value) {
+        try {
+            return field.get(value);
+        } catch (IllegalAccessException e) {
+            return "?";
+        }
+    }
+
+    private record Sized(String type, int size) {
+    }
+
+    /**
+     * Output class accumulates rendered text up to a maximum length, marking the cut with an ellipsis.
+     */
+    public static class Output {
+        private final StringBuilder builder = new StringBuilder();
+        private final int maxLength;
+        private boolean truncated;
+
+        private Output(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Appends text, cutting it at the maximum length.
+         *
+         * @param text the text to append
+         * @return this output
+         */
+        public Output append(String text) {
+            if (truncated) {
+                return this;
+            }
+            int available = maxLength - TRUNCATED.length() - builder.length();
+            if (text.length() > available) {
+                builder.append(text, 0, Math.max(available, 0)).append(TRUNCATED);
+                truncated = true;
+            } else {
+                builder.append(text);
+            }
+            return this;
+        }
+
+        /**
+         * Checks whether the maximum length has been reached.
+         *
+         * @return true if further text is discarded
+         */
+        public boolean isFull() {
+            return truncated;
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ylab.render;
+
+/**
+ * The AuditRenderer interface converts values of one type into the compact view written to the audit log.
+ * <p>
+ * Renderers are picked up as beans and applied to the value and its subclasses. The returned view is
+ * rendered with the same length, depth and redaction limits as any other value, so it may be a
+ * {@link java.util.Map} of the relevant properties, an identifier or a string.
+ *
+ * @param <T> the type of the rendered values
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public interface AuditRenderer<T> {
+
+    /**
+     * Retrieves the type of the values this renderer applies to.
+     *
+     * @return the rendered type
+     */
+    Class<T> getType();
+
+    /**
+     * Converts the value into its audit view.
+     *
+     * @param value the value, never null
+     * @return the audit view of the value
+     */
+    Object render(T value);
+}
@@ -2,6 +2,7 @@ package com.ylab.repository;
 
 import com.ylab.model.AuditModel;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -25,4 +26,13 @@ public interface AuditDao {
      * @return a list of all audit model messages
      */
     public List<AuditModel> getMessage();
+
+    /**
+     * Retrieves the audit messages created within the given time range, ordered by creation time.
+     *
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range
+     * @return a list of audit model messages created in the range
+     */
+    public List<AuditModel> getMessagesInPeriod(Instant from, Instant to);
 }
@@ -12,10 +12,13 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
 import static com.ylab.util.DataResultAuditQuery.getSelectAuditMessage;
+import static com.ylab.util.DataResultAuditQuery.getSelectAuditMessageByPeriod;
 import static com.ylab.util.DataResultAuditQuery.insertAuditMessage;
 
 /**
@@ -51,7 +54,8 @@ public class AuditDaoImpl implements AuditDao {
             KeyHolder keyHolder = new GeneratedKeyHolder();
             jdbcTemplate.update(connection -> {
                 PreparedStatement ps = connection.prepareStatement(insertAuditMessage(), new String[] {"id"});
-                ps.setString(1, audit.getMessage());
+                ps.setTimestamp(1, audit.getCreatedAt() == null ? null : Timestamp.from(audit.getCreatedAt()));
+                ps.setString(2, audit.getMessage());
                 return ps;
             }, keyHolder);
             audit.setId(Objects.requireNonNull(keyHolder.getKey()).longValue());
@@ -75,9 +79,30 @@ public class AuditDaoImpl implements AuditDao {
         }
     }
 
+    /**
+     * Retrieves the audit messages created within the given time range.
+     * Only the daily partitions overlapping the range are scanned.
+     *
+     * @param from the inclusive start of the range
+     * @param to   the exclusive end of the range
+     * @return a list of audit messages created in the range, ordered by creation time
+     * @throws AuditReadException if the retrieval of audit messages fails
+     */
+    @Override
+    public List<AuditModel> getMessagesInPeriod(Instant from, Instant to) {
+        try {
+            return jdbcTemplate.query(getSelectAuditMessageByPeriod(), auditRowMapper,
+                    Timestamp.from(from), Timestamp.from(to));
+        } catch (DataAccessException e) {
+            throw new AuditReadException("Failed to retrieve audit messages by period " + e.getMessage());
+        }
+    }
+
     private final RowMapper<AuditModel> auditRowMapper = (rs, rowNum) -> {
         AuditModel audit = new AuditModel(rs.getString("message"));
         audit.setId(rs.getLong("id"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        audit.setCreatedAt(createdAt == null ? null : createdAt.toInstant());
         return audit;
     };
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.ylab.sink;
+
+import com.ylab.model.AuditModel;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.zip.CRC32;
+
+/**
+ * AuditSegmentFormat class defines the binary layout of the audit segment files.
+ * <p>
+ * A segment is a preallocated file of consecutive records followed by zero bytes. Each record is
+ * <pre>
+ * int  size        number of bytes following the checksum (8 + message length), never zero
+ * int  checksum    CRC32 of the following size bytes
+ * long createdAt   creation time in epoch milliseconds
+ * byte[] message   UTF-8 encoded message
+ * </pre>
+ * All values are big-endian. A zero size or a checksum mismatch marks the end of the written records.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public final class AuditSegmentFormat {
+    public static final int HEADER_SIZE = Integer.BYTES * 2;
+    public static final String FILE_PREFIX = "audit-";
+    public static final String FILE_SUFFIX = ".seg";
+
+    private AuditSegmentFormat() {
+    }
+
+    /**
+     * Calculates the number of bytes a record with the given message occupies in a segment.
+     *
+     * @param message the encoded message
+     * @return the record length in bytes
+     */
+    public static int recordLength(byte[] message) {
+        return HEADER_SIZE + Long.BYTES + message.length;
+    }
+
+    /**
+     * Encodes the message of an audit record.
+     *
+     * @param audit the audit message
+     * @return the UTF-8 encoded message
+     */
+    public static byte[] encodeMessage(AuditModel audit) {
+        return audit.getMessage() == null ? new byte[0] : audit.getMessage().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a record at the current position of the buffer.
+     *
+     * @param buffer    the segment buffer with enough remaining space
+     * @param createdAt the creation time of the record
+     * @param message   the encoded message
+     */
+    public static void write(ByteBuffer buffer, Instant createdAt, byte[] message) {
+        int start = buffer.position();
+        buffer.position(start + HEADER_SIZE);
+        buffer.putLong(createdAt.toEpochMilli());
+        buffer.put(message);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(start + HEADER_SIZE).limit(buffer.position()));
+        buffer.putInt(start, Long.BYTES + message.length);
+        buffer.putInt(start + Integer.BYTES, (int) crc.getValue());
+    }
+
+    /**
+     * Reads the record at the current position of the buffer and advances past it.
+     *
+     * @param buffer the segment buffer
+     * @return the audit message, or null if no valid record starts at the position
+     */
+    public static AuditModel read(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE + Long.BYTES) {
+            return null;
+        }
+        int size = buffer.getInt(start);
+        if (size < Long.BYTES || size > buffer.remaining() - HEADER_SIZE) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(start + HEADER_SIZE).limit(start + HEADER_SIZE + size));
+        if ((int) crc.getValue() != buffer.getInt(start + Integer.BYTES)) {
+            return null;
+        }
+        long createdAt = buffer.getLong(start + HEADER_SIZE);
+        byte[] message = new byte[size - Long.BYTES];
+        buffer.get(start + HEADER_SIZE + Long.BYTES, message);
+        buffer.position(start + HEADER_SIZE + size);
+        AuditModel audit = new AuditModel(new String(message, StandardCharsets.UTF_8));
+        audit.setCreatedAt(Instant.ofEpochMilli(createdAt));
+        return audit;
+    }
+
+    /**
+     * Builds the file name of a segment.
+     *
+     * @param sequence the sequence number of the segment
+     * @return the segment file name
+     */
+    public static String fileName(long sequence) {
+        return String.format("%s%020d%s", FILE_PREFIX, sequence, FILE_SUFFIX);
+    }
+
+    /**
+     * Extracts the sequence number from a segment file name.
+     *
+     * @param file the segment file
+     * @return the sequence number, or -1 if the file is not a segment
+     */
+    public static long sequence(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(FILE_PREFIX) || !name.endsWith(FILE_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ylab.sink;
+
+import com.ylab.exception.AuditReadException;
+import com.ylab.model.AuditModel;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * AuditSegmentReader class reads the audit records written by {@link MappedSegmentAuditSink}.
+ * <p>
+ * It can also be run from the command line to print the records of a segment directory or file:
+ * {@code java -cp spring-boot-starter-audit.jar com.ylab.sink.AuditSegmentReader <path>}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class AuditSegmentReader {
+
+    /**
+     * Lists the segment files of a directory in write order.
+     *
+     * @param directory the segment directory
+     * @return the segment files ordered by sequence number
+     * @throws AuditReadException if the directory cannot be listed
+     */
+    public static List<Path> listSegments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> AuditSegmentFormat.sequence(file) >= 0)
+                    .sorted(Comparator.comparingLong(AuditSegmentFormat::sequence))
+                    .toList();
+        } catch (IOException e) {
+            throw new AuditReadException("Failed to list audit segments in " + directory, e);
+        }
+    }
+
+    /**
+     * Reads the records of a segment file, or of all segments of a directory, passing each to the consumer.
+     *
+     * @param path     the segment file or directory
+     * @param consumer the consumer of the records
+     * @throws AuditReadException if a segment cannot be read
+     */
+    public static void read(Path path, Consumer<AuditModel> consumer) {
+        List<Path> segments = Files.isDirectory(path) ? listSegments(path) : List.of(path);
+        for (Path segment : segments) {
+            readSegment(segment, consumer);
+        }
+    }
+
+    /**
+     * Reads all records of a segment file or directory.
+     *
+     * @param path the segment file or directory
+     * @return a list of the audit messages in write order
+     * @throws AuditReadException if a segment cannot be read
+     */
+    public static List<AuditModel> readAll(Path path) {
+        List<AuditModel> messages = new ArrayList<>();
+        read(path, messages::add);
+        return messages;
+    }
+
+    private static void readSegment(Path segment, Consumer<AuditModel> consumer) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            AuditModel audit;
+            while ((audit = AuditSegmentFormat.read(buffer)) != null) {
+                consumer.accept(audit);
+            }
+        } catch (IOException e) {
+            throw new AuditReadException("Failed to read audit segment " + segment, e);
+        }
+    }
+
+    /**
+     * Prints the records of the given segment file or directory.
+     *
+     * @param args the segment file or directory
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: AuditSegmentReader <segment file or directory>");
+            System.exit(1);
+        }
+        read(Path.of(args[0]), audit -> System.out.println(audit.getCreatedAt() + " " + audit.getMessage()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.ylab.sink;
+
+import com.ylab.model.AuditModel;
+
+/**
+ * The AuditSink interface is the extension point receiving the audit messages produced by the starter.
+ * <p>
+ * The implementation is selected with {@code audit.sink.type}; an application may also define its own
+ * AuditSink bean to replace the configured one.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public interface AuditSink {
+
+    /**
+     * Writes an audit message.
+     *
+     * @param audit the audit message to be written
+     */
+    void write(AuditModel audit);
+
+    /**
+     * Flushes the messages written so far to durable storage, if the sink buffers them.
+     */
+    default void flush() {
+    }
+}
@@ -0,0 +1,365 @@
+package com.ylab.sink;
+
+import com.ylab.exception.AuditReadException;
+import com.ylab.model.AuditModel;
+import com.ylab.util.WorkerThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CircuitBreakerAuditSink class protects callers from a failing or slow audit sink.
+ * <p>
+ * Writes go to the delegate while the circuit is closed. A failed write, or one slower than the slow call
+ * threshold, counts as a failure; after the configured number of consecutive failures the circuit opens and
+ * messages are spilled to local segment files instead of waiting for the delegate. Once the open duration has
+ * passed, a single write probes the delegate: success closes the circuit, failure opens it again.
+ * <p>
+ * When the circuit closes, the spilled segments are replayed to the delegate on a background thread in write
+ * order and deleted once replayed, keeping the original creation times. Replay stops when the circuit opens
+ * again and continues after the last replayed record on the next recovery. Segments left over from a previous
+ * run are replayed after the first successful write. Delivery is at least once: a record replayed just before
+ * a restart may be replayed again. A message that can be neither written nor spilled, or that keeps failing
+ * on replay while other writes succeed, is dropped and counted.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+public class CircuitBreakerAuditSink implements AuditSink, DisposableBean {
+    public static final String REPLAY_WORKER_NAME = "audit-replay";
+    private final AuditSink delegate;
+    private final Path spillDirectory;
+    private final int spillSegmentSize;
+    private final int failureThreshold;
+    private final long slowCallThresholdNanos;
+    private final long openDurationNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ExecutorService replayExecutor;
+    private final Map<Path, Integer> replayedInSegment = new HashMap<>();
+    private final AtomicBoolean replayPending;
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private MappedSegmentAuditSink spill;
+    private int replayAttempts;
+
+    /**
+     * State enum lists the states of the circuit.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Instantiates a new circuit breaker audit sink.
+     *
+     * @param delegate          the sink protected by the circuit
+     * @param spillDirectory    the directory of the segments holding messages while the circuit is open
+     * @param spillSegmentSize  the size of a spill segment file in bytes
+     * @param failureThreshold  the number of consecutive failures opening the circuit
+     * @param slowCallThreshold the duration after which a successful write counts as a failure
+     * @param openDuration      the time the circuit stays open before a write probes the delegate
+     */
+    public CircuitBreakerAuditSink(AuditSink delegate, Path spillDirectory, int spillSegmentSize,
+                                   int failureThreshold, Duration slowCallThreshold, Duration openDuration) {
+        this(delegate, spillDirectory, spillSegmentSize, failureThreshold, slowCallThreshold, openDuration,
+                WorkerThreads.factory(REPLAY_WORKER_NAME, false));
+    }
+
+    /**
+     * Instantiates a new circuit breaker audit sink replaying spilled messages on a thread from the given factory.
+     *
+     * @param delegate          the sink protected by the circuit
+     * @param spillDirectory    the directory of the segments holding messages while the circuit is open
+     * @param spillSegmentSize  the size of a spill segment file in bytes
+     * @param failureThreshold  the number of consecutive failures opening the circuit
+     * @param slowCallThreshold the duration after which a successful write counts as a failure
+     * @param openDuration      the time the circuit stays open before a write probes the delegate
+     * @param threadFactory     the factory of the replay thread
+     */
+    public CircuitBreakerAuditSink(AuditSink delegate, Path spillDirectory, int spillSegmentSize,
+                                   int failureThreshold, Duration slowCallThreshold, Duration openDuration,
+                                   ThreadFactory threadFactory) {
+        this.delegate = delegate;
+        this.spillDirectory = spillDirectory;
+        this.spillSegmentSize = spillSegmentSize;
+        this.failureThreshold = failureThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.openDurationNanos = openDuration.toNanos();
+        this.replayExecutor = Executors.newSingleThreadExecutor(threadFactory);
+        this.replayPending = new AtomicBoolean(!AuditSegmentReader.listSegments(spillDirectory).isEmpty());
+    }
+
+    /**
+     * Writes the audit message to the delegate, or spills it while the circuit is open.
+     * This method does not throw; failures are counted and the message is spilled.
+     *
+     * @param audit the audit message to be written
+     */
+    @Override
+    public void write(AuditModel audit) {
+        if (!tryAcquirePermission()) {
+            spill(audit);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            delegate.write(audit);
+        } catch (RuntimeException e) {
+            onFailure("write failed: " + e.getMessage());
+            spill(audit);
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (elapsed > slowCallThresholdNanos) {
+            onFailure("write took " + Duration.ofNanos(elapsed).toMillis() + " ms");
+        } else {
+            onSuccess();
+        }
+    }
+
+    /**
+     * Flushes the delegate and the open spill segment.
+     */
+    @Override
+    public void flush() {
+        try {
+            delegate.flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush audit sink: {}", e.getMessage());
+        }
+        lock.lock();
+        try {
+            if (spill != null) {
+                spill.flush();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the current state of the circuit.
+     *
+     * @return the circuit state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Retrieves the number of writes to the delegate that failed or were too slow.
+     *
+     * @return the number of failed writes
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Retrieves the number of messages written to the spill segments.
+     *
+     * @return the number of spilled messages
+     */
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    /**
+     * Retrieves the number of spilled messages replayed to the delegate.
+     *
+     * @return the number of replayed messages
+     */
+    public long getReplayedCount() {
+        return replayed.get();
+    }
+
+    /**
+     * Retrieves the number of messages that could neither be written nor spilled, or kept failing on replay.
+     *
+     * @return the number of dropped messages
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Retrieves the number of spill segments waiting to be replayed.
+     *
+     * @return the number of pending spill segments
+     */
+    public int getPendingSegments() {
+        return AuditSegmentReader.listSegments(spillDirectory).size();
+    }
+
+    /**
+     * Stops the replay and forces the open spill segment.
+     */
+    @Override
+    public void destroy() {
+        replayExecutor.shutdownNow();
+        lock.lock();
+        try {
+            if (spill != null) {
+                spill.destroy();
+                spill = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+                state = State.HALF_OPEN;
+                return true;
+            }
+            return state == State.CLOSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess() {
+        if (state == State.CLOSED && consecutiveFailures == 0) {
+            scheduleReplay();
+            return;
+        }
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            if (state == State.HALF_OPEN) {
+                state = State.CLOSED;
+                replayPending.set(true);
+                log.info("Audit sink recovered, circuit closed");
+            }
+        } finally {
+            lock.unlock();
+        }
+        scheduleReplay();
+    }
+
+    private void onFailure(String reason) {
+        failed.incrementAndGet();
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+                log.warn("Audit sink circuit opened after {} consecutive failures, last {}; spilling to {}",
+                        consecutiveFailures, reason, spillDirectory);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void spill(AuditModel audit) {
+        lock.lock();
+        try {
+            if (spill == null) {
+                spill = new MappedSegmentAuditSink(spillDirectory, spillSegmentSize, FsyncPolicy.INTERVAL,
+                        Duration.ofSeconds(1), false);
+            }
+            spill.write(audit);
+            spilled.incrementAndGet();
+        } catch (RuntimeException e) {
+            dropped.incrementAndGet();
+            log.warn("Failed to spill audit message: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleReplay() {
+        if (replayPending.compareAndSet(true, false)) {
+            replayExecutor.execute(this::replay);
+        }
+    }
+
+    private void replay() {
+        List<Path> segments;
+        lock.lock();
+        try {
+            if (spill != null) {
+                spill.destroy();
+                spill = null;
+            }
+            segments = AuditSegmentReader.listSegments(spillDirectory);
+        } finally {
+            lock.unlock();
+        }
+        for (Path segment : segments) {
+            if (!replaySegment(segment)) {
+                return;
+            }
+        }
+    }
+
+    private boolean replaySegment(Path segment) {
+        List<AuditModel> records;
+        try {
+            records = AuditSegmentReader.readAll(segment);
+        } catch (AuditReadException e) {
+            log.warn("Failed to read audit spill segment {}: {}", segment, e.getMessage());
+            return false;
+        }
+        int position = replayedInSegment.getOrDefault(segment, 0);
+        while (position < records.size()) {
+            if (state != State.CLOSED) {
+                replayedInSegment.put(segment, position);
+                return false;
+            }
+            try {
+                delegate.write(records.get(position));
+                replayed.incrementAndGet();
+            } catch (RuntimeException e) {
+                onFailure("replay failed: " + e.getMessage());
+                if (++replayAttempts < failureThreshold) {
+                    replayedInSegment.put(segment, position);
+                    replayPending.set(true);
+                    return false;
+                }
+                dropped.incrementAndGet();
+                log.warn("Dropped audit message from {} after {} failed replays", segment.getFileName(), replayAttempts);
+            }
+            replayAttempts = 0;
+            position++;
+        }
+        replayedInSegment.remove(segment);
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            log.warn("Failed to delete replayed audit spill segment {}: {}", segment, e.getMessage());
+            return false;
+        }
+        log.info("Replayed {} audit messages from {}", records.size(), segment.getFileName());
+        return true;
+    }
+}
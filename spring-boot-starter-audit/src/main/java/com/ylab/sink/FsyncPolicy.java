@@ -0,0 +1,22 @@
+package com.ylab.sink;
+
+/**
+ * FsyncPolicy enum defines when the segment audit sink forces written records to the storage device.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public enum FsyncPolicy {
+    /**
+     * Records are forced only when a segment is rolled or the sink is closed.
+     */
+    NEVER,
+    /**
+     * Records are forced periodically by a background thread.
+     */
+    INTERVAL,
+    /**
+     * Every record is forced before the write returns.
+     */
+    EVERY_WRITE
+}
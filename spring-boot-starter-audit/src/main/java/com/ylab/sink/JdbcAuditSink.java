@@ -0,0 +1,34 @@
+package com.ylab.sink;
+
+import com.ylab.model.AuditModel;
+import com.ylab.repository.AuditDao;
+
+/**
+ * JdbcAuditSink class writes audit messages to the audit table through {@link AuditDao}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class JdbcAuditSink implements AuditSink {
+    private final AuditDao auditDao;
+
+    /**
+     * Instantiates a new jdbc audit sink.
+     *
+     * @param auditDao the audit dao writing to the database
+     */
+    public JdbcAuditSink(AuditDao auditDao) {
+        this.auditDao = auditDao;
+    }
+
+    /**
+     * Inserts the audit message into the audit table.
+     *
+     * @param audit the audit message to be written
+     * @throws com.ylab.exception.AuditWriteException if the message sending fails
+     */
+    @Override
+    public void write(AuditModel audit) {
+        auditDao.sendMessage(audit);
+    }
+}
@@ -0,0 +1,187 @@
+package com.ylab.sink;
+
+import com.ylab.exception.AuditWriteException;
+import com.ylab.model.AuditModel;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * MappedSegmentAuditSink class appends audit messages to rolling memory-mapped segment files.
+ * <p>
+ * Each segment is preallocated to a fixed size and mapped once, so a write is a copy into the page cache
+ * without a system call. When a record does not fit, the segment is forced and the next one is started.
+ * On startup the sink continues after the last valid record of the newest segment, unless it is asked
+ * to start a new one. The records are laid out as described in {@link AuditSegmentFormat} and can be
+ * read with {@link AuditSegmentReader}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class MappedSegmentAuditSink implements AuditSink, DisposableBean {
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService fsyncExecutor;
+    private long sequence;
+    private MappedByteBuffer segment;
+    private volatile boolean dirty;
+
+    /**
+     * Instantiates a new mapped segment audit sink.
+     *
+     * @param directory     the directory holding the segment files
+     * @param segmentSize   the size of a segment file in bytes
+     * @param fsyncPolicy   the policy of forcing records to the storage device
+     * @param fsyncInterval the interval of forcing records with {@link FsyncPolicy#INTERVAL}
+     * @throws AuditWriteException if the segment directory cannot be opened
+     */
+    public MappedSegmentAuditSink(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        this(directory, segmentSize, fsyncPolicy, fsyncInterval, true);
+    }
+
+    /**
+     * Instantiates a new mapped segment audit sink that either continues the newest segment or starts a new one.
+     *
+     * @param directory     the directory holding the segment files
+     * @param segmentSize   the size of a segment file in bytes
+     * @param fsyncPolicy   the policy of forcing records to the storage device
+     * @param fsyncInterval the interval of forcing records with {@link FsyncPolicy#INTERVAL}
+     * @param resume        whether to continue after the last record of the newest segment instead of starting a new segment
+     * @throws AuditWriteException if the segment directory cannot be opened
+     */
+    public MappedSegmentAuditSink(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval,
+                                  boolean resume) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = AuditSegmentReader.listSegments(directory);
+            if (segments.isEmpty()) {
+                openSegment(0);
+            } else if (resume) {
+                resumeSegment(segments.get(segments.size() - 1));
+            } else {
+                openSegment(AuditSegmentFormat.sequence(segments.get(segments.size() - 1)) + 1);
+            }
+        } catch (IOException e) {
+            throw new AuditWriteException("Failed to open audit segments in " + directory, e);
+        }
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            fsyncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "audit-segment-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = fsyncInterval.toMillis();
+            fsyncExecutor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            fsyncExecutor = null;
+        }
+    }
+
+    /**
+     * Appends the audit message to the current segment, rolling to a new segment when it is full.
+     *
+     * @param audit the audit message to be written
+     * @throws AuditWriteException if the record exceeds the segment size or a new segment cannot be created
+     */
+    @Override
+    public void write(AuditModel audit) {
+        if (audit.getCreatedAt() == null) {
+            audit.setCreatedAt(Instant.now());
+        }
+        byte[] message = AuditSegmentFormat.encodeMessage(audit);
+        int length = AuditSegmentFormat.recordLength(message);
+        if (length > segmentSize) {
+            throw new AuditWriteException("Audit record of " + length + " bytes exceeds the segment size " + segmentSize);
+        }
+        lock.lock();
+        try {
+            if (segment.remaining() < length) {
+                segment.force();
+                openSegment(sequence + 1);
+            }
+            AuditSegmentFormat.write(segment, audit.getCreatedAt(), message);
+            if (fsyncPolicy == FsyncPolicy.EVERY_WRITE) {
+                segment.force(segment.position() - length, length);
+            } else {
+                dirty = true;
+            }
+        } catch (IOException e) {
+            throw new AuditWriteException("Failed to roll audit segment in " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces the records written since the last flush to the storage device.
+     */
+    @Override
+    public void flush() {
+        if (!dirty) {
+            return;
+        }
+        MappedByteBuffer current;
+        lock.lock();
+        try {
+            current = segment;
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+        current.force();
+    }
+
+    /**
+     * Forces the pending records and stops the background fsync.
+     */
+    @Override
+    public void destroy() {
+        if (fsyncExecutor != null) {
+            fsyncExecutor.shutdownNow();
+        }
+        lock.lock();
+        try {
+            segment.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void openSegment(long nextSequence) throws IOException {
+        segment = map(directory.resolve(AuditSegmentFormat.fileName(nextSequence)), segmentSize);
+        sequence = nextSequence;
+    }
+
+    private void resumeSegment(Path file) throws IOException {
+        MappedByteBuffer buffer = map(file, Math.max(Files.size(file), segmentSize));
+        while (AuditSegmentFormat.read(buffer) != null) {
+            // skip the records written before the restart
+        }
+        segment = buffer;
+        sequence = AuditSegmentFormat.sequence(file);
+    }
+
+    private MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+}
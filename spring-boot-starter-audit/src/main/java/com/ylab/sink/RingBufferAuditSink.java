@@ -0,0 +1,101 @@
+package com.ylab.sink;
+
+import com.ylab.model.AuditModel;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RingBufferAuditSink class keeps the most recent audit messages in memory, overwriting the oldest ones.
+ * <p>
+ * Intended for tests and local runs where audit messages only need to be inspected, not persisted.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class RingBufferAuditSink implements AuditSink {
+    private final AuditModel[] buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long written;
+
+    /**
+     * Instantiates a new ring buffer audit sink.
+     *
+     * @param capacity the maximum number of retained messages
+     */
+    public RingBufferAuditSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive: " + capacity);
+        }
+        this.buffer = new AuditModel[capacity];
+    }
+
+    /**
+     * Stores the audit message, replacing the oldest one when the buffer is full.
+     *
+     * @param audit the audit message to be written
+     */
+    @Override
+    public void write(AuditModel audit) {
+        lock.lock();
+        try {
+            audit.setId(written + 1);
+            if (audit.getCreatedAt() == null) {
+                audit.setCreatedAt(Instant.now());
+            }
+            buffer[(int) (written % buffer.length)] = audit;
+            written++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the retained messages from the oldest to the newest.
+     *
+     * @return a list of the retained audit messages
+     */
+    public List<AuditModel> snapshot() {
+        lock.lock();
+        try {
+            int size = (int) Math.min(written, buffer.length);
+            List<AuditModel> messages = new ArrayList<>(size);
+            for (long i = written - size; i < written; i++) {
+                messages.add(buffer[(int) (i % buffer.length)]);
+            }
+            return messages;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the total number of messages written, including overwritten ones.
+     *
+     * @return the number of written messages
+     */
+    public long getWrittenCount() {
+        lock.lock();
+        try {
+            return written;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all retained messages.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            Arrays.fill(buffer, null);
+            written = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
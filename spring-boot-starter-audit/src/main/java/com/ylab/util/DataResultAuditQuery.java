@@ -12,6 +12,9 @@ import static com.ylab.util.DataReaderAudit.readAuditQuery;
 public class DataResultAuditQuery {
     private static final String INSERT_AUDIT_MESSAGE = "insert.audit";
     private static final String SELECT_AUDIT_MESSAGE = "select.audit";
+    private static final String SELECT_AUDIT_MESSAGE_BY_PERIOD = "select.audit_by_period";
+    private static final String ENSURE_AUDIT_PARTITIONS = "function.ensure_audit_partitions";
+    private static final String DROP_AUDIT_PARTITIONS = "function.drop_audit_partitions";
 
     /**
      * Retrieves the SQL query for inserting an audit message.
@@ -30,4 +33,31 @@ public class DataResultAuditQuery {
     public static String getSelectAuditMessage() {
         return readAuditQuery(SELECT_AUDIT_MESSAGE);
     }
+
+    /**
+     * Retrieves the SQL query for selecting audit messages created within a time range.
+     *
+     * @return The SQL query for selecting audit messages by period.
+     */
+    public static String getSelectAuditMessageByPeriod() {
+        return readAuditQuery(SELECT_AUDIT_MESSAGE_BY_PERIOD);
+    }
+
+    /**
+     * Retrieves the SQL query creating the missing daily audit partitions between two days.
+     *
+     * @return The SQL query for ensuring audit partitions.
+     */
+    public static String ensureAuditPartitions() {
+        return readAuditQuery(ENSURE_AUDIT_PARTITIONS);
+    }
+
+    /**
+     * Retrieves the SQL query dropping the daily audit partitions older than a day.
+     *
+     * @return The SQL query for dropping audit partitions.
+     */
+    public static String dropAuditPartitions() {
+        return readAuditQuery(DROP_AUDIT_PARTITIONS);
+    }
 }
\ No newline at end of file
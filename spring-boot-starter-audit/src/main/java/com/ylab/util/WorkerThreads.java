@@ -0,0 +1,38 @@
+package com.ylab.util;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * WorkerThreads class creates the threads of the background workers of the audit starter.
+ * <p>
+ * Workers run on platform daemon threads named after the worker, or on virtual threads named after the worker
+ * followed by a counter when {@code spring.threads.virtual.enabled} is active on Java 21.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    /**
+     * Creates the thread factory of a worker.
+     *
+     * @param name    the name of the worker threads
+     * @param virtual whether the worker runs on virtual threads
+     * @return the thread factory
+     */
+    public static ThreadFactory factory(String name, boolean virtual) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory();
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.ylab.writer;
+
+import com.ylab.render.AuditPayloadRenderer;
+
+import java.time.Instant;
+
+/**
+ * AuditEvent record captures an audited invocation on the calling thread without rendering it.
+ * <p>
+ * Arguments and results are kept as references until the audit writer takes a {@link #snapshot snapshot} of
+ * them on the calling thread; the bounded rendering of the snapshot happens on the writer thread.
+ *
+ * @param kind           the kind of the event
+ * @param createdAt      the time the event occurred
+ * @param methodName     the name of the audited method
+ * @param parameterNames the parameter names of the method, or null if unknown
+ * @param arguments      the arguments of a {@link Kind#BEGIN} event
+ * @param result         the result of a {@link Kind#SUCCESS} event
+ * @param error          the error of a {@link Kind#FAILURE} event
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public record AuditEvent(Kind kind, Instant createdAt, String methodName, String[] parameterNames,
+                         Object[] arguments, Object result, Throwable error) {
+
+    /**
+     * Kind enum lists the audit events of an invocation.
+     */
+    public enum Kind {
+        BEGIN,
+        SUCCESS,
+        SUMMARY,
+        FAILURE
+    }
+
+    /**
+     * Creates the event written before an invocation starts.
+     *
+     * @param methodName     the name of the audited method
+     * @param parameterNames the parameter names of the method
+     * @param arguments      the arguments of the invocation
+     * @return the begin event
+     */
+    public static AuditEvent begin(String methodName, String[] parameterNames, Object[] arguments) {
+        return new AuditEvent(Kind.BEGIN, Instant.now(), methodName, parameterNames, arguments, null, null);
+    }
+
+    /**
+     * Creates the event written after an invocation returns, including its result.
+     *
+     * @param methodName the name of the audited method
+     * @param result     the result of the invocation
+     * @return the success event
+     */
+    public static AuditEvent success(String methodName, Object result) {
+        return new AuditEvent(Kind.SUCCESS, Instant.now(), methodName, null, null, result, null);
+    }
+
+    /**
+     * Creates the event written after an invocation returns, without its result.
+     *
+     * @param methodName the name of the audited method
+     * @return the summary event
+     */
+    public static AuditEvent summary(String methodName) {
+        return new AuditEvent(Kind.SUMMARY, Instant.now(), methodName, null, null, null, null);
+    }
+
+    /**
+     * Creates the event written after an invocation throws.
+     *
+     * @param methodName the name of the audited method
+     * @param error      the error thrown by the invocation
+     * @return the failure event
+     */
+    public static AuditEvent failure(String methodName, Throwable error) {
+        return new AuditEvent(Kind.FAILURE, Instant.now(), methodName, null, null, null, error);
+    }
+
+    /**
+     * Captures the arguments and the result of the event as they are at the call.
+     *
+     * @param renderer the payload renderer
+     * @return the event holding the snapshots of its arguments and result
+     * @see AuditPayloadRenderer#snapshot(Object)
+     */
+    public AuditEvent snapshot(AuditPayloadRenderer renderer) {
+        Object[] argumentSnapshots = null;
+        if (arguments != null) {
+            argumentSnapshots = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                argumentSnapshots[i] = renderer.snapshot(arguments[i]);
+            }
+        }
+        return new AuditEvent(kind, createdAt, methodName, parameterNames, argumentSnapshots,
+                renderer.snapshot(result), error);
+    }
+
+    /**
+     * Renders the audit message of the event.
+     *
+     * @param renderer the payload renderer
+     * @return the bounded audit message
+     */
+    public String render(AuditPayloadRenderer renderer) {
+        AuditPayloadRenderer.Output out = renderer.newOutput();
+        switch (kind) {
+            case BEGIN -> {
+                out.append("BEGIN: ").append(methodName).append("(");
+                for (int i = 0; i < arguments.length && !out.isFull(); i++) {
+                    if (i > 0) {
+                        out.append(", ");
+                    }
+                    renderer.renderNamed(out, parameterNames == null ? "arg" + i : parameterNames[i], arguments[i]);
+                }
+                out.append(")");
+            }
+            case SUCCESS -> {
+                out.append("SUCCESS: ").append(methodName).append(", RESULT: ");
+                renderer.render(out, result);
+            }
+            case SUMMARY -> out.append("SUCCESS: ").append(methodName);
+            case FAILURE -> out.append("FAILURE: ").append(methodName).append(", ERROR: ")
+                    .append(String.valueOf(error.getMessage()));
+        }
+        return out.toString();
+    }
+}
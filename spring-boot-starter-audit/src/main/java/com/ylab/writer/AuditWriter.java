@@ -0,0 +1,184 @@
+package com.ylab.writer;
+
+import com.ylab.model.AuditModel;
+import com.ylab.render.AuditPayloadRenderer;
+import com.ylab.sink.AuditSink;
+import com.ylab.util.WorkerThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AuditWriter class renders audit events and writes them to the audit sink.
+ * <p>
+ * In asynchronous mode the calling thread only takes a cheap {@link AuditEvent#snapshot snapshot} of the
+ * event and puts it on a bounded queue; a dedicated thread renders and writes it, so the calling thread
+ * neither renders payloads nor waits for the sink. When the queue is full the event is dropped and counted
+ * without taking the snapshot, instead of blocking the caller. In synchronous mode events are rendered
+ * and written on the calling thread. In both modes a failure to render or write an event is logged and
+ * counted and never propagates to the audited method.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+public class AuditWriter implements DisposableBean {
+    public static final String WORKER_NAME = "audit-writer";
+    private static final int DRAIN_BATCH = 256;
+
+    private final AuditSink auditSink;
+    private final AuditPayloadRenderer renderer;
+    private final BlockingQueue<AuditEvent> queue;
+    private final Thread worker;
+    private final Duration shutdownTimeout;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * Instantiates a new audit writer.
+     *
+     * @param auditSink       the sink receiving the audit messages
+     * @param renderer        the payload renderer
+     * @param async           whether events are written by a background thread
+     * @param queueCapacity   the capacity of the event queue in asynchronous mode
+     * @param shutdownTimeout the time allowed to write the queued events on shutdown
+     */
+    public AuditWriter(AuditSink auditSink, AuditPayloadRenderer renderer, boolean async,
+                       int queueCapacity, Duration shutdownTimeout) {
+        this(auditSink, renderer, async, queueCapacity, shutdownTimeout, WorkerThreads.factory(WORKER_NAME, false));
+    }
+
+    /**
+     * Instantiates a new audit writer running its background thread from the given factory.
+     *
+     * @param auditSink       the sink receiving the audit messages
+     * @param renderer        the payload renderer
+     * @param async           whether events are written by a background thread
+     * @param queueCapacity   the capacity of the event queue in asynchronous mode
+     * @param shutdownTimeout the time allowed to write the queued events on shutdown
+     * @param threadFactory   the factory of the background thread
+     */
+    public AuditWriter(AuditSink auditSink, AuditPayloadRenderer renderer, boolean async,
+                       int queueCapacity, Duration shutdownTimeout, ThreadFactory threadFactory) {
+        this.auditSink = auditSink;
+        this.renderer = renderer;
+        this.shutdownTimeout = shutdownTimeout;
+        if (async) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.worker = threadFactory.newThread(this::drain);
+            this.worker.start();
+        } else {
+            this.queue = null;
+            this.worker = null;
+        }
+    }
+
+    /**
+     * Submits an audit event for writing.
+     *
+     * @param event the audit event
+     */
+    public void submit(AuditEvent event) {
+        if (queue == null) {
+            write(event);
+            return;
+        }
+        if (queue.remainingCapacity() == 0) {
+            dropped.incrementAndGet();
+            return;
+        }
+        AuditEvent snapshot;
+        try {
+            snapshot = event.snapshot(renderer);
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("Failed to capture audit event of {}: {}", event.methodName(), e.getMessage());
+            return;
+        }
+        if (!queue.offer(snapshot)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Retrieves the number of events dropped because the queue was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Retrieves the number of events that failed to be rendered or written.
+     *
+     * @return the number of failed events
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Retrieves the number of events waiting to be written.
+     *
+     * @return the queue size
+     */
+    public int getQueueSize() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Stops accepting events and writes the queued ones within the shutdown timeout.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer thread
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (worker != null) {
+            running = false;
+            worker.join(shutdownTimeout.toMillis());
+            worker.interrupt();
+        }
+        auditSink.flush();
+    }
+
+    private void drain() {
+        List<AuditEvent> batch = new ArrayList<>(DRAIN_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, DRAIN_BATCH - 1);
+                batch.forEach(this::write);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(AuditEvent event) {
+        try {
+            AuditModel audit = new AuditModel(event.render(renderer));
+            audit.setCreatedAt(event.createdAt());
+            auditSink.write(audit);
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("Failed to write audit event of {}: {}", event.methodName(), e.getMessage());
+        }
+    }
+}
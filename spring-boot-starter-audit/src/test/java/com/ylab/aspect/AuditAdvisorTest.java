@@ -0,0 +1,206 @@
+package com.ylab.aspect;
+
+import com.ylab.config.AuditAutoConfiguration;
+import com.ylab.model.AuditModel;
+import com.ylab.props.AuditProperties;
+import com.ylab.render.AuditPayloadRenderer;
+import com.ylab.sink.RingBufferAuditSink;
+import com.ylab.writer.AuditWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.PointcutAdvisor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * AuditAdvisorTest class represents the test suite for the audit advisor, its pointcut and the audit policy.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class AuditAdvisorTest {
+    private MockEnvironment environment;
+    private RingBufferAuditSink sink;
+    private ObjectProvider<AuditWriter> writerProvider;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("audit.aspect.pointcut", "execution(* com.ylab.aspect.ReportService.*(..))")
+                .withProperty("audit.aspect.exclude[0]", "ReportService.hidden");
+        sink = new RingBufferAuditSink(100);
+        AuditWriter writer = new AuditWriter(sink, new AuditPayloadRenderer(new AuditProperties.Render(), List.of()),
+                false, 1, Duration.ZERO);
+        writerProvider = mock(ObjectProvider.class);
+        when(writerProvider.getObject()).thenReturn(writer);
+    }
+
+    private <T> T proxy(T target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(AuditAutoConfiguration.auditAdvisor(writerProvider, environment));
+        @SuppressWarnings("unchecked")
+        T proxy = (T) factory.getProxy();
+        return proxy;
+    }
+
+    private List<String> messages() {
+        return sink.snapshot().stream().map(AuditModel::getMessage).toList();
+    }
+
+    @Test
+    @DisplayName("Creating the advisor does not resolve the audit writer")
+    @SuppressWarnings("unchecked")
+    void auditAdvisor_ShouldResolveWriterLazily() {
+        ObjectProvider<AuditWriter> provider = mock(ObjectProvider.class);
+
+        AuditAutoConfiguration.auditAdvisor(provider, environment);
+
+        verifyNoInteractions(provider);
+    }
+
+    @Test
+    @DisplayName("The pointcut matches the configured expression and @Audited methods and classes only")
+    void pointcut_ShouldMatchExpressionAndAnnotations() throws NoSuchMethodException {
+        Advisor advisor = AuditAutoConfiguration.auditAdvisor(writerProvider, environment);
+        var pointcut = ((PointcutAdvisor) advisor).getPointcut();
+
+        assertThat(AopUtils.canApply(pointcut, ReportService.class)).isTrue();
+        assertThat(AopUtils.canApply(pointcut, AuditedComponent.class)).isTrue();
+        assertThat(AopUtils.canApply(pointcut, PlainComponent.class)).isTrue();
+        assertThat(AopUtils.canApply(pointcut, UnauditedComponent.class)).isFalse();
+        assertThat(pointcut.getMethodMatcher().matches(
+                PlainComponent.class.getMethod("plain"), PlainComponent.class)).isFalse();
+        assertThat(pointcut.getMethodMatcher().matches(
+                PlainComponent.class.getMethod("annotated"), PlainComponent.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("A method in the pointcut is audited in full with its arguments and result")
+    void fullLevel_ShouldWriteBeginAndSuccess() {
+        ReportService service = proxy(new ReportService(null));
+
+        service.report("admin");
+
+        assertThat(messages()).containsExactly("BEGIN: report(name:admin)", "SUCCESS: report, RESULT: report of admin");
+    }
+
+    @Test
+    @DisplayName("A method excluded by pattern is not audited")
+    void excludedMethod_ShouldNotBeAudited() {
+        ReportService service = proxy(new ReportService(null));
+
+        service.hidden();
+
+        assertThat(messages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The level of @Audited decides which messages are written")
+    void auditedLevels_ShouldBeApplied() {
+        PlainComponent component = proxy(new PlainComponent());
+
+        component.plain();
+        component.annotated();
+        component.failuresOnly(false);
+        assertThatThrownBy(() -> component.failuresOnly(true)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(messages()).containsExactly("SUCCESS: annotated", "FAILURE: failuresOnly, ERROR: failed");
+    }
+
+    @Test
+    @DisplayName("Sampling skips successful calls but never failures")
+    void sampling_ShouldKeepFailures() {
+        environment.setProperty("audit.aspect.sample-rates[ReportService.*]", "0");
+        ReportService service = proxy(new ReportService(null));
+
+        service.report("admin");
+        assertThatThrownBy(() -> service.fail()).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(messages()).containsExactly("FAILURE: fail, ERROR: no report");
+    }
+
+    @Test
+    @DisplayName("An audited call nested in another audited call is not audited again")
+    void nestedCall_ShouldBeSuppressed() {
+        AuditedComponent inner = proxy(new AuditedComponent());
+        ReportService service = proxy(new ReportService(inner));
+
+        service.delegate();
+
+        assertThat(messages()).containsExactly("BEGIN: delegate()", "SUCCESS: delegate, RESULT: inner");
+    }
+}
+
+class ReportService {
+    private final AuditedComponent inner;
+
+    ReportService(AuditedComponent inner) {
+        this.inner = inner;
+    }
+
+    public String report(String name) {
+        return "report of " + name;
+    }
+
+    public String hidden() {
+        return "hidden";
+    }
+
+    public String fail() {
+        throw new IllegalArgumentException("no report");
+    }
+
+    public String delegate() {
+        return inner.call();
+    }
+}
+
+@Audited(level = AuditLevel.SUMMARY)
+class AuditedComponent {
+
+    public String call() {
+        return "inner";
+    }
+}
+
+class PlainComponent {
+
+    public String plain() {
+        return "plain";
+    }
+
+    @Audited(level = AuditLevel.SUMMARY)
+    public String annotated() {
+        return "annotated";
+    }
+
+    @Audited(level = AuditLevel.FAILURES)
+    public String failuresOnly(boolean fail) {
+        if (fail) {
+            throw new IllegalStateException("failed");
+        }
+        return "ok";
+    }
+}
+
+class UnauditedComponent {
+
+    public String plain() {
+        return "plain";
+    }
+}
@@ -0,0 +1,180 @@
+package com.ylab.sink;
+
+import com.ylab.exception.AuditWriteException;
+import com.ylab.model.AuditModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CircuitBreakerAuditSinkTest class represents the test suite for the circuit, the spill and the replay of audit messages.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class CircuitBreakerAuditSinkTest {
+    private static final int SEGMENT_SIZE = 4096;
+    private static final Duration NOT_SLOW = Duration.ofSeconds(10);
+
+    @TempDir
+    Path spillDirectory;
+
+    private final ControllableSink delegate = new ControllableSink();
+    private CircuitBreakerAuditSink sink;
+
+    @AfterEach
+    void tearDown() {
+        if (sink != null) {
+            sink.destroy();
+        }
+    }
+
+    private CircuitBreakerAuditSink open(int failureThreshold, Duration slowCallThreshold, Duration openDuration) {
+        return new CircuitBreakerAuditSink(delegate, spillDirectory, SEGMENT_SIZE, failureThreshold,
+                slowCallThreshold, openDuration);
+    }
+
+    private static AuditModel audit(String message, long epochMilli) {
+        AuditModel audit = new AuditModel(message);
+        audit.setCreatedAt(Instant.ofEpochMilli(epochMilli));
+        return audit;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("A closed circuit writes to the delegate and a single failure does not open it")
+    void closed_ShouldWriteToDelegate() {
+        sink = open(2, NOT_SLOW, Duration.ofHours(1));
+
+        sink.write(audit("first", 1L));
+        delegate.failing = true;
+        sink.write(audit("failed", 2L));
+        delegate.failing = false;
+        sink.write(audit("second", 3L));
+
+        assertThat(sink.getState()).isEqualTo(CircuitBreakerAuditSink.State.CLOSED);
+        assertThat(delegate.messages()).containsExactly("first", "second");
+        assertThat(sink.getFailedCount()).isEqualTo(1);
+        assertThat(sink.getSpilledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Consecutive failures open the circuit and later writes are spilled without reaching the delegate")
+    void consecutiveFailures_ShouldOpenCircuit() {
+        sink = open(2, NOT_SLOW, Duration.ofHours(1));
+        delegate.failing = true;
+
+        sink.write(audit("first", 1L));
+        sink.write(audit("second", 2L));
+        sink.write(audit("third", 3L));
+        sink.flush();
+
+        assertThat(sink.getState()).isEqualTo(CircuitBreakerAuditSink.State.OPEN);
+        assertThat(delegate.calls.get()).isEqualTo(2);
+        assertThat(sink.getSpilledCount()).isEqualTo(3);
+        assertThat(AuditSegmentReader.readAll(spillDirectory)).extracting(AuditModel::getMessage)
+                .containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("A write slower than the slow call threshold counts as a failure")
+    void slowWrite_ShouldCountAsFailure() {
+        sink = open(1, Duration.ZERO, Duration.ofHours(1));
+
+        sink.write(audit("slow", 1L));
+
+        assertThat(sink.getState()).isEqualTo(CircuitBreakerAuditSink.State.OPEN);
+        assertThat(sink.getFailedCount()).isEqualTo(1);
+        assertThat(delegate.messages()).containsExactly("slow");
+        assertThat(sink.getSpilledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("A failed probe after the open duration opens the circuit again")
+    void halfOpen_WhenProbeFails_ShouldReopen() {
+        sink = open(1, NOT_SLOW, Duration.ZERO);
+        delegate.failing = true;
+        sink.write(audit("first", 1L));
+        assertThat(sink.getState()).isEqualTo(CircuitBreakerAuditSink.State.OPEN);
+
+        sink.write(audit("probe", 2L));
+
+        assertThat(sink.getState()).isEqualTo(CircuitBreakerAuditSink.State.OPEN);
+        assertThat(delegate.calls.get()).isEqualTo(2);
+        assertThat(sink.getSpilledCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A successful probe closes the circuit and the spilled messages are replayed in order")
+    void halfOpen_WhenProbeSucceeds_ShouldCloseAndReplay() throws InterruptedException {
+        sink = open(1, NOT_SLOW, Duration.ZERO);
+        delegate.failing = true;
+        sink.write(audit("first", 1L));
+        sink.write(audit("second", 2L));
+        delegate.failing = false;
+
+        sink.write(audit("probe", 3L));
+
+        assertThat(sink.getState()).isEqualTo(CircuitBreakerAuditSink.State.CLOSED);
+        waitUntil(() -> sink.getReplayedCount() == 2 && sink.getPendingSegments() == 0);
+        assertThat(delegate.messages()).containsExactly("probe", "first", "second");
+        assertThat(delegate.written).extracting(AuditModel::getCreatedAt)
+                .containsExactly(Instant.ofEpochMilli(3L), Instant.ofEpochMilli(1L), Instant.ofEpochMilli(2L));
+        assertThat(sink.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Segments spilled by a previous run are replayed after the first successful write")
+    void leftoverSegments_ShouldBeReplayedAfterRestart() throws InterruptedException {
+        MappedSegmentAuditSink previousRun = new MappedSegmentAuditSink(spillDirectory, SEGMENT_SIZE,
+                FsyncPolicy.NEVER, Duration.ofSeconds(1), false);
+        previousRun.write(audit("left over", 1L));
+        previousRun.destroy();
+        sink = open(1, NOT_SLOW, Duration.ofHours(1));
+        assertThat(sink.getPendingSegments()).isEqualTo(1);
+
+        sink.write(audit("after restart", 2L));
+
+        waitUntil(() -> sink.getPendingSegments() == 0);
+        assertThat(delegate.messages()).containsExactly("after restart", "left over");
+        assertThat(sink.getReplayedCount()).isEqualTo(1);
+    }
+
+    private static class ControllableSink implements AuditSink {
+        private final List<AuditModel> written = new CopyOnWriteArrayList<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean failing;
+
+        @Override
+        public void write(AuditModel audit) {
+            calls.incrementAndGet();
+            if (failing) {
+                throw new AuditWriteException("database is down");
+            }
+            written.add(audit);
+        }
+
+        List<String> messages() {
+            return written.stream().map(AuditModel::getMessage).toList();
+        }
+    }
+}
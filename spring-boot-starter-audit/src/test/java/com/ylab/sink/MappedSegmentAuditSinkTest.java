@@ -0,0 +1,164 @@
+package com.ylab.sink;
+
+import com.ylab.exception.AuditWriteException;
+import com.ylab.model.AuditModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MappedSegmentAuditSinkTest class represents the test suite for writing and reading audit segment files.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class MappedSegmentAuditSinkTest {
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    private MappedSegmentAuditSink sink;
+
+    @AfterEach
+    void tearDown() {
+        if (sink != null) {
+            sink.destroy();
+        }
+    }
+
+    private MappedSegmentAuditSink open(int segmentSize, boolean resume) {
+        return new MappedSegmentAuditSink(directory, segmentSize, FsyncPolicy.NEVER, Duration.ofSeconds(1), resume);
+    }
+
+    private static AuditModel audit(String message, long epochMilli) {
+        AuditModel audit = new AuditModel(message);
+        audit.setCreatedAt(Instant.ofEpochMilli(epochMilli));
+        return audit;
+    }
+
+    private static List<String> messages(List<AuditModel> audits) {
+        return audits.stream().map(AuditModel::getMessage).toList();
+    }
+
+    @Test
+    @DisplayName("Written records are read back in order with their creation time")
+    void write_ShouldBeReadBack() {
+        sink = open(SEGMENT_SIZE, true);
+        sink.write(audit("BEGIN: login(username:admin)", 1_000L));
+        sink.write(audit("SUCCESS: login", 2_000L));
+        sink.write(audit("сообщение", 3_000L));
+        sink.flush();
+
+        List<AuditModel> audits = AuditSegmentReader.readAll(directory);
+
+        assertThat(messages(audits)).containsExactly("BEGIN: login(username:admin)", "SUCCESS: login", "сообщение");
+        assertThat(audits).extracting(AuditModel::getCreatedAt)
+                .containsExactly(Instant.ofEpochMilli(1_000L), Instant.ofEpochMilli(2_000L), Instant.ofEpochMilli(3_000L));
+    }
+
+    @Test
+    @DisplayName("A record that does not fit rolls over to a new segment")
+    void write_WhenSegmentFull_ShouldRollOver() {
+        sink = open(64, true);
+        for (int i = 0; i < 10; i++) {
+            sink.write(audit("message " + i, i));
+        }
+        sink.flush();
+
+        assertThat(AuditSegmentReader.listSegments(directory)).hasSize(5);
+        assertThat(messages(AuditSegmentReader.readAll(directory)))
+                .containsExactly("message 0", "message 1", "message 2", "message 3", "message 4",
+                        "message 5", "message 6", "message 7", "message 8", "message 9");
+    }
+
+    @Test
+    @DisplayName("A record larger than a segment is rejected")
+    void write_WhenRecordExceedsSegment_ShouldThrow() {
+        sink = open(64, true);
+
+        assertThatThrownBy(() -> sink.write(audit("x".repeat(64), 0L)))
+                .isInstanceOf(AuditWriteException.class)
+                .hasMessageContaining("exceeds the segment size");
+    }
+
+    @Test
+    @DisplayName("After a restart the sink continues after the last record of the newest segment")
+    void restart_ShouldResumeNewestSegment() {
+        sink = open(SEGMENT_SIZE, true);
+        sink.write(audit("first", 1L));
+        sink.write(audit("second", 2L));
+        sink.destroy();
+
+        sink = open(SEGMENT_SIZE, true);
+        sink.write(audit("third", 3L));
+        sink.flush();
+
+        assertThat(AuditSegmentReader.listSegments(directory)).hasSize(1);
+        assertThat(messages(AuditSegmentReader.readAll(directory))).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("Without resuming, a restart starts a new segment after the newest one")
+    void restart_WithoutResume_ShouldStartNewSegment() {
+        sink = open(SEGMENT_SIZE, true);
+        sink.write(audit("first", 1L));
+        sink.destroy();
+
+        sink = open(SEGMENT_SIZE, false);
+        sink.write(audit("second", 2L));
+        sink.flush();
+
+        List<Path> segments = AuditSegmentReader.listSegments(directory);
+        assertThat(segments).extracting(AuditSegmentFormat::sequence).containsExactly(0L, 1L);
+        assertThat(messages(AuditSegmentReader.readAll(segments.get(1)))).containsExactly("second");
+    }
+
+    @Test
+    @DisplayName("A torn last record ends the segment and is overwritten when the sink resumes")
+    void truncatedTail_ShouldBeSkippedAndOverwritten() throws IOException {
+        sink = open(SEGMENT_SIZE, true);
+        sink.write(audit("first", 1L));
+        sink.write(audit("second", 2L));
+        sink.write(audit("torn by a crash", 3L));
+        sink.destroy();
+        sink = null;
+        Path segment = AuditSegmentReader.listSegments(directory).get(0);
+        int tornEnd = AuditSegmentFormat.recordLength("first".getBytes())
+                + AuditSegmentFormat.recordLength("second".getBytes())
+                + AuditSegmentFormat.recordLength("torn by a crash".getBytes());
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4), tornEnd - 4);
+        }
+
+        assertThat(messages(AuditSegmentReader.readAll(segment))).containsExactly("first", "second");
+
+        sink = open(SEGMENT_SIZE, true);
+        sink.write(audit("after restart", 4L));
+        sink.flush();
+
+        assertThat(messages(AuditSegmentReader.readAll(directory))).containsExactly("first", "second", "after restart");
+    }
+
+    @Test
+    @DisplayName("A zero-filled buffer holds no record and foreign files are not segments")
+    void format_ShouldRecognizeEndAndSegmentNames() {
+        assertThat(AuditSegmentFormat.read(ByteBuffer.allocate(64))).isNull();
+        assertThat(AuditSegmentFormat.sequence(Path.of(AuditSegmentFormat.fileName(42)))).isEqualTo(42L);
+        assertThat(AuditSegmentFormat.sequence(Path.of("audit-notes.txt"))).isEqualTo(-1L);
+        assertThat(AuditSegmentReader.listSegments(directory.resolve("missing"))).isEmpty();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ylab.sink;
+
+import com.ylab.model.AuditModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RingBufferAuditSinkTest class represents the test suite for the in-memory audit sink.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class RingBufferAuditSinkTest {
+
+    @Test
+    @DisplayName("The most recent messages are kept from the oldest to the newest")
+    void write_WhenFull_ShouldOverwriteOldest() {
+        RingBufferAuditSink sink = new RingBufferAuditSink(3);
+        for (int i = 1; i <= 5; i++) {
+            sink.write(new AuditModel("message " + i));
+        }
+
+        assertThat(sink.snapshot()).extracting(AuditModel::getMessage)
+                .containsExactly("message 3", "message 4", "message 5");
+        assertThat(sink.snapshot()).extracting(AuditModel::getId).containsExactly(3L, 4L, 5L);
+        assertThat(sink.snapshot()).allMatch(audit -> audit.getCreatedAt() != null);
+        assertThat(sink.getWrittenCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Clearing removes the retained messages and resets the count")
+    void clear_ShouldEmptyBuffer() {
+        RingBufferAuditSink sink = new RingBufferAuditSink(2);
+        sink.write(new AuditModel("message"));
+
+        sink.clear();
+
+        assertThat(sink.snapshot()).isEmpty();
+        assertThat(sink.getWrittenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("A non-positive capacity is rejected")
+    void constructor_WithoutCapacity_ShouldThrow() {
+        assertThatThrownBy(() -> new RingBufferAuditSink(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ylab.writer;
+
+import com.ylab.model.AuditModel;
+import com.ylab.props.AuditProperties;
+import com.ylab.render.AuditPayloadRenderer;
+import com.ylab.render.AuditRenderer;
+import com.ylab.sink.AuditSink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuditWriterTest class represents the test suite for rendering and writing audit events.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class AuditWriterTest {
+    private final CountDownLatch sinkReleased = new CountDownLatch(1);
+    private final BlockingQueue<AuditModel> written = new LinkedBlockingQueue<>();
+    private final AuditSink blockingSink = audit -> {
+        try {
+            sinkReleased.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        written.add(audit);
+    };
+    private AuditWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sinkReleased.countDown();
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    private static AuditPayloadRenderer renderer() {
+        return new AuditPayloadRenderer(new AuditProperties.Render(), List.of(new AccountRenderer()));
+    }
+
+    @Test
+    @DisplayName("The calling thread keeps only a snapshot of ids, scalars and sizes, which the writer renders later")
+    void submit_ShouldRenderSnapshotTakenOnCallingThread() throws InterruptedException {
+        writer = new AuditWriter(blockingSink, renderer(), true, 16, Duration.ofSeconds(1));
+        Account account = new Account(7L, "before");
+        List<String> params = new ArrayList<>(List.of("jumps"));
+
+        writer.submit(AuditEvent.begin("addWorkout", new String[]{"account", "params", "duration"},
+                new Object[]{account, params, 30}));
+        writer.submit(AuditEvent.success("addWorkout", account));
+        account.name = "after";
+        params.add("added");
+        sinkReleased.countDown();
+
+        assertThat(written.poll(5, TimeUnit.SECONDS).getMessage())
+                .isEqualTo("BEGIN: addWorkout(account:{id=7, name=before}, params:ArrayList(size=1), duration:30)");
+        assertThat(written.poll(5, TimeUnit.SECONDS).getMessage())
+                .isEqualTo("SUCCESS: addWorkout, RESULT: {id=7, name=before}");
+    }
+
+    @Test
+    @DisplayName("A full queue drops the message instead of blocking the caller")
+    void submit_WhenQueueFull_ShouldDrop() {
+        writer = new AuditWriter(blockingSink, renderer(), true, 1, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 5; i++) {
+            writer.submit(AuditEvent.summary("call" + i));
+        }
+
+        assertThat(writer.getDroppedCount()).isBetween(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("A failing sink is counted and does not reach the caller")
+    void submit_WhenSinkFails_ShouldCountFailure() {
+        writer = new AuditWriter(audit -> {
+            throw new IllegalStateException("sink down");
+        }, renderer(), false, 1, Duration.ZERO);
+
+        writer.submit(AuditEvent.summary("call"));
+
+        assertThat(writer.getFailedCount()).isEqualTo(1);
+    }
+
+    private static class Account {
+        private final long id;
+        private String name;
+
+        Account(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static class AccountRenderer implements AuditRenderer<Account> {
+
+        @Override
+        public Class<Account> getType() {
+            return Account.class;
+        }
+
+        @Override
+        public Object render(Account account) {
+            Map<String, Object> view = new LinkedHashMap<>();
+            view.put("id", account.id);
+            view.put("name", account.name);
+            return view;
+        }
+    }
+}
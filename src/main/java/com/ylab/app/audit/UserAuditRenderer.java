@@ -0,0 +1,43 @@
+package com.ylab.app.audit;
+
+import com.ylab.app.model.user.User;
+import com.ylab.render.AuditRenderer;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * UserAuditRenderer class renders users in audit messages by their identity and role only.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+public class UserAuditRenderer implements AuditRenderer<User> {
+
+    /**
+     * Retrieves the rendered type.
+     *
+     * @return the user class
+     */
+    @Override
+    public Class<User> getType() {
+        return User.class;
+    }
+
+    /**
+     * Converts the user into its audit view.
+     *
+     * @param user the user
+     * @return the id, name and role of the user
+     */
+    @Override
+    public Object render(User user) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", user.getId());
+        view.put("name", user.getName());
+        view.put("role", user.getRole());
+        return view;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ylab.app.audit;
+
+import com.ylab.app.model.workout.Workout;
+import com.ylab.render.AuditRenderer;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * WorkoutAuditRenderer class renders workouts in audit messages without their owner details and parameter values.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+public class WorkoutAuditRenderer implements AuditRenderer<Workout> {
+
+    /**
+     * Retrieves the rendered type.
+     *
+     * @return the workout class
+     */
+    @Override
+    public Class<Workout> getType() {
+        return Workout.class;
+    }
+
+    /**
+     * Converts the workout into its audit view.
+     *
+     * @param workout the workout
+     * @return the main attributes of the workout, its owner name and the number of its parameters
+     */
+    @Override
+    public Object render(Workout workout) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", workout.getId());
+        view.put("type", workout.getType());
+        view.put("date", workout.getDate());
+        view.put("duration", workout.getDuration());
+        view.put("caloriesBurned", workout.getCaloriesBurned());
+        view.put("user", workout.getUser() == null ? null : workout.getUser().getName());
+        view.put("params", workout.getParams() == null ? 0 : workout.getParams().size());
+        return view;
+    }
+}
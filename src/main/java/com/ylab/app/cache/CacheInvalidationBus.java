@@ -0,0 +1,253 @@
+package com.ylab.app.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.config.WorkerThreads;
+import com.ylab.app.dbService.notify.PgNotificationListener;
+import com.ylab.app.dbService.notify.PgNotificationPublisher;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.service.props.CacheInvalidationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CacheInvalidationBus class evicts changed entries of the in-process caches on every node of the cluster.
+ * <p>
+ * An invalidation evicts the local entry at once and again after the surrounding transaction commits, so a
+ * concurrent read cannot cache the old value for long. The key is then queued and, once the batch interval
+ * has passed, all queued keys are sent in as few {@code cache_invalidation} notifications as fit the payload
+ * limit. Keys are only published after the commit, so another node never reloads the old row. Each node
+ * evicts the keys it receives, ignoring its own notifications. A publish failure is retried after the retry
+ * delay.
+ * <p>
+ * Notifications sent while the listener was disconnected are lost, so after every reconnection all caches
+ * are cleared. Publishes {@code cache.invalidations.published}, {@code cache.invalidations.received},
+ * {@code cache.invalidations.publish.failures} and {@code cache.invalidations.full.flushes}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements DisposableBean {
+    static final String CHANNEL = "cache_invalidation";
+
+    private final CacheManager cacheManager;
+    private final PgNotificationPublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService flusher;
+    private final Counter published;
+    private final Counter received;
+    private final Counter publishFailures;
+    private final Counter fullFlushes;
+    private Map<String, Set<String>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    /**
+     * Instantiates a new cache invalidation bus.
+     *
+     * @param cacheManager         the manager of the local caches
+     * @param publisher            the publisher of the invalidation notifications
+     * @param notificationListener the listener of the invalidation notifications
+     * @param objectMapper         the object mapper serializing the invalidations
+     * @param properties           the cache invalidation properties
+     * @param meterRegistry        the meter registry publishing the invalidation metrics
+     * @param workerThreads        the factory of the flusher thread
+     */
+    public CacheInvalidationBus(CacheManager cacheManager, PgNotificationPublisher publisher,
+                                PgNotificationListener notificationListener, ObjectMapper objectMapper,
+                                CacheInvalidationProperties properties, MeterRegistry meterRegistry,
+                                WorkerThreads workerThreads) {
+        this.cacheManager = cacheManager;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(workerThreads.factory("cache-invalidation"));
+        this.published = meterRegistry.counter("cache.invalidations.published");
+        this.received = meterRegistry.counter("cache.invalidations.received");
+        this.publishFailures = meterRegistry.counter("cache.invalidations.publish.failures");
+        this.fullFlushes = meterRegistry.counter("cache.invalidations.full.flushes");
+        notificationListener.addListener(CHANNEL, this::onNotification);
+        notificationListener.addReconnectListener(this::clearAll);
+    }
+
+    /**
+     * Evicts a cache entry on this node and, after the current transaction commits, on all other nodes.
+     *
+     * @param cacheName the name of the cache
+     * @param key       the key of the entry, converted to a string
+     */
+    public void invalidate(String cacheName, Object key) {
+        String cacheKey = String.valueOf(key);
+        evictLocally(cacheName, cacheKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally(cacheName, cacheKey);
+                    enqueue(cacheName, cacheKey);
+                }
+            });
+        } else {
+            enqueue(cacheName, cacheKey);
+        }
+    }
+
+    /**
+     * Clears every local cache.
+     */
+    public void clearAll() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        fullFlushes.increment();
+        log.info("Cleared all local caches after missing cache invalidations");
+    }
+
+    /**
+     * Publishes the queued invalidations and stops the flusher.
+     */
+    @Override
+    public void destroy() {
+        flusher.shutdownNow();
+        flush();
+    }
+
+    private void enqueue(String cacheName, String key) {
+        lock.lock();
+        try {
+            pending.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).add(key);
+            scheduleFlush(properties.getBatchInterval().toMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleFlush(long delayMillis) {
+        if (flushScheduled) {
+            return;
+        }
+        try {
+            flusher.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+            flushScheduled = true;
+        } catch (RejectedExecutionException ignore) {
+        }
+    }
+
+    private void flush() {
+        Map<String, Set<String>> batch;
+        lock.lock();
+        try {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            flushScheduled = false;
+        } finally {
+            lock.unlock();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (Map<String, List<String>> chunk : chunks(batch)) {
+            try {
+                publisher.publish(CHANNEL, objectMapper.writeValueAsString(new CacheInvalidation(nodeId, chunk)));
+                chunk.values().forEach(keys -> published.increment(keys.size()));
+            } catch (JsonProcessingException | DatabaseWriteException e) {
+                publishFailures.increment();
+                log.warn("Failed to publish cache invalidations, retrying in {}: {}",
+                        properties.getRetryDelay(), e.getMessage());
+                requeue(chunk);
+            }
+        }
+    }
+
+    private List<Map<String, List<String>>> chunks(Map<String, Set<String>> batch) {
+        List<Map<String, List<String>>> chunks = new ArrayList<>();
+        Map<String, List<String>> chunk = new LinkedHashMap<>();
+        int size = 0;
+        for (Map.Entry<String, Set<String>> entry : batch.entrySet()) {
+            for (String key : entry.getValue()) {
+                int entrySize = entry.getKey().length() + key.length() + 8;
+                if (size + entrySize > properties.getMaxPayloadSize() && !chunk.isEmpty()) {
+                    chunks.add(chunk);
+                    chunk = new LinkedHashMap<>();
+                    size = 0;
+                }
+                chunk.computeIfAbsent(entry.getKey(), name -> new ArrayList<>()).add(key);
+                size += entrySize;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private void requeue(Map<String, List<String>> chunk) {
+        lock.lock();
+        try {
+            chunk.forEach((cacheName, keys) -> pending.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).addAll(keys));
+            scheduleFlush(properties.getRetryDelay().toMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onNotification(String payload) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(payload, CacheInvalidation.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(invalidation.node()) || invalidation.keys() == null) {
+            return;
+        }
+        invalidation.keys().forEach((cacheName, keys) -> {
+            keys.forEach(key -> evictLocally(cacheName, key));
+            received.increment(keys.size());
+        });
+    }
+
+    private void evictLocally(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    /**
+     * The payload of a cache invalidation notification.
+     *
+     * @param node the identifier of the node that published it
+     * @param keys the invalidated keys by cache name
+     */
+    record CacheInvalidation(String node, Map<String, List<String>> keys) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.ylab.app.cache;
+
+/**
+ * CacheNames class lists the in-process caches invalidated across the cluster.
+ * Their keys are strings, so an invalidation received from another node evicts the same entry.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public final class CacheNames {
+    public static final String USERS = "users";
+    public static final String WORKOUTS = "workouts";
+
+    private CacheNames() {
+    }
+}
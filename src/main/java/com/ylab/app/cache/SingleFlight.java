@@ -0,0 +1,110 @@
+package com.ylab.app.cache;
+
+import com.ylab.app.service.props.SingleFlightProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight class lets concurrent identical reads share one in-flight computation.
+ * <p>
+ * The first caller of a key runs the computation; callers arriving while it runs wait for its result or
+ * its exception instead of running the same queries again. Nothing is kept once the computation finishes,
+ * so a later call always reads fresh data. A caller that has waited longer than the timeout runs the
+ * computation itself, so a stuck computation never holds the others back. Waiting callers share the result
+ * instance and must not modify it.
+ * <p>
+ * Publishes {@code single.flight.calls} tagged with the flight name and the role of the call: {@code leader},
+ * {@code coalesced} or {@code timeout}, and the {@code single.flight.in.flight} gauge.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+public class SingleFlight {
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new single flight.
+     *
+     * @param properties    the single flight properties
+     * @param meterRegistry the meter registry publishing the coalescing metrics
+     */
+    public SingleFlight(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("single.flight.in.flight", inFlight, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the computation, or waits for the identical one already in flight.
+     *
+     * @param name        the name of the flight, identifying the kind of computation
+     * @param key         the key of the computation within the flight, with value equality
+     * @param computation the computation
+     * @param <T>         the type of the result
+     * @return the result of the computation
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> computation) {
+        FlightKey flightKey = new FlightKey(name, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing == null) {
+            count(name, "leader");
+            try {
+                T result = computation.get();
+                flight.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(flightKey, flight);
+            }
+        }
+        try {
+            T result = (T) existing.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            count(name, "coalesced");
+            return result;
+        } catch (TimeoutException e) {
+            count(name, "timeout");
+            return computation.get();
+        } catch (ExecutionException e) {
+            count(name, "coalesced");
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name, e);
+        }
+    }
+
+    private void count(String name, String role) {
+        Counter.builder("single.flight.calls")
+                .tag("name", name)
+                .tag("role", role)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record FlightKey(String name, Object key) {
+    }
+}
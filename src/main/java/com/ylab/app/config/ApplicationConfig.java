@@ -1,5 +1,7 @@
 package com.ylab.app.config;
 
+import com.ylab.app.service.props.PasswordHashingProperties;
+import com.ylab.app.web.security.BoundedPasswordEncoder;
 import com.ylab.app.web.security.JwtTokenFilter;
 import com.ylab.app.web.security.JwtTokenProvider;
 import io.swagger.v3.oas.models.Components;
@@ -9,6 +11,7 @@ import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,7 +24,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -33,19 +35,21 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 @RequiredArgsConstructor(onConstructor = @__(@Lazy))
 public class ApplicationConfig {
     private final JwtTokenProvider tokenProvider;
     private final ApplicationContext context;
 
     /**
-     * Password encoder bean for encoding passwords using BCryptPasswordEncoder.
+     * Password encoder bean for encoding passwords using BCryptPasswordEncoder on a bounded hashing pool.
      *
+     * @param properties the password hashing properties
      * @return the password encoder bean
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), properties);
     }
 
     /**
@@ -134,6 +138,8 @@ public class ApplicationConfig {
                                 .permitAll()
                                 .requestMatchers("/v3/**")
                                 .permitAll()
+                                .requestMatchers("/actuator/health")
+                                .permitAll()
                                 .anyRequest().authenticated())
                 .anonymous(AbstractHttpConfigurer::disable)
                 .addFilterBefore(new JwtTokenFilter(tokenProvider),
@@ -0,0 +1,18 @@
+package com.ylab.app.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CacheConfig class enables the in-process caches.
+ * <p>
+ * The caches are Caffeine caches configured under {@code spring.cache}; entries changed on any node are
+ * evicted on every node through the {@link com.ylab.app.cache.CacheInvalidationBus}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,57 @@
+package com.ylab.app.config;
+
+import com.ylab.app.service.props.DataSourcePoolProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Set;
+
+/**
+ * DataSourcePoolConfig class applies the pool sizing from {@link DataSourcePoolProperties} to the primary Hikari pool.
+ * <p>
+ * The remaining Hikari settings (timeouts, leak detection, driver properties) are bound
+ * from {@code spring.datasource.hikari}; pool metrics are published by the actuator. An explicit
+ * {@code spring.datasource.hikari.maximum-pool-size} takes precedence over the derived size, and the replica
+ * pool is sized by its own settings.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Configuration
+public class DataSourcePoolConfig {
+    private static final Set<String> PRIMARY_POOLS = Set.of("dataSource", "primaryDataSource");
+    private static final String HIKARI_MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+    /**
+     * Creates a bean post processor that sets the maximum pool size of the primary {@link HikariDataSource}.
+     * <p>
+     * The sizing properties are bound straight from the environment: resolving them as a bean while the
+     * data source is being created would eagerly build the aspects whose dependencies need the data source.
+     *
+     * @param environment the environment holding the pool sizing properties
+     * @return the bean post processor
+     */
+    @Bean
+    public static BeanPostProcessor hikariPoolSizePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && PRIMARY_POOLS.contains(beanName)) {
+                    Binder binder = Binder.get(environment);
+                    if (binder.bind(HIKARI_MAXIMUM_POOL_SIZE, Integer.class).isBound()) {
+                        return bean;
+                    }
+                    DataSourcePoolProperties poolProperties = binder
+                            .bind(DataSourcePoolProperties.PREFIX, DataSourcePoolProperties.class)
+                            .orElseGet(DataSourcePoolProperties::new);
+                    dataSource.setMaximumPoolSize(poolProperties.resolveMaxSize());
+                }
+                return bean;
+            }
+        };
+    }
+}
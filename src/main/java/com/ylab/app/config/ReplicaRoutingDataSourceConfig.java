@@ -0,0 +1,123 @@
+package com.ylab.app.config;
+
+import com.ylab.app.dbService.routing.DataSourceRole;
+import com.ylab.app.dbService.routing.ReplicaLagMonitor;
+import com.ylab.app.dbService.routing.ReplicaRoutingDataSource;
+import com.ylab.app.service.props.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * ReplicaRoutingDataSourceConfig class configures routing of read-only transactions to a read replica.
+ * <p>
+ * Enabled with {@code datasource.replica.enabled=true}. Both pools inherit {@code spring.datasource.hikari};
+ * the replica pool may override them under {@code datasource.replica.hikari}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingDataSourceConfig {
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICA_HIKARI_PREFIX = "datasource.replica.hikari";
+
+    /**
+     * Creates the connection pool of the primary database.
+     *
+     * @param properties  the primary data source properties
+     * @param environment the environment holding the pool settings
+     * @return the primary connection pool
+     */
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    /**
+     * Creates the connection pool of the read replica.
+     *
+     * @param properties        the primary data source properties
+     * @param replicaProperties the read replica properties
+     * @param environment       the environment holding the pool settings
+     * @return the read replica connection pool
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              ReplicaDataSourceProperties replicaProperties,
+                                              Environment environment) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword())
+                .build();
+        Binder binder = Binder.get(environment);
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(dataSource.getPoolName() == null ? "replica-pool" : dataSource.getPoolName() + "-replica");
+        dataSource.setReadOnly(true);
+        binder.bind(REPLICA_HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    /**
+     * Creates the monitor tracking the replication lag of the read replica.
+     *
+     * @param replicaDataSource the read replica connection pool
+     * @param replicaProperties the read replica properties
+     * @param meterRegistry     the meter registry publishing the lag, if available
+     * @return the replica lag monitor
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaDataSourceProperties replicaProperties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), replicaProperties);
+        meterRegistry.ifAvailable(registry -> Gauge.builder("datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                .baseUnit("seconds")
+                .register(registry));
+        return monitor;
+    }
+
+    /**
+     * Creates the application data source routing read-only transactions to the replica.
+     *
+     * @param primaryDataSource the primary connection pool
+     * @param replicaDataSource the read replica connection pool
+     * @param replicaLagMonitor the replica lag monitor
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,51 @@
+package com.ylab.app.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WorkerThreads class creates the threads of the background executors of the application.
+ * <p>
+ * With {@code spring.threads.virtual.enabled} active on Java 21 the executors run on virtual threads, like
+ * request handling; otherwise they run on platform daemon threads. Either way the threads are named after
+ * the executor followed by a counter, and the pool sizes still bound the concurrency.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+public class WorkerThreads {
+    private final boolean virtual;
+
+    /**
+     * Instantiates new worker threads.
+     *
+     * @param environment the environment deciding whether virtual threads are used
+     */
+    public WorkerThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * Creates the thread factory of an executor.
+     *
+     * @param name the name of the executor threads
+     * @return the thread factory
+     */
+    public ThreadFactory factory(String name) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.ylab.app.dbService.dao;
+
+import com.ylab.app.model.idempotency.IdempotencyRecord;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * IdempotencyDao interface provides methods for storing the responses of requests sent with an idempotency key,
+ * shared by all application instances.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public interface IdempotencyDao {
+
+    /**
+     * Claims the idempotency key for a request, taking over the key if its previous use has expired.
+     * While the claiming transaction is open, a concurrent claim of the same key waits for it to finish.
+     *
+     * @param scope          the login of the user sending the request
+     * @param idempotencyKey the idempotency key
+     * @param requestHash    the hash of the request body
+     * @param ttl            the time the key is kept
+     * @return true if the key was claimed, false if an unexpired request already holds it
+     */
+    boolean claim(String scope, String idempotencyKey, String requestHash, Duration ttl);
+
+    /**
+     * Finds the unexpired request holding the idempotency key.
+     *
+     * @param scope          the login of the user sending the request
+     * @param idempotencyKey the idempotency key
+     * @return the request, or empty if the key is free
+     */
+    Optional<IdempotencyRecord> find(String scope, String idempotencyKey);
+
+    /**
+     * Stores the response of the request holding the idempotency key.
+     *
+     * @param scope          the login of the user sending the request
+     * @param idempotencyKey the idempotency key
+     * @param responseBody   the response serialized to JSON
+     */
+    void complete(String scope, String idempotencyKey, String responseBody);
+
+    /**
+     * Deletes a batch of expired requests.
+     *
+     * @param limit the maximum number of requests to delete
+     * @return the number of deleted requests
+     */
+    int deleteExpired(int limit);
+}
@@ -0,0 +1,41 @@
+package com.ylab.app.dbService.dao;
+
+import com.ylab.app.model.outbox.OutboxEvent;
+import com.ylab.app.model.outbox.OutboxEventType;
+
+import java.util.List;
+
+/**
+ * OutboxDao interface provides methods for writing change events to the outbox and taking them out for delivery.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public interface OutboxDao {
+
+    /**
+     * Appends a change event to the outbox in the current transaction.
+     *
+     * @param aggregateType the type of the changed entity
+     * @param aggregateId   the identifier of the changed entity
+     * @param eventType     the kind of change
+     * @param payload       the state of the entity after the change, serialized to JSON
+     */
+    void append(String aggregateType, Long aggregateId, OutboxEventType eventType, Object payload);
+
+    /**
+     * Locks the oldest undelivered events, skipping the ones locked by another relay.
+     * Must be called in a transaction, which holds the locks until the events are deleted.
+     *
+     * @param limit the maximum number of events
+     * @return the locked events in write order
+     */
+    List<OutboxEvent> lockBatch(int limit);
+
+    /**
+     * Deletes delivered events.
+     *
+     * @param ids the identifiers of the delivered events
+     */
+    void delete(List<Long> ids);
+}
@@ -0,0 +1,71 @@
+package com.ylab.app.dbService.dao;
+
+import com.ylab.app.model.token.RevokedSession;
+import com.ylab.app.model.user.User;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * RefreshTokenDao interface provides methods for storing issued refresh tokens and revoking login sessions.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public interface RefreshTokenDao {
+
+    /**
+     * Stores an issued refresh token.
+     *
+     * @param jti       the identifier of the token
+     * @param sessionId the identifier of the login session of the token
+     * @param userId    the identifier of the user the token was issued to
+     * @param expiresAt the time the token expires
+     */
+    void insert(UUID jti, UUID sessionId, Long userId, Instant expiresAt);
+
+    /**
+     * Marks an unused, unrevoked and unexpired refresh token as used.
+     *
+     * @param jti       the identifier of the token
+     * @param sessionId the identifier of the login session of the token
+     * @return the user the token was issued to, or empty if the token cannot be used
+     */
+    Optional<User> use(UUID jti, UUID sessionId);
+
+    /**
+     * Checks whether the refresh token was issued, whatever its state.
+     *
+     * @param jti       the identifier of the token
+     * @param sessionId the identifier of the login session of the token
+     * @return true if the token was issued and not yet deleted
+     */
+    boolean exists(UUID jti, UUID sessionId);
+
+    /**
+     * Revokes every refresh token of a login session.
+     *
+     * @param sessionId the identifier of the login session
+     * @return the number of revoked tokens
+     */
+    int revokeSession(UUID sessionId);
+
+    /**
+     * Finds the login sessions revoked within the given time.
+     *
+     * @param within the time since the revocation
+     * @return the revoked sessions with the time of their revocation
+     */
+    List<RevokedSession> findRevokedSessions(Duration within);
+
+    /**
+     * Deletes a batch of expired refresh tokens.
+     *
+     * @param limit the maximum number of tokens to delete
+     * @return the number of deleted tokens
+     */
+    int deleteExpired(int limit);
+}
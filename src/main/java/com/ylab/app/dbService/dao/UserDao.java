@@ -1,6 +1,8 @@
 package com.ylab.app.dbService.dao;
 
 import com.ylab.app.model.user.User;
+import com.ylab.app.model.user.UserSearchCursor;
+import com.ylab.app.model.user.UserSearchHit;
 
 import java.util.List;
 
@@ -21,14 +23,18 @@ public interface UserDao {
     public void insertUser(User user);
 
     /**
-     * Retrieves a list of all users from the database.
+     * Retrieves a page of users from the database, ordered by id.
+     * The users are read without their password.
      *
-     * @return a list of all users in the database
+     * @param afterId the id after which the page starts, zero for the first page
+     * @param limit   the maximum number of users to read
+     * @return the page of users
      */
-    public List<User> getAllUsers();
+    public List<User> getAllUsers(long afterId, int limit);
 
     /**
      * Find a user in the database by their ID.
+     * The user is read without their password.
      *
      * @param id the ID of the user to find
      * @return the user with the specified ID, or null if no such user is found
@@ -37,9 +43,29 @@ public interface UserDao {
 
     /**
      * Retrieves a user from the database based on their login.
+     * The user is read without their password.
      *
      * @param login the login (username) of the user to find
      * @return the user with the specified login, or null if no such user is found
      */
     User getUserByLogin(String login);
+
+    /**
+     * Retrieves a user with their password hash from the database based on their login, for authentication.
+     *
+     * @param login the login (username) of the user to find
+     * @return the user with the specified login, or null if no such user is found
+     */
+    User getUserCredentialsByLogin(String login);
+
+    /**
+     * Searches the users whose name starts with the given prefix, ignoring case, ranked by the similarity
+     * of the name to the prefix. The users are read without their password.
+     *
+     * @param prefix the prefix of the user names
+     * @param after  the cursor after which the page starts
+     * @param limit  the maximum number of users to read
+     * @return the page of matching users with their scores
+     */
+    List<UserSearchHit> searchUsers(String prefix, UserSearchCursor after, int limit);
 }
@@ -3,6 +3,7 @@ package com.ylab.app.dbService.dao;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.workout.Workout;
 import com.ylab.app.model.workout.WorkoutAdditionalParams;
+import com.ylab.app.model.workout.WorkoutChange;
 import com.ylab.app.model.workout.WorkoutType;
 
 import java.sql.SQLException;
@@ -83,4 +84,30 @@ public interface WorkoutDao {
      * @return the workout corresponding to the given ID
      */
     Workout findWorkoutById(Long workoutId);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the changes of a user's workouts with a change sequence greater than the given one.
+     *
+     * @param user  the user whose workout changes are being queried
+     * @param since the last change sequence already received
+     * @param limit the maximum number of changes
+     * @return the changes in change sequence order
+     */
+    List<WorkoutChange> findChangesSince(User user, long since, int limit);
+
+    /**
+     * Retrieves the highest change sequence assigned so far, after stamping the finished changes.
+     *
+     * @return the latest change sequence, zero if there are no changes
+     */
+    long findLatestChangeSeq();
+
+    /**
+     * Checks whether the user has changes of finished transactions that are still held back from the
+     * change sequence by an older transaction in progress.
+     *
+     * @param user the user whose workout changes are being checked
+     * @return true if some of the user's changes are waiting for a change sequence, false otherwise
+     */
+    boolean hasPendingChanges(User user);
+}
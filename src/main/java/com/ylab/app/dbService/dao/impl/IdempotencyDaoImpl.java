@@ -0,0 +1,102 @@
+package com.ylab.app.dbService.dao.impl;
+
+import com.ylab.app.dbService.dao.IdempotencyDao;
+import com.ylab.app.dbService.mappers.IdempotencyRecordRowMapper;
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.model.idempotency.IdempotencyRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.ylab.app.util.DataResultIdempotencyQuery.deleteExpiredIdempotencyRequestsQuery;
+import static com.ylab.app.util.DataResultIdempotencyQuery.getSelectIdempotencyRequest;
+import static com.ylab.app.util.DataResultIdempotencyQuery.insertIdempotencyRequestQuery;
+import static com.ylab.app.util.DataResultIdempotencyQuery.updateIdempotencyResponseQuery;
+
+/**
+ * IdempotencyDaoImpl class provides the implementation for storing idempotent requests in the database.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyDaoImpl implements IdempotencyDao {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims the idempotency key for a request, taking over the key if its previous use has expired.
+     *
+     * @param scope          the login of the user sending the request
+     * @param idempotencyKey the idempotency key
+     * @param requestHash    the hash of the request body
+     * @param ttl            the time the key is kept
+     * @return true if the key was claimed, false if an unexpired request already holds it
+     * @throws DatabaseWriteException if an error occurs during the database operation
+     */
+    @Override
+    public boolean claim(String scope, String idempotencyKey, String requestHash, Duration ttl) {
+        try {
+            return jdbcTemplate.update(insertIdempotencyRequestQuery(),
+                    scope, idempotencyKey, requestHash, ttl.toMillis() / 1000.0) > 0;
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error claiming idempotency key: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finds the unexpired request holding the idempotency key.
+     *
+     * @param scope          the login of the user sending the request
+     * @param idempotencyKey the idempotency key
+     * @return the request, or empty if the key is free
+     * @throws DatabaseReadException if an error occurs during the database operation
+     */
+    @Override
+    public Optional<IdempotencyRecord> find(String scope, String idempotencyKey) {
+        try {
+            return jdbcTemplate.query(getSelectIdempotencyRequest(), new IdempotencyRecordRowMapper(),
+                    scope, idempotencyKey).stream().findFirst();
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Invalid read " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stores the response of the request holding the idempotency key.
+     *
+     * @param scope          the login of the user sending the request
+     * @param idempotencyKey the idempotency key
+     * @param responseBody   the response serialized to JSON
+     * @throws DatabaseWriteException if an error occurs during the database operation
+     */
+    @Override
+    public void complete(String scope, String idempotencyKey, String responseBody) {
+        try {
+            jdbcTemplate.update(updateIdempotencyResponseQuery(), responseBody, scope, idempotencyKey);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error storing idempotent response: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes a batch of expired requests.
+     *
+     * @param limit the maximum number of requests to delete
+     * @return the number of deleted requests
+     * @throws DatabaseWriteException if an error occurs during the database operation
+     */
+    @Override
+    public int deleteExpired(int limit) {
+        try {
+            return jdbcTemplate.update(deleteExpiredIdempotencyRequestsQuery(), limit);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error deleting expired idempotency keys: " + e.getMessage());
+        }
+    }
+}
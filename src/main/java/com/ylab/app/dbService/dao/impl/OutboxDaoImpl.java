@@ -0,0 +1,90 @@
+package com.ylab.app.dbService.dao.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.dbService.dao.OutboxDao;
+import com.ylab.app.dbService.mappers.OutboxEventRowMapper;
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.model.outbox.OutboxEvent;
+import com.ylab.app.model.outbox.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static com.ylab.app.util.DataResultOutboxQuery.deleteOutboxEventsQuery;
+import static com.ylab.app.util.DataResultOutboxQuery.getSelectOutboxBatch;
+import static com.ylab.app.util.DataResultOutboxQuery.insertOutboxEventQuery;
+
+/**
+ * OutboxDaoImpl class provides the implementation for storing change events in the outbox table.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxDaoImpl implements OutboxDao {
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Appends a change event to the outbox in the current transaction.
+     *
+     * @param aggregateType the type of the changed entity
+     * @param aggregateId   the identifier of the changed entity
+     * @param eventType     the kind of change
+     * @param payload       the state of the entity after the change, serialized to JSON
+     * @throws DatabaseWriteException if the payload cannot be serialized or the event cannot be written
+     */
+    @Override
+    public void append(String aggregateType, Long aggregateId, OutboxEventType eventType, Object payload) {
+        try {
+            jdbcTemplate.update(insertOutboxEventQuery(),
+                    aggregateType, aggregateId, eventType.name(), objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new DatabaseWriteException("Error serializing outbox event: " + e.getMessage(), e);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error inserting outbox event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Locks the oldest undelivered events, skipping the ones locked by another relay.
+     *
+     * @param limit the maximum number of events
+     * @return the locked events in write order
+     * @throws DatabaseReadException if an error occurs during the database operation
+     */
+    @Override
+    public List<OutboxEvent> lockBatch(int limit) {
+        try {
+            return jdbcTemplate.query(getSelectOutboxBatch(), new OutboxEventRowMapper(), limit);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Invalid read " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes delivered events.
+     *
+     * @param ids the identifiers of the delivered events
+     * @throws DatabaseWriteException if an error occurs during the database operation
+     */
+    @Override
+    public void delete(List<Long> ids) {
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(deleteOutboxEventsQuery());
+                ps.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+                return ps;
+            });
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error deleting outbox events: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.ylab.app.dbService.dao.impl;
+
+import com.ylab.app.dbService.dao.RefreshTokenDao;
+import com.ylab.app.dbService.mappers.RevokedSessionRowMapper;
+import com.ylab.app.dbService.mappers.UserProfileRowMapper;
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.model.token.RevokedSession;
+import com.ylab.app.model.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.ylab.app.util.DataResultRefreshTokenQuery.deleteExpiredRefreshTokensQuery;
+import static com.ylab.app.util.DataResultRefreshTokenQuery.getSelectRefreshTokenExists;
+import static com.ylab.app.util.DataResultRefreshTokenQuery.getSelectRevokedSessions;
+import static com.ylab.app.util.DataResultRefreshTokenQuery.insertRefreshTokenQuery;
+import static com.ylab.app.util.DataResultRefreshTokenQuery.revokeRefreshTokenFamilyQuery;
+import static com.ylab.app.util.DataResultRefreshTokenQuery.useRefreshTokenQuery;
+
+/**
+ * RefreshTokenDaoImpl class provides the implementation for storing refresh tokens in the database.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenDaoImpl implements RefreshTokenDao {
+    private final JdbcTemplate jdbcTemplate;
+    private final UserProfileRowMapper userProfileRowMapper;
+
+    /**
+     * Stores an issued refresh token.
+     *
+     * @param jti       the identifier of the token
+     * @param sessionId the identifier of the login session of the token
+     * @param userId    the identifier of the user the token was issued to
+     * @param expiresAt the time the token expires
+     * @throws DatabaseWriteException if an error occurs during the database operation
+     */
+    @Override
+    public void insert(UUID jti, UUID sessionId, Long userId, Instant expiresAt) {
+        try {
+            jdbcTemplate.update(insertRefreshTokenQuery(), jti, sessionId, userId, Timestamp.from(expiresAt));
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error inserting refresh token: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Marks an unused, unrevoked and unexpired refresh token as used.
+     *
+     * @param jti       the identifier of the token
+     * @param sessionId the identifier of the login session of the token
+     * @return the profile of the user the token was issued to, without the password, or empty if the token cannot be used
+     * @throws DatabaseWriteException if an error occurs during the database operation
+     */
+    @Override
+    public Optional<User> use(UUID jti, UUID sessionId) {
+        try {
+            return jdbcTemplate.query(useRefreshTokenQuery(), userProfileRowMapper, jti, sessionId).stream().findFirst();
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error using refresh token: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether the refresh token was issued, whatever its state.
+     *
+     * @param jti       the identifier of the token
+     * @param sessionId the identifier of the login session of the token
+     * @return true if the token was issued and not yet deleted
+     * @throws DatabaseReadException if an error occurs during the database operation
+     */
+    @Override
+    public boolean exists(UUID jti, UUID sessionId) {
+        try {
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(getSelectRefreshTokenExists(), Boolean.class,
+                    jti, sessionId));
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Invalid read " + e.getMessage());
+        }
+    }
+
+    /**
+     * Revokes every refresh token of a login session.
+     *
+     * @param sessionId the identifier of the login session
+     * @return the number of revoked tokens
+     * @throws DatabaseWriteException if an error occurs during the database operation
+     */
+    @Override
+    public int revokeSession(UUID sessionId) {
+        try {
+            return jdbcTemplate.update(revokeRefreshTokenFamilyQuery(), sessionId);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error revoking refresh tokens: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finds the login sessions revoked within the given time.
+     *
+     * @param within the time since the revocation
+     * @return the revoked sessions with the time of their revocation
+     * @throws DatabaseReadException if an error occurs during the database operation
+     */
+    @Override
+    public List<RevokedSession> findRevokedSessions(Duration within) {
+        try {
+            return jdbcTemplate.query(getSelectRevokedSessions(), new RevokedSessionRowMapper(),
+                    within.toMillis() / 1000.0);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Invalid read " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes a batch of expired refresh tokens.
+     *
+     * @param limit the maximum number of tokens to delete
+     * @return the number of deleted tokens
+     * @throws DatabaseWriteException if an error occurs during the database operation
+     */
+    @Override
+    public int deleteExpired(int limit) {
+        try {
+            return jdbcTemplate.update(deleteExpiredRefreshTokensQuery(), limit);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error deleting expired refresh tokens: " + e.getMessage());
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.ylab.app.dbService.dao.impl;
 
 import com.ylab.app.dbService.dao.UserDao;
+import com.ylab.app.dbService.mappers.UserProfileRowMapper;
 import com.ylab.app.dbService.mappers.UserRowMapper;
+import com.ylab.app.dbService.mappers.UserSearchHitRowMapper;
 import com.ylab.app.exception.dbException.DatabaseReadException;
 import com.ylab.app.exception.dbException.DatabaseWriteException;
 import com.ylab.app.model.user.User;
+import com.ylab.app.model.user.UserSearchCursor;
+import com.ylab.app.model.user.UserSearchHit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -22,6 +26,7 @@ import static com.ylab.app.util.DataResultUserQuery.*;
 /**
  * The UserDaoImpl class provides methods for data access related to users in the database.
  * It includes methods for inserting a new user, finding a user by name and password, and getting a list of all users.
+ * Only the credentials lookup reads the password hash; the other queries read the user profile projection.
  *
  * @author razlivinsky
  * @since 02.05.2024
@@ -31,6 +36,8 @@ import static com.ylab.app.util.DataResultUserQuery.*;
 public class UserDaoImpl implements UserDao {
     private final JdbcTemplate jdbcTemplate;
     private final UserRowMapper userRowMapper;
+    private final UserProfileRowMapper userProfileRowMapper;
+    private final UserSearchHitRowMapper userSearchHitRowMapper;
 
     /**
      * Inserts the provided user into the database.
@@ -56,15 +63,17 @@ public class UserDaoImpl implements UserDao {
     }
 
     /**
-     * Retrieves a list of all users from the database.
+     * Retrieves a page of users from the database, ordered by id.
      *
-     * @return a list of all users in the database
+     * @param afterId the id after which the page starts, zero for the first page
+     * @param limit   the maximum number of users to read
+     * @return the page of users
      * @throws DatabaseReadException if an error occurs while interacting with the database
      */
     @Override
-    public List<User> getAllUsers() {
+    public List<User> getAllUsers(long afterId, int limit) {
         try {
-            return jdbcTemplate.query(getListUsersQuery(), userRowMapper);
+            return jdbcTemplate.query(getListUsersQuery(), userProfileRowMapper, afterId, limit);
         } catch (DataAccessException e) {
             throw new DatabaseReadException("Failed to retrieve all users", e);
         }
@@ -80,7 +89,7 @@ public class UserDaoImpl implements UserDao {
     @Override
     public User findUserById(long id) {
         try {
-            return jdbcTemplate.queryForObject(getFindUserById(), userRowMapper, id);
+            return jdbcTemplate.queryForObject(getFindUserById(), userProfileRowMapper, id);
         } catch (EmptyResultDataAccessException e) {
             return null;
         } catch (DataAccessException e) {
@@ -98,11 +107,50 @@ public class UserDaoImpl implements UserDao {
     @Override
     public User getUserByLogin(String login) {
         try {
-            return jdbcTemplate.queryForObject(getFindUserByLogin(), userRowMapper, login);
+            return jdbcTemplate.queryForObject(getFindUserByLogin(), userProfileRowMapper, login);
         } catch (EmptyResultDataAccessException e) {
             return null;
         } catch (DataAccessException e) {
             throw new DatabaseReadException("Failed to retrieve user by login", e);
         }
     }
+
+    /**
+     * Retrieves a user with their password hash from the database by their login name.
+     *
+     * @param login the login name of the user
+     * @return the user with the specified login name, or null if no such user is found
+     * @throws DatabaseReadException if an error occurs while interacting with the database
+     */
+    @Override
+    public User getUserCredentialsByLogin(String login) {
+        try {
+            return jdbcTemplate.queryForObject(getFindUserCredentialsByLogin(), userRowMapper, login);
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to retrieve user credentials by login", e);
+        }
+    }
+
+    /**
+     * Searches the users whose name starts with the given prefix, ignoring case, ranked by the similarity
+     * of the name to the prefix. The LIKE wildcards in the prefix are matched literally.
+     *
+     * @param prefix the prefix of the user names
+     * @param after  the cursor after which the page starts
+     * @param limit  the maximum number of users to read
+     * @return the page of matching users with their scores
+     * @throws DatabaseReadException if an error occurs while interacting with the database
+     */
+    @Override
+    public List<UserSearchHit> searchUsers(String prefix, UserSearchCursor after, int limit) {
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        try {
+            return jdbcTemplate.query(getSearchUsersQuery(), userSearchHitRowMapper,
+                    prefix, pattern, prefix, -after.getScore(), after.getId(), limit);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Failed to search users", e);
+        }
+    }
 }
\ No newline at end of file
@@ -1,33 +1,54 @@
 package com.ylab.app.dbService.dao.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ylab.app.dbService.dao.OutboxDao;
 import com.ylab.app.dbService.dao.WorkoutDao;
+import com.ylab.app.dbService.dictionary.ParamDefinitionDictionary;
 import com.ylab.app.dbService.mappers.WorkoutAdditionalParamsRowMapper;
+import com.ylab.app.dbService.mappers.WorkoutChangeRowMapper;
+import com.ylab.app.dbService.mappers.WorkoutParamsJson;
 import com.ylab.app.dbService.mappers.WorkoutRowMapper;
+import com.ylab.app.dbService.partition.WorkoutPartitionMaintainer;
+import com.ylab.app.dbService.sequence.WorkoutIdAllocator;
 import com.ylab.app.exception.dbException.DatabaseReadException;
 import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.model.outbox.OutboxEvent;
+import com.ylab.app.model.outbox.OutboxEventType;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.workout.Workout;
 import com.ylab.app.model.workout.WorkoutAdditionalParams;
+import com.ylab.app.model.workout.WorkoutChange;
 import com.ylab.app.model.workout.WorkoutType;
+import com.ylab.app.service.props.WorkoutParamsProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static com.ylab.app.util.DataResultWorkoutQuery.*;
 
 /**
  * WorkoutDaoImpl class provides the implementation for interacting with workout data in the database.
+ * <p>
+ * Every change of a workout appends a change event to the outbox in the same transaction, so the events
+ * delivered by the outbox relay match the committed data. Workout types are stored as their codes and
+ * parameter names as their ids in the {@link ParamDefinitionDictionary}. The ids of new workouts and their
+ * params come from the {@link WorkoutIdAllocator}, so a workout is written with a single statement.
+ * <p>
+ * With the jsonb layout of {@link WorkoutParamsProperties} the parameters are written to the params column of
+ * the workout row instead of workout_param, so a workout is read with a single statement as well.
  *
  * @author razlivinsky
  * @since 02.05.2024
@@ -36,35 +57,57 @@ import static com.ylab.app.util.DataResultWorkoutQuery.*;
 @RequiredArgsConstructor
 public class WorkoutDaoImpl implements WorkoutDao {
     private final JdbcTemplate jdbcTemplate;
+    private final WorkoutPartitionMaintainer partitionMaintainer;
+    private final OutboxDao outboxDao;
+    private final ParamDefinitionDictionary paramDictionary;
+    private final WorkoutRowMapper workoutRowMapper;
+    private final WorkoutParamsJson paramsJson;
+    private final WorkoutParamsProperties paramsProperties;
+    private final WorkoutIdAllocator idAllocator;
 
     /**
-     * Inserts a new workout into the database along with its additional parameters.
+     * Inserts a new workout into the database along with its additional parameters and a created event.
+     * The ids are allocated up front, so the workout and its param rows are sent in a single statement.
      *
      * @param workout the workout to insert
      * @throws DatabaseWriteException if an error occurs during the database operation
      */
     @Override
+    @Transactional
     public void insertWorkout(Workout workout) {
-        KeyHolder keyHolder = new GeneratedKeyHolder();
         try {
+            partitionMaintainer.ensurePartitionFor(workout.getDate());
+            String params = paramsColumn(workout);
+            List<WorkoutAdditionalParams> paramRows = params == null ? workout.getParams() : List.of();
+            long workoutId = idAllocator.nextWorkoutId();
+            long[] paramIds = idAllocator.nextParamIds(paramRows.size());
+            Long[] ids = new Long[paramRows.size()];
+            Integer[] definitionIds = new Integer[paramRows.size()];
+            Long[] values = new Long[paramRows.size()];
+            for (int i = 0; i < paramRows.size(); i++) {
+                ids[i] = paramIds[i];
+                definitionIds[i] = paramDictionary.idOf(paramRows.get(i).getParams());
+                values[i] = paramRows.get(i).getValue();
+            }
             jdbcTemplate.update(connection -> {
-                PreparedStatement ps = connection.prepareStatement(insertWorkoutQuery(), new String[]{"id"});
-                ps.setString(1, String.valueOf(workout.getType()));
-                ps.setTimestamp(2, Timestamp.valueOf(workout.getDate()));
-                ps.setInt(3, workout.getDuration());
-                ps.setInt(4, workout.getCaloriesBurned());
-                ps.setString(5, workout.getUser().getName());
+                PreparedStatement ps = connection.prepareStatement(insertWorkoutQuery());
+                ps.setLong(1, workoutId);
+                ps.setShort(2, workout.getType().getCode());
+                ps.setTimestamp(3, Timestamp.valueOf(workout.getDate()));
+                ps.setInt(4, workout.getDuration());
+                ps.setInt(5, workout.getCaloriesBurned());
+                ps.setLong(6, workout.getUser().getId());
+                ps.setString(7, params);
+                ps.setArray(8, connection.createArrayOf("bigint", ids));
+                ps.setArray(9, connection.createArrayOf("integer", definitionIds));
+                ps.setArray(10, connection.createArrayOf("bigint", values));
                 return ps;
-            }, keyHolder);
-            long workoutId = keyHolder.getKey().longValue();
+            });
             workout.setId(workoutId);
-            for (WorkoutAdditionalParams params : workout.getParams()) {
-                params.setId(workoutId);
-                jdbcTemplate.update(insertWorkoutParamsQuery(),
-                        params.getId(),
-                        params.getParams(),
-                        params.getValue());
+            for (WorkoutAdditionalParams param : workout.getParams()) {
+                param.setId(workoutId);
             }
+            outboxDao.append(OutboxEvent.WORKOUT, workoutId, OutboxEventType.WORKOUT_CREATED, workoutPayload(workout));
         } catch (DataAccessException e) {
             throw new DatabaseWriteException("Error inserting workout: " + e.getMessage());
         }
@@ -72,6 +115,7 @@ public class WorkoutDaoImpl implements WorkoutDao {
 
     /**
      * Retrieves a list of workouts for a specific user on a given date from the database.
+     * The date is queried as a half-open range of the day so only its partition is scanned.
      *
      * @param user the user for whom workouts are being queried
      * @param targetDate the target date for the workouts
@@ -82,8 +126,10 @@ public class WorkoutDaoImpl implements WorkoutDao {
     public List<Workout> findWorkoutsByUserAndDate(User user, LocalDateTime targetDate) {
         try {
             return jdbcTemplate.query(getWorkoutUserOnDateQuery(),
-                    new WorkoutRowMapper(jdbcTemplate),
-                    user.getName(), Timestamp.valueOf(targetDate));
+                    workoutRowMapper,
+                    user.getId(),
+                    Timestamp.valueOf(targetDate.toLocalDate().atStartOfDay()),
+                    Timestamp.valueOf(targetDate.toLocalDate().plusDays(1).atStartOfDay()));
         } catch (DataAccessException e) {
             throw new DatabaseReadException("Invalid read " + e.getMessage());
         }
@@ -100,7 +146,7 @@ public class WorkoutDaoImpl implements WorkoutDao {
     public Workout findWorkoutById(Long workoutId) {
         try {
             return jdbcTemplate.queryForObject(getSelectWorkoutById(),
-                    new WorkoutRowMapper(jdbcTemplate), workoutId);
+                    workoutRowMapper, workoutId);
         } catch (EmptyResultDataAccessException e) {
             return null;
         } catch (DataAccessException e) {
@@ -118,34 +164,46 @@ public class WorkoutDaoImpl implements WorkoutDao {
     public List<Workout> findAllWorkoutList() {
         try {
             return jdbcTemplate.query(getSelectWorkoutList(),
-                    new WorkoutRowMapper(jdbcTemplate));
+                    workoutRowMapper);
         } catch (DataAccessException e) {
             throw new DatabaseReadException("Invalid read " + e.getMessage());
         }
     }
 
     /**
-     * Updates an existing workout in the database.
+     * Updates an existing workout in the database and appends an updated event if the workout exists.
      *
      * @param updatedWorkout the updated workout details
      * @param workoutId the ID of the workout to update
      * @throws DatabaseWriteException if an error occurs during the database operation
      */
     @Override
+    @Transactional
     public void editWorkout(Workout updatedWorkout, Long workoutId) {
         try {
-            jdbcTemplate.update(editWorkoutQuery(),
-                    updatedWorkout.getType().toString(),
+            partitionMaintainer.ensurePartitionFor(updatedWorkout.getDate());
+            String params = paramsColumn(updatedWorkout);
+            int updated = jdbcTemplate.update(editWorkoutQuery(),
+                    updatedWorkout.getType().getCode(),
                     Timestamp.valueOf(updatedWorkout.getDate()),
                     updatedWorkout.getDuration(),
                     updatedWorkout.getCaloriesBurned(),
-                    updatedWorkout.getUser().getName(),
+                    updatedWorkout.getUser().getId(),
+                    params,
                     workoutId);
-            for (WorkoutAdditionalParams params : updatedWorkout.getParams()) {
-                jdbcTemplate.update(editWorkoutParamsQuery(),
-                        params.getParams(),
-                        params.getValue(),
-                        workoutId);
+            if (params == null) {
+                for (WorkoutAdditionalParams param : updatedWorkout.getParams()) {
+                    jdbcTemplate.update(editWorkoutParamsQuery(),
+                            paramDictionary.idOf(param.getParams()),
+                            param.getValue(),
+                            workoutId,
+                            Timestamp.valueOf(updatedWorkout.getDate()));
+                }
+            }
+            if (updated > 0) {
+                Map<String, Object> payload = workoutPayload(updatedWorkout);
+                payload.put("id", workoutId);
+                outboxDao.append(OutboxEvent.WORKOUT, workoutId, OutboxEventType.WORKOUT_UPDATED, payload);
             }
         } catch (DataAccessException e) {
             throw new DatabaseWriteException("Error updating workout: " + e.getMessage());
@@ -153,16 +211,22 @@ public class WorkoutDaoImpl implements WorkoutDao {
     }
 
     /**
-     * Deletes a workout from the database based on its ID.
+     * Deletes a workout from the database based on its ID and appends a deleted event if it existed.
      *
      * @param workoutId the ID of the workout to delete
      * @throws DatabaseWriteException if an error occurs during the database operation
      */
     @Override
+    @Transactional
     public void deleteWorkout(Long workoutId) {
         try {
-            jdbcTemplate.update(deleteWorkoutParamsQuery(), workoutId);
-            jdbcTemplate.update(deleteWorkoutQuery(), workoutId);
+            if (!paramsProperties.isJsonb()) {
+                jdbcTemplate.update(deleteWorkoutParamsQuery(), workoutId);
+            }
+            int deleted = jdbcTemplate.update(deleteWorkoutQuery(), workoutId);
+            if (deleted > 0) {
+                outboxDao.append(OutboxEvent.WORKOUT, workoutId, OutboxEventType.WORKOUT_DELETED, Map.of("id", workoutId));
+            }
         } catch (DataAccessException e) {
             throw new DatabaseWriteException("Error deleting workout: " + e.getMessage());
         }
@@ -182,7 +246,7 @@ public class WorkoutDaoImpl implements WorkoutDao {
       try {
           return jdbcTemplate.queryForObject(getSelectCaloriesTotal(),
                   Integer.class,
-                  user.getName(), Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+                  user.getId(), Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
         } catch (DataAccessException e) {
             throw new DatabaseReadException("Error reading total calories: " + e.getMessage());
         }
@@ -190,6 +254,9 @@ public class WorkoutDaoImpl implements WorkoutDao {
 
     /**
      * Retrieves a list of workout additional parameters for a specific user, workout type, and date range.
+     * Workouts and their parameters are joined in a single query restricted to the partitions of the range.
+     * With the jsonb layout the parameters are read from the params column; workouts written before the
+     * switch have no params document, so if the range holds any, their parameter rows are read as well.
      *
      * @param user        the user for whom the additional parameters are being queried
      * @param workoutType the type of workout for which the parameters are being queried
@@ -200,20 +267,120 @@ public class WorkoutDaoImpl implements WorkoutDao {
      */
     @Override
     public List<WorkoutAdditionalParams> findWorkoutParamsByTypeUserAndDate(User user, WorkoutType workoutType, LocalDateTime startDate, LocalDateTime endDate) {
-        List<WorkoutAdditionalParams> paramsList = new ArrayList<>();
         try {
-            List<Long> workoutIds = jdbcTemplate.query(getSelectWorkoutParamsId(),
-                    (rs, rowNum) -> rs.getLong("id"),
-                    workoutType.toString(), user.getName(), Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
-
-            for (Long workoutId : workoutIds) {
-                paramsList.addAll(jdbcTemplate.query(getSelectWorkoutParamsStatistic(),
-                        new WorkoutAdditionalParamsRowMapper(),
-                        workoutId));
+            Timestamp start = Timestamp.valueOf(startDate);
+            Timestamp end = Timestamp.valueOf(endDate);
+            if (paramsProperties.isJsonb()) {
+                List<List<WorkoutAdditionalParams>> jsonbParams = jdbcTemplate.query(getSelectWorkoutParamsJsonbByCriteria(),
+                        (rs, rowNum) -> {
+                            String params = rs.getString("params");
+                            return params == null ? null : workoutRowMapper.readParams(rs.getLong("id"), params);
+                        },
+                        workoutType.getCode(), user.getId(), start, end);
+                List<WorkoutAdditionalParams> params = new ArrayList<>();
+                jsonbParams.stream().filter(Objects::nonNull).forEach(params::addAll);
+                if (jsonbParams.contains(null)) {
+                    params.addAll(jdbcTemplate.query(getSelectWorkoutParamsWithoutJsonbByCriteria(),
+                            new WorkoutAdditionalParamsRowMapper(paramDictionary),
+                            workoutType.getCode(), user.getId(), start, end, start, end));
+                }
+                return params;
             }
-            return paramsList;
+            return jdbcTemplate.query(getSelectWorkoutParamsByCriteria(),
+                    new WorkoutAdditionalParamsRowMapper(paramDictionary),
+                    workoutType.getCode(), user.getId(), start, end, start, end);
         } catch (DataAccessException e) {
             throw new DatabaseReadException("Error reading workout parameters: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the changes of a user's workouts with a change sequence greater than the given one.
+     * The changes of finished transactions are stamped with their sequence first; the changes of transactions
+     * still in progress are left for a later call, so they never appear below a sequence already returned.
+     *
+     * @param user  the user whose workout changes are being queried
+     * @param since the last change sequence already received
+     * @param limit the maximum number of changes
+     * @return the changes in change sequence order
+     * @throws DatabaseReadException if an error occurs during the database operation
+     */
+    @Override
+    public List<WorkoutChange> findChangesSince(User user, long since, int limit) {
+        try {
+            jdbcTemplate.queryForObject(stampWorkoutChangesQuery(), Integer.class);
+            return jdbcTemplate.query(getSelectWorkoutChanges(),
+                    new WorkoutChangeRowMapper(workoutRowMapper),
+                    user.getId(), since, limit);
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Error reading workout changes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the highest change sequence assigned so far, after stamping the finished changes.
+     *
+     * @return the latest change sequence, zero if there are no changes
+     * @throws DatabaseReadException if an error occurs during the database operation
+     */
+    @Override
+    public long findLatestChangeSeq() {
+        try {
+            jdbcTemplate.queryForObject(stampWorkoutChangesQuery(), Integer.class);
+            Long seq = jdbcTemplate.queryForObject(getSelectLatestWorkoutChangeSeq(), Long.class);
+            return seq == null ? 0 : seq;
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Error reading latest workout change: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether the user has finished changes still waiting for a change sequence.
+     *
+     * @param user the user whose workout changes are being checked
+     * @return true if some of the user's changes are waiting for a change sequence, false otherwise
+     * @throws DatabaseReadException if an error occurs during the database operation
+     */
+    @Override
+    public boolean hasPendingChanges(User user) {
+        try {
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(getSelectPendingWorkoutChanges(),
+                    Boolean.class, user.getId()));
+        } catch (DataAccessException e) {
+            throw new DatabaseReadException("Error reading pending workout changes: " + e.getMessage());
+        }
+    }
+
+    private String paramsColumn(Workout workout) {
+        if (!paramsProperties.isJsonb()) {
+            return null;
+        }
+        try {
+            return paramsJson.write(workout.getParams());
+        } catch (JsonProcessingException e) {
+            throw new DatabaseWriteException("Error serializing workout params: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Object> workoutPayload(Workout workout) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", workout.getId());
+        payload.put("type", workout.getType());
+        payload.put("date", workout.getDate());
+        payload.put("duration", workout.getDuration());
+        payload.put("caloriesBurned", workout.getCaloriesBurned());
+        payload.put("userId", workout.getUser().getId());
+        payload.put("userName", workout.getUser().getName());
+        payload.put("params", workout.getParams().stream()
+                .map(WorkoutDaoImpl::paramsPayload)
+                .toList());
+        return payload;
+    }
+
+    private static Map<String, Object> paramsPayload(WorkoutAdditionalParams params) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("param", params.getParams());
+        payload.put("value", params.getValue());
+        return payload;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ylab.app.dbService.dictionary;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.ylab.app.util.DataResultWorkoutQuery.getSelectParamDefinitionId;
+import static com.ylab.app.util.DataResultWorkoutQuery.getSelectParamDefinitionName;
+import static com.ylab.app.util.DataResultWorkoutQuery.insertParamDefinitionQuery;
+
+/**
+ * ParamDefinitionDictionary class translates workout parameter names to their dictionary ids and back.
+ * <p>
+ * Workout parameters store the id of their name from {@code param_definition}. Entries are never deleted or
+ * renamed, so both directions are cached for the lifetime of the application and only a name or id not seen
+ * before costs a round trip. A name is looked up before it is inserted, since even a conflicting insert
+ * consumes an id. A new name is added to the dictionary within the current transaction and only
+ * cached for lookups by name once that transaction commits, so a rolled back id is never handed out again;
+ * ids are not reused, so a name read by id is cached for lookups by id right away.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class ParamDefinitionDictionary {
+    private static final ResultSetExtractor<Integer> ID_EXTRACTOR = rs -> rs.next() ? rs.getInt(1) : null;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the dictionary id of a parameter name, adding the name to the dictionary if it is new.
+     *
+     * @param name the parameter name
+     * @return the id of the name, or null if the name is null
+     * @throws DataAccessException if the name could not be read or added, or its id is not visible afterwards
+     */
+    public Integer idOf(String name) {
+        if (name == null) {
+            return null;
+        }
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+        id = jdbcTemplate.query(getSelectParamDefinitionId(), ID_EXTRACTOR, name);
+        if (id == null) {
+            id = jdbcTemplate.query(insertParamDefinitionQuery(), ID_EXTRACTOR, name);
+        }
+        if (id == null) {
+            id = jdbcTemplate.query(getSelectParamDefinitionId(), ID_EXTRACTOR, name);
+        }
+        if (id == null) {
+            throw new EmptyResultDataAccessException("Parameter name " + name + " was neither added nor found", 1);
+        }
+        int definitionId = id;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(definitionId, name);
+                }
+            });
+        } else {
+            remember(definitionId, name);
+        }
+        return id;
+    }
+
+    /**
+     * Retrieves the parameter name of a dictionary id.
+     *
+     * @param id the dictionary id
+     * @return the parameter name, or null if the id is null
+     * @throws DataAccessException if the name could not be read
+     */
+    public String nameOf(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        String name = namesById.get(id);
+        if (name == null) {
+            name = jdbcTemplate.queryForObject(getSelectParamDefinitionName(), String.class, id);
+            namesById.put(id, name);
+        }
+        return name;
+    }
+
+    private void remember(int id, String name) {
+        idsByName.put(name, id);
+        namesById.put(id, name);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ylab.app.dbService.mappers;
+
+import com.ylab.app.model.idempotency.IdempotencyRecord;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * IdempotencyRecordRowMapper class is responsible for mapping rows of the idempotency table to IdempotencyRecord instances.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class IdempotencyRecordRowMapper implements RowMapper<IdempotencyRecord> {
+
+    /**
+     * Maps a row of the ResultSet to an IdempotencyRecord object.
+     *
+     * @param rs     the ResultSet, pointing to the current row being mapped
+     * @param rowNum the number of the current row
+     * @return an IdempotencyRecord object with data fetched from the ResultSet
+     * @throws SQLException if a database access error occurs
+     */
+    @Override
+    public IdempotencyRecord mapRow(ResultSet rs, int rowNum) throws SQLException {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setScope(rs.getString("scope"));
+        record.setIdempotencyKey(rs.getString("idempotency_key"));
+        record.setRequestHash(rs.getString("request_hash"));
+        record.setResponseBody(rs.getString("response_body"));
+        return record;
+    }
+}
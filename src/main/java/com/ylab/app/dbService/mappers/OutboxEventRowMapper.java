@@ -0,0 +1,37 @@
+package com.ylab.app.dbService.mappers;
+
+import com.ylab.app.model.outbox.OutboxEvent;
+import com.ylab.app.model.outbox.OutboxEventType;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * OutboxEventRowMapper class is responsible for mapping rows of the outbox table to OutboxEvent instances.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class OutboxEventRowMapper implements RowMapper<OutboxEvent> {
+
+    /**
+     * Maps a row of the ResultSet to an OutboxEvent object.
+     *
+     * @param rs     the ResultSet, pointing to the current row being mapped
+     * @param rowNum the number of the current row
+     * @return an OutboxEvent object with data fetched from the ResultSet
+     * @throws SQLException if a database access error occurs
+     */
+    @Override
+    public OutboxEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(rs.getLong("id"));
+        event.setAggregateType(rs.getString("aggregate_type"));
+        event.setAggregateId(rs.getLong("aggregate_id"));
+        event.setEventType(OutboxEventType.valueOf(rs.getString("event_type")));
+        event.setPayload(rs.getString("payload"));
+        event.setCreatedAt(rs.getTimestamp("created_at").toInstant());
+        return event;
+    }
+}
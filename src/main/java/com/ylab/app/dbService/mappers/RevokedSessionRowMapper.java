@@ -0,0 +1,33 @@
+package com.ylab.app.dbService.mappers;
+
+import com.ylab.app.model.token.RevokedSession;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * RevokedSessionRowMapper class is responsible for mapping revoked refresh token families to RevokedSession instances.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class RevokedSessionRowMapper implements RowMapper<RevokedSession> {
+
+    /**
+     * Maps a row of the ResultSet to a RevokedSession object.
+     *
+     * @param rs     the ResultSet, pointing to the current row being mapped
+     * @param rowNum the number of the current row
+     * @return a RevokedSession object with data fetched from the ResultSet
+     * @throws SQLException if a database access error occurs
+     */
+    @Override
+    public RevokedSession mapRow(ResultSet rs, int rowNum) throws SQLException {
+        RevokedSession session = new RevokedSession();
+        session.setSessionId(rs.getObject("family_id", UUID.class));
+        session.setRevokedAt(rs.getTimestamp("revoked_at").toInstant());
+        return session;
+    }
+}
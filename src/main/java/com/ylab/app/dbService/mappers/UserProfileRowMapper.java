@@ -0,0 +1,35 @@
+package com.ylab.app.dbService.mappers;
+
+import com.ylab.app.model.user.User;
+import com.ylab.app.model.user.UserRole;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * UserProfileRowMapper class is responsible for mapping rows of the user profile projection to User instances.
+ * The projection holds the id, name and role of the user; the password of the mapped users is left null.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+public class UserProfileRowMapper implements RowMapper<User> {
+
+    /**
+     * Maps a row of the ResultSet to a User object without a password.
+     *
+     * @param rs     the ResultSet, pointing to the current row being mapped
+     * @param rowNum the number of the current row
+     * @return a User object with the profile fetched from the ResultSet
+     * @throws SQLException if a database access error occurs or if other errors happen while processing the ResultSet
+     */
+    @Override
+    public User mapRow(ResultSet rs, int rowNum) throws SQLException {
+        User user = new User(rs.getString("name"), null, UserRole.fromString(rs.getString("role")));
+        user.setId(rs.getLong("id"));
+        return user;
+    }
+}
@@ -11,6 +11,8 @@ import java.sql.SQLException;
 /**
  * UserRowMapper class is responsible for mapping rows from a ResultSet to User instances.
  * This class implements the Spring RowMapper interface to customize the mapping process for User objects.
+ * It maps the credentials projection, including the password hash; see {@link UserProfileRowMapper} for the
+ * projection without it.
  *
  * @author razlivinsky
  * @since 30.04.2024
@@ -0,0 +1,35 @@
+package com.ylab.app.dbService.mappers;
+
+import com.ylab.app.model.user.UserSearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * UserSearchHitRowMapper class is responsible for mapping rows of the user name search to UserSearchHit instances.
+ * The user is mapped from the profile projection, without a password.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSearchHitRowMapper implements RowMapper<UserSearchHit> {
+    private final UserProfileRowMapper userProfileRowMapper;
+
+    /**
+     * Maps a row of the ResultSet to a UserSearchHit object.
+     *
+     * @param rs     the ResultSet, pointing to the current row being mapped
+     * @param rowNum the number of the current row
+     * @return a UserSearchHit object with the user profile and the score fetched from the ResultSet
+     * @throws SQLException if a database access error occurs or if other errors happen while processing the ResultSet
+     */
+    @Override
+    public UserSearchHit mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new UserSearchHit(userProfileRowMapper.mapRow(rs, rowNum), rs.getFloat("score"));
+    }
+}
@@ -1,6 +1,8 @@
 package com.ylab.app.dbService.mappers;
 
+import com.ylab.app.dbService.dictionary.ParamDefinitionDictionary;
 import com.ylab.app.model.workout.WorkoutAdditionalParams;
+import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
@@ -10,12 +12,15 @@ import java.sql.SQLException;
 /**
  * WorkoutAdditionalParamsRowMapper class is responsible for mapping rows from a ResultSet to WorkoutAdditionalParams instances.
  * This class implements the Spring RowMapper interface to customize the mapping process for WorkoutAdditionalParams objects.
+ * The parameter name is translated from its dictionary id with {@link ParamDefinitionDictionary}.
  *
  * @author razlivinsky
  * @since 30.04.2024
  */
 @Component
+@RequiredArgsConstructor
 public class WorkoutAdditionalParamsRowMapper implements RowMapper<WorkoutAdditionalParams>{
+    private final ParamDefinitionDictionary paramDictionary;
 
     /**
      * Maps a row of the ResultSet to a WorkoutAdditionalParams object.
@@ -29,7 +34,8 @@ public class WorkoutAdditionalParamsRowMapper implements RowMapper<WorkoutAdditi
     public WorkoutAdditionalParams mapRow(ResultSet rs, int rowNum) throws SQLException {
         WorkoutAdditionalParams param = new WorkoutAdditionalParams();
         param.setId(rs.getLong("workout_id"));
-        param.setParams(rs.getString("param"));
+        int paramId = rs.getInt("param_id");
+        param.setParams(rs.wasNull() ? null : paramDictionary.nameOf(paramId));
         param.setValue(rs.getLong("value"));
         return param;
     }
@@ -0,0 +1,49 @@
+package com.ylab.app.dbService.mappers;
+
+import com.ylab.app.model.workout.WorkoutChange;
+import com.ylab.app.model.workout.WorkoutChangeType;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * WorkoutChangeRowMapper class is responsible for mapping rows of the workout change log to WorkoutChange instances.
+ * The current state of an upserted workout is mapped with {@link WorkoutRowMapper}; it is absent when the
+ * workout has been changed or deleted again since, which a later entry of the log reports.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class WorkoutChangeRowMapper implements RowMapper<WorkoutChange> {
+    private final WorkoutRowMapper workoutRowMapper;
+
+    /**
+     * Instantiates a new workout change row mapper.
+     *
+     * @param workoutRowMapper the mapper of the current state of an upserted workout
+     */
+    public WorkoutChangeRowMapper(WorkoutRowMapper workoutRowMapper) {
+        this.workoutRowMapper = workoutRowMapper;
+    }
+
+    /**
+     * Maps a row of the ResultSet to a WorkoutChange object.
+     *
+     * @param rs     the ResultSet, pointing to the current row being mapped
+     * @param rowNum the number of the current row
+     * @return a WorkoutChange object with data fetched from the ResultSet
+     * @throws SQLException if a database access error occurs
+     */
+    @Override
+    public WorkoutChange mapRow(ResultSet rs, int rowNum) throws SQLException {
+        WorkoutChange change = new WorkoutChange();
+        change.setSeq(rs.getLong("seq"));
+        change.setType(WorkoutChangeType.valueOf(rs.getString("change_type")));
+        change.setWorkoutId(rs.getLong("workout_id"));
+        if (rs.getObject("id") != null) {
+            change.setWorkout(workoutRowMapper.mapRow(rs, rowNum));
+        }
+        return change;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ylab.app.dbService.mappers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.ylab.app.model.workout.WorkoutAdditionalParams;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WorkoutParamsJson class converts the parameters of a workout to and from the JSONB params column.
+ * <p>
+ * The parameters are stored as an array of {@code [name, value]} pairs, which keeps their order and repeated
+ * names as in the workout_param table and lets a GIN index answer containment filters such as
+ * {@code params @> '[["heart_rate"]]'}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkoutParamsJson {
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes the parameters as the JSON of the params column.
+     *
+     * @param params the parameters of the workout
+     * @return the JSON array of name and value pairs
+     * @throws JsonProcessingException if the parameters cannot be serialized
+     */
+    public String write(List<WorkoutAdditionalParams> params) throws JsonProcessingException {
+        ArrayNode array = objectMapper.createArrayNode();
+        for (WorkoutAdditionalParams param : params) {
+            array.addArray().add(param.getParams()).add(param.getValue());
+        }
+        return objectMapper.writeValueAsString(array);
+    }
+
+    /**
+     * Reads the parameters of a workout from the JSON of the params column.
+     *
+     * @param workoutId the ID of the workout
+     * @param json      the JSON array of name and value pairs
+     * @return the parameters of the workout
+     * @throws JsonProcessingException if the JSON cannot be parsed
+     */
+    public List<WorkoutAdditionalParams> read(Long workoutId, String json) throws JsonProcessingException {
+        JsonNode array = objectMapper.readTree(json);
+        List<WorkoutAdditionalParams> params = new ArrayList<>(array.size());
+        for (JsonNode pair : array) {
+            JsonNode name = pair.get(0);
+            JsonNode value = pair.get(1);
+            params.add(new WorkoutAdditionalParams(workoutId,
+                    name == null || name.isNull() ? null : name.asText(),
+                    value == null || value.isNull() ? null : value.asLong()));
+        }
+        return params;
+    }
+}
@@ -1,5 +1,7 @@
 package com.ylab.app.dbService.mappers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ylab.app.dbService.dictionary.ParamDefinitionDictionary;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
 import com.ylab.app.model.workout.Workout;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.List;
 
 import static com.ylab.app.util.DataResultWorkoutQuery.getWorkoutParamsListQuery;
@@ -20,7 +23,9 @@ import static com.ylab.app.util.DataResultWorkoutQuery.getWorkoutParamsListQuery
  * WorkoutRowMapper class is responsible for mapping rows from a ResultSet to Workout instances.
  * This class implements the Spring RowMapper interface to customize the mapping process for Workout objects.
  *
- * This class also uses a JdbcTemplate to query and map WorkoutAdditionalParams for each Workout instance.
+ * Parameters stored in the JSONB params column are read from the row itself; otherwise this class uses a
+ * JdbcTemplate to query and map the WorkoutAdditionalParams of each Workout instance from workout_param.
+ * The owner is mapped from the {@code user_id} column and the {@code user_name} joined from the users table.
  *
  * @author razlivinsky
  * @since 30.04.2024
@@ -29,6 +34,8 @@ import static com.ylab.app.util.DataResultWorkoutQuery.getWorkoutParamsListQuery
 @RequiredArgsConstructor
 public class WorkoutRowMapper implements RowMapper<Workout> {
     private final JdbcTemplate jdbcTemplate;
+    private final ParamDefinitionDictionary paramDictionary;
+    private final WorkoutParamsJson paramsJson;
 
     /**
      * Maps a row of the ResultSet to a Workout object and retrieves WorkoutAdditionalParams for the mapped Workout.
@@ -42,26 +49,46 @@ public class WorkoutRowMapper implements RowMapper<Workout> {
     public Workout mapRow(ResultSet rs, int rowNum) throws SQLException {
         Workout workout = new Workout();
         workout.setId(rs.getLong("id"));
-        workout.setType(WorkoutType.valueOf(rs.getString("workout_type")));
+        workout.setType(WorkoutType.fromCode(rs.getShort("workout_type")));
         workout.setDate(rs.getTimestamp("date").toLocalDateTime());
         workout.setDuration(rs.getInt("duration"));
         workout.setCaloriesBurned(rs.getInt("calories_burned"));
-        String username = rs.getString("user_name");
-        User user = new User(username, "", UserRole.USER);
+        User user = new User(rs.getLong("user_id"), rs.getString("user_name"), "", UserRole.USER);
         workout.setUser(user);
-        workout.setParams(findParamsByWorkoutId(workout.getId()));
+        String params = rs.getString("params");
+        workout.setParams(params != null
+                ? readParams(workout.getId(), params)
+                : findParamsByWorkout(workout.getId(), rs.getTimestamp("date")));
         return workout;
     }
 
     /**
      * Retrieves WorkoutAdditionalParams for a specific Workout by its ID using JdbcTemplate.
+     * The workout date restricts the lookup to the partition holding the parameters.
      *
-     * @param workoutId the ID of the Workout for which WorkoutAdditionalParams are to be retrieved
+     * @param workoutId   the ID of the Workout for which WorkoutAdditionalParams are to be retrieved
+     * @param workoutDate the date of the Workout
      * @return a list of WorkoutAdditionalParams associated with the specified Workout
      */
-    private List<WorkoutAdditionalParams> findParamsByWorkoutId(Long workoutId) {
+    private List<WorkoutAdditionalParams> findParamsByWorkout(Long workoutId, Timestamp workoutDate) {
         return jdbcTemplate.query(getWorkoutParamsListQuery(),
-                new WorkoutAdditionalParamsRowMapper(),
-                workoutId);
+                new WorkoutAdditionalParamsRowMapper(paramDictionary),
+                workoutId, workoutDate);
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads the parameters of a workout from the JSONB params column.
+     *
+     * @param workoutId the ID of the Workout
+     * @param params    the JSON of the params column
+     * @return a list of WorkoutAdditionalParams of the Workout
+     * @throws SQLException if the JSON cannot be parsed
+     */
+    public List<WorkoutAdditionalParams> readParams(Long workoutId, String params) throws SQLException {
+        try {
+            return paramsJson.read(workoutId, params);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Invalid params of workout " + workoutId + ": " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.ylab.app.dbService.notify;
+
+import com.ylab.app.service.props.NotificationListenerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * PgNotificationListener class receives PostgreSQL notifications over a dedicated connection to the primary.
+ * <p>
+ * The connection is opened outside the pool, so listening never holds a pooled connection. Listeners are
+ * registered per channel and called on the listener thread with the payload, so they should only hand the
+ * work off. Notifications sent while the connection is down are lost: after every reconnection the reconnect
+ * listeners are called so they can catch up from the data itself.
+ * <p>
+ * With {@code datasource.notification.enabled} set to false the listener is not started and registered
+ * listeners are never called.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+@Component
+public class PgNotificationListener implements SmartLifecycle {
+    private static final long VALIDATION_INTERVAL_NANOS = 30_000_000_000L;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource dataSource;
+    private final NotificationListenerProperties properties;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    private final List<Runnable> reconnectListeners = new CopyOnWriteArrayList<>();
+    private final Set<String> listening = new HashSet<>();
+    private final Counter received;
+    private final Counter reconnects;
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread thread;
+
+    /**
+     * Instantiates a new notification listener.
+     *
+     * @param dataSourceProperties the properties of the primary data source
+     * @param properties           the notification listener properties
+     * @param meterRegistry        the meter registry publishing the listener metrics
+     */
+    public PgNotificationListener(DataSourceProperties dataSourceProperties, NotificationListenerProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(SimpleDriverDataSource.class).build();
+        this.properties = properties;
+        this.received = meterRegistry.counter("db.notifications.received");
+        this.reconnects = meterRegistry.counter("db.notifications.reconnects");
+        Gauge.builder("db.notifications.connected", this, listener -> listener.isConnected() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a listener of a notification channel; the channel is listened to from the next poll on.
+     *
+     * @param channel  the notification channel
+     * @param listener the listener called with the payload of each notification
+     */
+    public void addListener(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Registers a listener called after the connection was re-established and notifications may have been missed.
+     *
+     * @param listener the reconnect listener
+     */
+    public void addReconnectListener(Runnable listener) {
+        reconnectListeners.add(listener);
+    }
+
+    /**
+     * Checks whether the listening connection is currently open.
+     *
+     * @return true if notifications are being received, false otherwise
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Starts the listener with the application context unless it is disabled.
+     *
+     * @return true if the listener is enabled, false otherwise
+     */
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Starts the listener thread.
+     */
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "pg-notification-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the listener thread and closes the connection.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(properties.getPollTimeout().toMillis() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the listener thread is running.
+     *
+     * @return true if the listener was started and not stopped
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        boolean firstAttempt = true;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listening.clear();
+                listenToNewChannels(connection);
+                connected = true;
+                if (!firstAttempt) {
+                    reconnects.increment();
+                    log.info("Notification listener reconnected, notifying {} reconnect listeners", reconnectListeners.size());
+                    reconnectListeners.forEach(this::callSafely);
+                }
+                firstAttempt = false;
+                poll(connection, pgConnection);
+            } catch (SQLException e) {
+                connected = false;
+                firstAttempt = false;
+                if (running) {
+                    log.warn("Notification listener connection failed, reconnecting in {}: {}",
+                            properties.getReconnectDelay(), e.getMessage());
+                    sleep();
+                }
+            }
+        }
+        connected = false;
+    }
+
+    private void poll(Connection connection, PGConnection pgConnection) throws SQLException {
+        long validatedAt = System.nanoTime();
+        int timeout = (int) properties.getPollTimeout().toMillis();
+        while (running) {
+            listenToNewChannels(connection);
+            PGNotification[] notifications = pgConnection.getNotifications(timeout);
+            if (notifications != null && notifications.length > 0) {
+                validatedAt = System.nanoTime();
+                for (PGNotification notification : notifications) {
+                    dispatch(notification);
+                }
+            } else if (System.nanoTime() - validatedAt > VALIDATION_INTERVAL_NANOS) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("notification connection is no longer valid");
+                }
+                validatedAt = System.nanoTime();
+            }
+        }
+    }
+
+    private void listenToNewChannels(Connection connection) throws SQLException {
+        for (String channel : listeners.keySet()) {
+            if (!listening.contains(channel)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN \"" + channel.replace("\"", "\"\"") + "\"");
+                }
+                listening.add(channel);
+            }
+        }
+    }
+
+    private void dispatch(PGNotification notification) {
+        received.increment();
+        List<Consumer<String>> channelListeners = listeners.get(notification.getName());
+        if (channelListeners == null) {
+            return;
+        }
+        for (Consumer<String> listener : channelListeners) {
+            callSafely(() -> listener.accept(notification.getParameter()));
+        }
+    }
+
+    private void callSafely(Runnable listener) {
+        try {
+            listener.run();
+        } catch (RuntimeException e) {
+            log.warn("Notification listener failed: {}", e.getMessage());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.getReconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
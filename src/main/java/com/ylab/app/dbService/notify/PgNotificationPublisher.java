@@ -0,0 +1,42 @@
+package com.ylab.app.dbService.notify;
+
+import com.ylab.app.exception.dbException.DatabaseWriteException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import static com.ylab.app.util.DataResultNotificationQuery.notifyChannelQuery;
+
+/**
+ * PgNotificationPublisher class sends PostgreSQL notifications to the listeners of every node.
+ * <p>
+ * A notification sent inside a transaction is delivered when it commits and dropped when it rolls back;
+ * outside a transaction it is delivered at once. PostgreSQL limits the payload to just under 8000 bytes.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class PgNotificationPublisher {
+    private static final ResultSetExtractor<Void> IGNORE_RESULT = rs -> null;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Sends a notification to a channel.
+     *
+     * @param channel the notification channel
+     * @param payload the payload of the notification
+     * @throws DatabaseWriteException if the notification cannot be sent
+     */
+    public void publish(String channel, String payload) {
+        try {
+            jdbcTemplate.query(notifyChannelQuery(), IGNORE_RESULT, channel, payload);
+        } catch (DataAccessException e) {
+            throw new DatabaseWriteException("Error sending notification: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.ylab.app.dbService.partition;
+
+import com.ylab.app.service.props.WorkoutPartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.ylab.app.util.DataResultPartitionQuery.ensureWorkoutPartitionsQuery;
+
+/**
+ * WorkoutPartitionMaintainer class keeps the monthly partitions of the workout tables in place.
+ * <p>
+ * Partitions for the current month and the configured number of months ahead are created on startup
+ * and on schedule. Writes for a month outside that window create its partition on demand; months known
+ * to exist are cached so the check costs no round trip on the regular write path.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkoutPartitionMaintainer {
+    private final JdbcTemplate jdbcTemplate;
+    private final WorkoutPartitionProperties properties;
+    private final Set<YearMonth> knownMonths = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates the partitions of the current month and the months ahead.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${workout.partition.maintenance-cron:0 0 3 * * *}")
+    public void createFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        YearMonth last = current.plusMonths(properties.getMonthsAhead());
+        try {
+            Integer created = ensurePartitions(current, last);
+            for (YearMonth month = current; !month.isAfter(last); month = month.plusMonths(1)) {
+                knownMonths.add(month);
+            }
+            log.info("Workout partitions ensured from {} to {}, created {}", current, last, created);
+        } catch (DataAccessException e) {
+            log.warn("Failed to create workout partitions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Ensures the partition holding workouts of the given date exists.
+     * Within a transaction the month is only remembered once the transaction commits the new partition.
+     *
+     * @param date the workout date
+     * @throws DataAccessException if the partition could not be created
+     */
+    public void ensurePartitionFor(LocalDateTime date) {
+        YearMonth month = YearMonth.from(date);
+        if (knownMonths.contains(month)) {
+            return;
+        }
+        ensurePartitions(month, month);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    knownMonths.add(month);
+                }
+            });
+        } else {
+            knownMonths.add(month);
+        }
+    }
+
+    private Integer ensurePartitions(YearMonth from, YearMonth to) {
+        return jdbcTemplate.queryForObject(ensureWorkoutPartitionsQuery(), Integer.class,
+                Timestamp.valueOf(from.atDay(1).atStartOfDay()),
+                Timestamp.valueOf(to.atDay(1).atStartOfDay()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.ylab.app.dbService.routing;
+
+/**
+ * DataSourceRole enum represents the target data sources of the routing data source.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,68 @@
+package com.ylab.app.dbService.routing;
+
+import com.ylab.app.service.props.ReplicaDataSourceProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import static com.ylab.app.util.DataResultReplicaQuery.getSelectReplicaLag;
+
+/**
+ * ReplicaLagMonitor class periodically measures the replication lag of the read replica.
+ * <p>
+ * The replica is considered available while its lag does not exceed the configured maximum
+ * and the lag query succeeds; otherwise read-only transactions fall back to the primary.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class ReplicaLagMonitor {
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaDataSourceProperties properties;
+    private volatile double lagSeconds;
+    private volatile boolean replicaAvailable;
+
+    /**
+     * Instantiates a new replica lag monitor.
+     *
+     * @param replicaJdbcTemplate the jdbc template of the read replica
+     * @param properties          the read replica properties
+     */
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, ReplicaDataSourceProperties properties) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Measures the replication lag and updates the availability of the replica.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5s}")
+    public void checkLag() {
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(getSelectReplicaLag(), Double.class);
+            lagSeconds = lag == null ? 0 : lag;
+            replicaAvailable = lagSeconds <= properties.getMaxLag().toMillis() / 1000.0;
+        } catch (DataAccessException e) {
+            lagSeconds = Double.NaN;
+            replicaAvailable = false;
+        }
+    }
+
+    /**
+     * Checks whether read-only transactions may be routed to the replica.
+     *
+     * @return true if the replica is reachable and within the allowed lag, false otherwise
+     */
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * Retrieves the last measured replication lag.
+     *
+     * @return the lag in seconds, or NaN if the replica could not be reached
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ylab.app.dbService.routing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ReplicaRoutingDataSource class routes connections of read-only transactions to the read replica.
+ * <p>
+ * Writes, non-transactional calls and read-only transactions issued while the replica lags
+ * behind or is unreachable are served by the primary. The data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so that the
+ * read-only flag of the transaction is known when the physical connection is obtained.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    /**
+     * Determines the data source for the current transaction.
+     *
+     * @return the role of the data source to use
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaAvailable()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ylab.app.dbService.sequence;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.ylab.app.util.DataResultWorkoutQuery.getSelectSequenceBlock;
+
+/**
+ * PooledSequence class hands out the ids of a database sequence from blocks held in the application.
+ * <p>
+ * The sequence increments by the size of a block, and a value v taken from it reserves the ids from
+ * v - increment + 1 to v, so ids are known before a row is sent and a round trip is paid once per block.
+ * Callers are spread over stripes by thread, each stripe holding a block of its own, so concurrent inserts
+ * rarely wait for each other. A stripe is guarded by a lock rather than a monitor, so a virtual thread taking
+ * a block from the database does not pin its carrier thread. Ids are unique but only ascending within a stripe,
+ * and the rest of the blocks held on shutdown is never used.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class PooledSequence {
+    private static final ResultSetExtractor<long[]> BLOCK_EXTRACTOR =
+            rs -> rs.next() ? new long[]{rs.getLong(1), rs.getLong(2)} : null;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sequenceName;
+    private final Stripe[] stripes;
+
+    /**
+     * Instantiates a new pooled sequence.
+     *
+     * @param jdbcTemplate the JDBC template taking the blocks from the database
+     * @param sequenceName the qualified name of the sequence
+     * @param stripes      the number of stripes holding a block each
+     */
+    public PooledSequence(JdbcTemplate jdbcTemplate, String sequenceName, int stripes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequenceName = sequenceName;
+        this.stripes = new Stripe[Math.max(stripes, 1)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Retrieves the next id.
+     *
+     * @return the id
+     * @throws DataAccessException if a new block could not be taken from the sequence
+     */
+    public long next() {
+        return next(1)[0];
+    }
+
+    /**
+     * Retrieves the given number of ids, ascending.
+     *
+     * @param count the number of ids
+     * @return the ids
+     * @throws DataAccessException if a new block could not be taken from the sequence
+     */
+    public long[] next(int count) {
+        long[] ids = new long[count];
+        if (count > 0) {
+            stripes[(int) (Thread.currentThread().getId() % stripes.length)].fill(ids);
+        }
+        return ids;
+    }
+
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next = 1;
+        private long limit = 0;
+
+        void fill(long[] ids) {
+            lock.lock();
+            try {
+                for (int i = 0; i < ids.length; i++) {
+                    if (next > limit) {
+                        long[] block = jdbcTemplate.query(getSelectSequenceBlock(), BLOCK_EXTRACTOR, sequenceName);
+                        if (block == null) {
+                            throw new IllegalStateException("Unknown sequence " + sequenceName);
+                        }
+                        limit = block[0];
+                        // the first value of a sequence never called before has no ids below it
+                        next = Math.max(block[0] - block[1] + 1, 1);
+                    }
+                    ids[i] = next++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
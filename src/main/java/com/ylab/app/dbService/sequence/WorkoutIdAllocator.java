@@ -0,0 +1,53 @@
+package com.ylab.app.dbService.sequence;
+
+import com.ylab.app.service.props.WorkoutIdProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * WorkoutIdAllocator class allocates the ids of workouts and their params before they are inserted.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+public class WorkoutIdAllocator {
+    private static final String WORKOUT_SEQUENCE = "my_schema.seq_workout_id";
+    private static final String PARAM_SEQUENCE = "my_schema.seq_workout_param_id";
+
+    private final PooledSequence workoutIds;
+    private final PooledSequence paramIds;
+
+    /**
+     * Instantiates a new workout id allocator.
+     *
+     * @param jdbcTemplate the JDBC template taking the blocks of ids from the sequences
+     * @param properties   the properties of the id allocation
+     */
+    public WorkoutIdAllocator(JdbcTemplate jdbcTemplate, WorkoutIdProperties properties) {
+        this.workoutIds = new PooledSequence(jdbcTemplate, WORKOUT_SEQUENCE, properties.getStripes());
+        this.paramIds = new PooledSequence(jdbcTemplate, PARAM_SEQUENCE, properties.getStripes());
+    }
+
+    /**
+     * Retrieves the id of a new workout.
+     *
+     * @return the workout id
+     * @throws DataAccessException if a new block could not be taken from the sequence
+     */
+    public long nextWorkoutId() {
+        return workoutIds.next();
+    }
+
+    /**
+     * Retrieves the ids of new workout params, ascending.
+     *
+     * @param count the number of params
+     * @return the param ids
+     * @throws DataAccessException if a new block could not be taken from the sequence
+     */
+    public long[] nextParamIds(int count) {
+        return paramIds.next(count);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ylab.app.exception;
+
+/**
+ * BusinessException class is the base of the exceptions signalling an expected outcome of a request, such as a
+ * missing resource, invalid input or a throttled client, which is answered with an error response rather than
+ * investigated.
+ * <p>
+ * These exceptions are thrown on routine paths and unwind through the service proxies, so they record neither a
+ * stack trace nor suppressed exceptions: the message, and the cause when there is one, carry everything the error
+ * response needs. Failures that need investigating, such as database errors, keep their stack traces.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    /**
+     * Constructs a new BusinessException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * Constructs a new BusinessException with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause
+     */
+    protected BusinessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
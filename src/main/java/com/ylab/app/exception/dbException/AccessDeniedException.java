@@ -1,5 +1,7 @@
 package com.ylab.app.exception.dbException;
 
+import com.ylab.app.exception.BusinessException;
+
 /**
  * AccessDeniedException class represents an exception indicating access denial during runtime.
  * This exception is typically thrown when a user is denied access to a specific resource or operation.
@@ -7,12 +9,12 @@ package com.ylab.app.exception.dbException;
  * @author razlivinsky
  * @since 09.03.2024
  */
-public class AccessDeniedException extends RuntimeException{
+public class AccessDeniedException extends BusinessException {
 
     /**
      * Instantiates a new AccessDeniedException with no specific message.
      */
     public AccessDeniedException() {
-        super();
+        super(null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.ylab.app.exception.idempotencyException;
+
+import com.ylab.app.exception.BusinessException;
+
+/**
+ * IdempotencyConflictException class documentation.
+ *
+ * This class extends BusinessException to signal that a request with the same idempotency key is still being processed.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class IdempotencyConflictException extends BusinessException {
+
+    /**
+     * Constructs a new IdempotencyConflictException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ylab.app.exception.idempotencyException;
+
+import com.ylab.app.exception.BusinessException;
+
+/**
+ * IdempotencyKeyReuseException class documentation.
+ *
+ * This class extends BusinessException to signal that an idempotency key was reused for a different request body.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class IdempotencyKeyReuseException extends BusinessException {
+
+    /**
+     * Constructs a new IdempotencyKeyReuseException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
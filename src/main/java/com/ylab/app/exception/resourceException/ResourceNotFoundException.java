@@ -1,5 +1,7 @@
 package com.ylab.app.exception.resourceException;
 
+import com.ylab.app.exception.BusinessException;
+
 /**
  * ResourceNotFoundException class represents an exception indicating that a requested resource was not found.
  * This exception is typically thrown when a resource retrieval operation fails due to the absence of the requested resource.
@@ -7,7 +9,7 @@ package com.ylab.app.exception.resourceException;
  * @author razlivinsky
  * @since 02.05.2024
  */
-public class ResourceNotFoundException extends RuntimeException{
+public class ResourceNotFoundException extends BusinessException {
 
     /**
      * Instantiates a new ResourceNotFoundException with the specified message.
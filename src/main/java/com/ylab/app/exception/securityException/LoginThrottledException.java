@@ -0,0 +1,37 @@
+package com.ylab.app.exception.securityException;
+
+import com.ylab.app.exception.BusinessException;
+
+import java.time.Duration;
+
+/**
+ * LoginThrottledException class documentation.
+ *
+ * This class extends BusinessException to signal that too many authentication attempts were made from a client or for a user.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class LoginThrottledException extends BusinessException {
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new LoginThrottledException with the specified detail message.
+     *
+     * @param message    the detail message.
+     * @param retryAfter the time after which the request may be retried.
+     */
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retrieves the time after which the request may be retried.
+     *
+     * @return the retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ylab.app.exception.securityException;
+
+import com.ylab.app.exception.BusinessException;
+
+import java.time.Duration;
+
+/**
+ * PasswordHashingUnavailableException class documentation.
+ *
+ * This class extends BusinessException to signal that password hashing is saturated and the request should be retried later.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class PasswordHashingUnavailableException extends BusinessException {
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new PasswordHashingUnavailableException with the specified detail message.
+     *
+     * @param message    the detail message.
+     * @param retryAfter the time after which the request may be retried.
+     */
+    public PasswordHashingUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retrieves the time after which the request may be retried.
+     *
+     * @return the retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
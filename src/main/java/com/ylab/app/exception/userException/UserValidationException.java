@@ -1,12 +1,14 @@
 package com.ylab.app.exception.userException;
 
+import com.ylab.app.exception.BusinessException;
+
 /**
  * UserValidationException class documentation.
  *
  * @author razlivinsky
  * @since 09.04.2024
  */
-public class UserValidationException extends RuntimeException{
+public class UserValidationException extends BusinessException {
 
     /**
      * Constructs a new UserValidationException with the specified detail message.
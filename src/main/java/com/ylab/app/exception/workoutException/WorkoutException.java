@@ -1,14 +1,16 @@
 package com.ylab.app.exception.workoutException;
 
+import com.ylab.app.exception.BusinessException;
+
 /**
  * WorkoutException class documentation.
  *
- * This class extends RuntimeException to handle exceptions specific to workout operations.
+ * This class extends BusinessException to handle exceptions specific to workout operations.
  *
  * @author razlivinsky
  * @since 09.04.2024
  */
-public class WorkoutException extends RuntimeException{
+public class WorkoutException extends BusinessException {
 
     /**
      * Constructs a new WorkoutException with the specified detail message.
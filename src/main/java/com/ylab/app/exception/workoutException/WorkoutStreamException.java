@@ -0,0 +1,23 @@
+package com.ylab.app.exception.workoutException;
+
+import com.ylab.app.exception.BusinessException;
+
+/**
+ * WorkoutStreamException class documentation.
+ *
+ * This class extends BusinessException to signal that the workout change stream cannot take another subscriber.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class WorkoutStreamException extends BusinessException {
+
+    /**
+     * Constructs a new WorkoutStreamException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public WorkoutStreamException(String message) {
+        super(message);
+    }
+}
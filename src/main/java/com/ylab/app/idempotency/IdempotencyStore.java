@@ -0,0 +1,199 @@
+package com.ylab.app.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ylab.app.dbService.dao.IdempotencyDao;
+import com.ylab.app.exception.idempotencyException.IdempotencyConflictException;
+import com.ylab.app.exception.idempotencyException.IdempotencyKeyReuseException;
+import com.ylab.app.exception.userException.UserValidationException;
+import com.ylab.app.model.idempotency.IdempotencyRecord;
+import com.ylab.app.service.props.IdempotencyProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * IdempotencyStore class executes a request sent with an idempotency key once and replays its response for retries.
+ * <p>
+ * Keys are scoped to the user and kept for the configured time to live. Completed requests are remembered in a
+ * bounded in-process cache, so a retry on the same instance is answered without touching the database. Otherwise
+ * the key is claimed in the idempotency table in the same transaction as the request, which makes the claim and
+ * the change it guards commit or roll back together on every instance: a retry of a committed request replays the
+ * stored response, and a retry arriving on another instance while the request runs waits for its outcome. A retry
+ * arriving on the same instance while the request runs is rejected with a conflict. A key reused for a different
+ * request body is rejected as well.
+ * <p>
+ * Publishes {@code idempotency.requests} tagged with the outcome: {@code executed}, {@code replayed},
+ * {@code conflict} or {@code mismatch}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+    private final IdempotencyDao idempotencyDao;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final Cache<RequestKey, IdempotencyRecord> completedRequests;
+    private final Set<RequestKey> inProgress = ConcurrentHashMap.newKeySet();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter conflicts;
+    private final Counter mismatches;
+
+    /**
+     * Instantiates a new idempotency store.
+     *
+     * @param idempotencyDao      the idempotency dao
+     * @param transactionTemplate the template running the request and its claim in one transaction
+     * @param objectMapper        the object mapper serializing requests and responses
+     * @param properties          the idempotency properties
+     * @param meterRegistry       the meter registry publishing the request outcomes
+     */
+    public IdempotencyStore(IdempotencyDao idempotencyDao, TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.idempotencyDao = idempotencyDao;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.completedRequests = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.executed = counter(meterRegistry, "executed");
+        this.replayed = counter(meterRegistry, "replayed");
+        this.conflicts = counter(meterRegistry, "conflict");
+        this.mismatches = counter(meterRegistry, "mismatch");
+    }
+
+    /**
+     * Executes the request once for the idempotency key, or replays the response stored for it.
+     *
+     * @param scope          the login of the user sending the request
+     * @param idempotencyKey the idempotency key sent by the client
+     * @param request        the request body, compared with the body stored for the key
+     * @param responseType   the type of the response
+     * @param action         the request, joining the transaction of the claim
+     * @param <T>            the type of the response
+     * @return the response and whether it was replayed
+     * @throws UserValidationException       if the idempotency key is blank or too long
+     * @throws IdempotencyConflictException  if a request with the key is still being processed
+     * @throws IdempotencyKeyReuseException  if the key was used for a different request body
+     */
+    public <T> IdempotentResult<T> execute(String scope, String idempotencyKey, Object request,
+                                           Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > properties.getMaxKeyLength()) {
+            throw new UserValidationException("Idempotency key must be 1 to " + properties.getMaxKeyLength() + " characters");
+        }
+        String requestHash = hash(request);
+        RequestKey requestKey = new RequestKey(scope, idempotencyKey);
+        IdempotencyRecord completed = completedRequests.getIfPresent(requestKey);
+        if (completed != null) {
+            return replay(completed, requestHash, responseType);
+        }
+        if (!inProgress.add(requestKey)) {
+            throw conflict();
+        }
+        try {
+            return transactionTemplate.execute(status -> {
+                if (!idempotencyDao.claim(scope, idempotencyKey, requestHash, properties.getTtl())) {
+                    IdempotencyRecord existing = idempotencyDao.find(scope, idempotencyKey)
+                            .filter(record -> record.getResponseBody() != null)
+                            .orElseThrow(this::conflict);
+                    completedRequests.put(requestKey, existing);
+                    return replay(existing, requestHash, responseType);
+                }
+                T response = action.get();
+                String responseBody = write(response);
+                idempotencyDao.complete(scope, idempotencyKey, responseBody);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        completedRequests.put(requestKey,
+                                new IdempotencyRecord(scope, idempotencyKey, requestHash, responseBody));
+                        executed.increment();
+                    }
+                });
+                return new IdempotentResult<>(response, false);
+            });
+        } finally {
+            inProgress.remove(requestKey);
+        }
+    }
+
+    /**
+     * Deletes the expired idempotency keys in batches.
+     */
+    @Scheduled(fixedDelayString = "#{@idempotencyProperties.cleanupInterval.toMillis()}")
+    public void purgeExpired() {
+        try {
+            int deleted;
+            do {
+                deleted = idempotencyDao.deleteExpired(properties.getCleanupBatchSize());
+            } while (deleted == properties.getCleanupBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete expired idempotency keys: {}", e.getMessage());
+        }
+    }
+
+    private <T> IdempotentResult<T> replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            mismatches.increment();
+            throw new IdempotencyKeyReuseException("Idempotency key was already used for a different request");
+        }
+        try {
+            T response = objectMapper.readValue(record.getResponseBody(), responseType);
+            replayed.increment();
+            return new IdempotentResult<>(response, true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response cannot be read: " + e.getMessage(), e);
+        }
+    }
+
+    private IdempotencyConflictException conflict() {
+        conflicts.increment();
+        return new IdempotencyConflictException("A request with this idempotency key is still being processed");
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Request cannot be hashed: " + e.getMessage(), e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response cannot be stored: " + e.getMessage(), e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("idempotency.requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record RequestKey(String scope, String idempotencyKey) {
+    }
+}
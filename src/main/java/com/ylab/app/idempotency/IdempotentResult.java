@@ -0,0 +1,13 @@
+package com.ylab.app.idempotency;
+
+/**
+ * IdempotentResult record holds the response of a request sent with an idempotency key.
+ *
+ * @param body     the response
+ * @param replayed true if the response was stored by an earlier request with the same key
+ * @param <T>      the type of the response
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public record IdempotentResult<T>(T body, boolean replayed) {
+}
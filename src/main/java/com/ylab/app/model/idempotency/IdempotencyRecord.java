@@ -0,0 +1,21 @@
+package com.ylab.app.model.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * IdempotencyRecord class represents a request sent with an idempotency key and the response returned for it.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+    private String scope;
+    private String idempotencyKey;
+    private String requestHash;
+    private String responseBody;
+}
@@ -0,0 +1,27 @@
+package com.ylab.app.model.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * OutboxEvent class represents a change event stored in the outbox until the relay delivers it to the consumers.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    public static final String WORKOUT = "workout";
+
+    private Long id;
+    private String aggregateType;
+    private Long aggregateId;
+    private OutboxEventType eventType;
+    private String payload;
+    private Instant createdAt;
+}
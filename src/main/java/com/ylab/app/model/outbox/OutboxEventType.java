@@ -0,0 +1,13 @@
+package com.ylab.app.model.outbox;
+
+/**
+ * OutboxEventType enum lists the kinds of change events written to the outbox.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public enum OutboxEventType {
+    WORKOUT_CREATED,
+    WORKOUT_UPDATED,
+    WORKOUT_DELETED
+}
@@ -0,0 +1,22 @@
+package com.ylab.app.model.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * RevokedSession class represents a login session whose tokens were revoked.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedSession {
+    private UUID sessionId;
+    private Instant revokedAt;
+}
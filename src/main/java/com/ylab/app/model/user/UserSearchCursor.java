@@ -0,0 +1,67 @@
+package com.ylab.app.model.user;
+
+import com.ylab.app.exception.userException.UserValidationException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * UserSearchCursor class represents the position of the last user of a page of name search results.
+ * Results are ordered by descending score, then by id, so the next page starts after this pair.
+ * Clients receive the cursor as an opaque token. Cursors are immutable, so {@link #FIRST} can be shared.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Value
+public class UserSearchCursor {
+    /**
+     * The cursor before the first result; every score is at most 1.
+     */
+    public static final UserSearchCursor FIRST = new UserSearchCursor(2f, 0L);
+
+    float score;
+    long id;
+
+    /**
+     * Creates the cursor after the given search hit.
+     *
+     * @param hit the last hit of a page
+     * @return the cursor of the next page
+     */
+    public static UserSearchCursor after(UserSearchHit hit) {
+        return new UserSearchCursor(hit.getScore(), hit.getUser().getId());
+    }
+
+    /**
+     * Parses a cursor token.
+     *
+     * @param token the token, or null for the first page
+     * @return the cursor represented by the token
+     * @throws UserValidationException if the token is malformed
+     */
+    public static UserSearchCursor fromToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return FIRST;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            return new UserSearchCursor(Float.parseFloat(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new UserValidationException("Invalid search cursor!");
+        }
+    }
+
+    /**
+     * Formats the cursor as an opaque token; the score is kept exactly, as pages compare it for equality.
+     *
+     * @return the cursor token
+     */
+    public String toToken() {
+        String value = Float.toString(score) + ':' + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,21 @@
+package com.ylab.app.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * UserSearchHit class represents a user found by a name search, with the rank of the match.
+ * The score is the trigram similarity of the name to the query, from 0 to 1; shorter names closer
+ * to the query rank higher.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchHit {
+    private User user;
+    private float score;
+}
@@ -0,0 +1,23 @@
+package com.ylab.app.model.workout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * WorkoutChange class represents an entry of the workout change feed.
+ * <p>
+ * An upsert carries the current state of the workout; a tombstone only carries the workout ID.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutChange {
+    private long seq;
+    private WorkoutChangeType type;
+    private Long workoutId;
+    private Workout workout;
+}
@@ -0,0 +1,22 @@
+package com.ylab.app.model.workout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * WorkoutChangeFeed class represents a page of the workout change feed.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutChangeFeed {
+    private List<WorkoutChange> changes;
+    private long nextSince;
+    private boolean hasMore;
+}
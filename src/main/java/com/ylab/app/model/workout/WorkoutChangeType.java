@@ -0,0 +1,12 @@
+package com.ylab.app.model.workout;
+
+/**
+ * WorkoutChangeType enum lists the kinds of entries in the workout change feed.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public enum WorkoutChangeType {
+    UPSERT,
+    DELETE
+}
@@ -5,24 +5,62 @@ import com.ylab.app.exception.workoutException.WorkoutException;
 /**
  * WorkoutType class represents the types of workouts available.
  * <p>
- * This class includes fields for id and type of the workout.
+ * Each type is stored in the database as its fixed code.
  *
  * @author razlivinsky
  * @since 09.04.2024
  */
 public enum WorkoutType {
-    CARDIO,
-    STRENGTH_TRAINING,
-    HIGH_INTENSITY_INTERVAL_TRAINING,
-    FLEXIBILITY,
-    BALANCE,
-    ENDURANCE,
-    CROSSFIT,
-    YOGA,
-    PILATES,
-    AEROBICS,
-    SPINNING,
-    DANCE;
+    CARDIO(1),
+    STRENGTH_TRAINING(2),
+    HIGH_INTENSITY_INTERVAL_TRAINING(3),
+    FLEXIBILITY(4),
+    BALANCE(5),
+    ENDURANCE(6),
+    CROSSFIT(7),
+    YOGA(8),
+    PILATES(9),
+    AEROBICS(10),
+    SPINNING(11),
+    DANCE(12);
+
+    private static final WorkoutType[] BY_CODE = new WorkoutType[values().length + 1];
+
+    static {
+        for (WorkoutType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final short code;
+
+    WorkoutType(int code) {
+        this.code = (short) code;
+    }
+
+    /**
+     * Retrieves the code storing the workout type in the database.
+     * Codes are fixed by the migration converting the type column, so they must not be changed or reused.
+     *
+     * @return the workout type code
+     */
+    public short getCode() {
+        return code;
+    }
+
+    /**
+     * Converts a database code to the corresponding WorkoutType enum value.
+     *
+     * @param code the code of the workout type
+     * @return the WorkoutType enum value with the given code
+     * @throws WorkoutException if no workout type has the given code
+     */
+    public static WorkoutType fromCode(short code) {
+        if (code <= 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new WorkoutException("Unknown workout type code: " + code);
+        }
+        return BY_CODE[code];
+    }
 
     /**
      * Converts a string to the corresponding WorkoutType enum value.
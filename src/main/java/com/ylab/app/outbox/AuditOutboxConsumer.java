@@ -0,0 +1,61 @@
+package com.ylab.app.outbox;
+
+import com.ylab.app.model.outbox.OutboxEvent;
+import com.ylab.model.AuditModel;
+import com.ylab.props.AuditProperties;
+import com.ylab.repository.impl.AuditDaoImpl;
+import com.ylab.sink.AuditSink;
+import com.ylab.sink.JdbcAuditSink;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * AuditOutboxConsumer class records the committed workout changes in the audit storage.
+ * <p>
+ * The audit message keeps the time the change was made and is cut to the audit render length.
+ * <p>
+ * Messages are inserted through a plain {@link JdbcAuditSink} rather than the application audit sink, so they
+ * join the relay transaction: a failed insert propagates and rolls the batch back instead of being spilled,
+ * and a batch is never both recorded and delivered again.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+public class AuditOutboxConsumer implements OutboxEventConsumer {
+    private final AuditSink auditSink;
+    private final AuditProperties auditProperties;
+
+    /**
+     * Instantiates a new audit outbox consumer.
+     *
+     * @param jdbcTemplate    the jdbc template of the relay transaction
+     * @param auditProperties the audit properties
+     */
+    public AuditOutboxConsumer(JdbcTemplate jdbcTemplate, AuditProperties auditProperties) {
+        this.auditSink = new JdbcAuditSink(new AuditDaoImpl(jdbcTemplate));
+        this.auditProperties = auditProperties;
+    }
+
+    /**
+     * Writes an audit message for each change event.
+     *
+     * @param events the change events
+     * @throws com.ylab.exception.AuditWriteException if a message cannot be inserted
+     */
+    @Override
+    public void consume(List<OutboxEvent> events) {
+        int maxLength = auditProperties.getRender().getMaxLength();
+        for (OutboxEvent event : events) {
+            String message = "CHANGE: " + event.getEventType() + " " + event.getAggregateType() + "#"
+                    + event.getAggregateId() + " " + event.getPayload();
+            AuditModel audit = new AuditModel(message.length() > maxLength
+                    ? message.substring(0, maxLength) + "..."
+                    : message);
+            audit.setCreatedAt(event.getCreatedAt());
+            auditSink.write(audit);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ylab.app.outbox;
+
+import com.ylab.app.model.outbox.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * The OutboxEventConsumer interface receives the change events delivered by the {@link OutboxRelay}.
+ * <p>
+ * Delivery is at least once: a batch is removed from the outbox only after every consumer accepted it,
+ * and is delivered again to all consumers if one of them throws, so consumers must tolerate duplicates.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public interface OutboxEventConsumer {
+
+    /**
+     * Consumes a batch of change events in write order.
+     *
+     * @param events the change events
+     */
+    void consume(List<OutboxEvent> events);
+}
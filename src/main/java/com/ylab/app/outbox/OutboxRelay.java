@@ -0,0 +1,107 @@
+package com.ylab.app.outbox;
+
+import com.ylab.app.dbService.dao.OutboxDao;
+import com.ylab.app.model.outbox.OutboxEvent;
+import com.ylab.app.service.props.OutboxRelayProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * OutboxRelay class delivers the change events of the outbox to the {@link OutboxEventConsumer} beans.
+ * <p>
+ * Each poll takes batches of the oldest events with {@code FOR UPDATE SKIP LOCKED}, passes each batch to
+ * every consumer and deletes it in the same transaction, until a batch comes back short or the batch limit
+ * of the poll is reached. Several application instances can relay concurrently without taking the same
+ * events. A consumer failure rolls the batch back so it is delivered again on the next poll.
+ * <p>
+ * Publishes {@code outbox.events.relayed}, the {@code outbox.events.lag} between writing and delivering
+ * an event, the {@code outbox.relay.batch} duration and {@code outbox.relay.failures}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    private final OutboxDao outboxDao;
+    private final List<OutboxEventConsumer> consumers;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRelayProperties properties;
+    private final Counter relayed;
+    private final Counter failures;
+    private final Timer lag;
+    private final Timer batchTimer;
+
+    /**
+     * Instantiates a new outbox relay.
+     *
+     * @param outboxDao           the outbox dao
+     * @param consumers           the consumers of the change events
+     * @param transactionTemplate the template running each batch in a transaction
+     * @param properties          the outbox relay properties
+     * @param meterRegistry       the meter registry publishing the relay metrics
+     */
+    public OutboxRelay(OutboxDao outboxDao, List<OutboxEventConsumer> consumers, TransactionTemplate transactionTemplate,
+                       OutboxRelayProperties properties, MeterRegistry meterRegistry) {
+        this.outboxDao = outboxDao;
+        this.consumers = consumers;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.relayed = meterRegistry.counter("outbox.events.relayed");
+        this.failures = meterRegistry.counter("outbox.relay.failures");
+        this.lag = Timer.builder("outbox.events.lag")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+    }
+
+    /**
+     * Relays the pending events in batches.
+     */
+    @Scheduled(fixedDelayString = "#{@outboxRelayProperties.pollInterval.toMillis()}")
+    public void relay() {
+        try {
+            for (int batch = 0; batch < properties.getMaxBatchesPerPoll(); batch++) {
+                if (relayBatch() < properties.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Failed to relay outbox events: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        Timer.Sample sample = Timer.start();
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxDao.lockBatch(properties.getBatchSize());
+            if (!batch.isEmpty()) {
+                for (OutboxEventConsumer consumer : consumers) {
+                    consumer.consume(batch);
+                }
+                outboxDao.delete(batch.stream().map(OutboxEvent::getId).toList());
+            }
+            return batch;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        sample.stop(batchTimer);
+        Instant now = Instant.now();
+        relayed.increment(events.size());
+        events.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), now)));
+        return events.size();
+    }
+}
@@ -26,4 +26,11 @@ public interface AuthService {
      * @return the JWT response with the refreshed token
      */
     JwtResponse refresh(String refreshToken);
+
+    /**
+     * Logs out the session of the provided refresh token, rejecting its refresh and access tokens.
+     *
+     * @param refreshToken the refresh token of the session to end
+     */
+    void logout(String refreshToken);
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.ylab.app.service;
 
 import com.ylab.app.model.user.User;
+import com.ylab.app.model.user.UserSearchCursor;
+import com.ylab.app.model.user.UserSearchHit;
 
 import java.util.List;
 
@@ -30,11 +32,13 @@ public interface UserService {
     boolean hasRoleAdmin(User user);
 
     /**
-     * Retrieves a list of all users in the system.
+     * Retrieves a page of the users in the system, ordered by id.
      *
-     * @return the list of all users
+     * @param afterId the id of the last user of the previous page, zero for the first page
+     * @param limit   the maximum number of users to retrieve
+     * @return the page of users, without their passwords
      */
-    List<User> getAllUsers();
+    List<User> getAllUsers(long afterId, int limit);
 
     /**
      * Retrieves a user by their ID.
@@ -48,7 +52,27 @@ public interface UserService {
      * Retrieves a user by their login.
      *
      * @param login the login name of the user
-     * @return the user corresponding to the given login name
+     * @return the user corresponding to the given login name, without their password
      */
     User getUserByLogin(String login);
+
+    /**
+     * Retrieves a user with their password hash by their login, for authentication.
+     *
+     * @param login the login name of the user
+     * @return the user corresponding to the given login name
+     */
+    User getUserCredentialsByLogin(String login);
+
+    /**
+     * Searches the users whose name starts with the query, ignoring case, for an admin user.
+     * The results are ranked by the similarity of the name to the query.
+     *
+     * @param adminUser the admin user searching the users
+     * @param query     the prefix of the user names
+     * @param after     the cursor after which the page starts
+     * @param limit     the maximum number of users to retrieve
+     * @return the page of matching users, without their passwords
+     */
+    List<UserSearchHit> searchUsers(User adminUser, String query, UserSearchCursor after, int limit);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.ylab.app.service;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.workout.Workout;
 import com.ylab.app.model.workout.WorkoutAdditionalParams;
+import com.ylab.app.model.workout.WorkoutChangeFeed;
 import com.ylab.app.model.workout.WorkoutType;
 import com.ylab.app.web.dto.WorkoutDto;
 
@@ -92,4 +93,14 @@ public interface WorkoutService {
      * @return the workout corresponding to the given ID
      */
     Workout getWorkoutById(Long workoutId);
+
+    /**
+     * Retrieves the changes of the user's workouts made after the given change sequence.
+     *
+     * @param user  the user whose workout changes are being queried
+     * @param since the last change sequence already received, zero for a full synchronization
+     * @param limit the maximum number of log entries to read
+     * @return a page of the change feed
+     */
+    WorkoutChangeFeed getWorkoutChanges(User user, long since, int limit);
 }
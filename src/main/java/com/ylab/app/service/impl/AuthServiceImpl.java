@@ -1,47 +1,46 @@
 package com.ylab.app.service.impl;
 
-import com.ylab.app.model.user.User;
 import com.ylab.app.service.AuthService;
-import com.ylab.app.service.UserService;
 import com.ylab.app.web.dto.auth.JwtRequest;
 import com.ylab.app.web.dto.auth.JwtResponse;
+import com.ylab.app.web.security.JwtEntity;
 import com.ylab.app.web.security.JwtTokenProvider;
+import com.ylab.aspect.AuditLevel;
+import com.ylab.aspect.Audited;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 /**
  * AuthServiceImpl class provides implementation for authentication-related operations.
+ * Only the outcome of the operations is audited, since their arguments and results carry credentials.
  *
  *author razlivinsky
  * @since 30.04.2024
  */
 @Service
 @RequiredArgsConstructor
+@Audited(level = AuditLevel.SUMMARY)
 public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
-    private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * Logs in a user and generates a JWT response.
+     * The tokens are issued from the authenticated principal, so the user is loaded once, by the authentication,
+     * and open a new session.
      *
      * @param loginRequest the login request containing user credentials
      * @return the JWT response with the generated token
      */
     @Override
     public JwtResponse login(JwtRequest loginRequest) {
-        JwtResponse jwtResponse = new JwtResponse();
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
-        User user = userService.getUserByLogin(loginRequest.getUsername());
-
-        jwtResponse.setId(user.getId());
-        jwtResponse.setUsername(user.getName());
-        jwtResponse.setAccessToken(jwtTokenProvider.createAccessToken(user.getId(), user.getName(), user.getRole()));
-        jwtResponse.setRefreshToken(jwtTokenProvider.createRefreshToken(user.getId(), user.getName()));
-        return jwtResponse;
+        JwtEntity user = (JwtEntity) authentication.getPrincipal();
+        return jwtTokenProvider.issueTokens(user.getId(), user.getUsername(), user.getRole());
     }
 
     /**
@@ -54,4 +53,14 @@ public class AuthServiceImpl implements AuthService {
     public JwtResponse refresh(String refreshToken) {
         return jwtTokenProvider.refreshUserTokens(refreshToken);
     }
+
+    /**
+     * Logs out the session of the provided refresh token.
+     *
+     * @param refreshToken the refresh token of the session to end
+     */
+    @Override
+    public void logout(String refreshToken) {
+        jwtTokenProvider.revokeRefreshToken(refreshToken);
+    }
 }
\ No newline at end of file
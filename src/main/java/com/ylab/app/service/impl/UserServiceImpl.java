@@ -1,14 +1,20 @@
 package com.ylab.app.service.impl;
 
+import com.ylab.app.cache.CacheInvalidationBus;
+import com.ylab.app.cache.CacheNames;
 import com.ylab.app.dbService.dao.UserDao;
 import com.ylab.app.exception.resourceException.ResourceNotFoundException;
 import com.ylab.app.exception.userException.UserValidationException;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
+import com.ylab.app.model.user.UserSearchCursor;
+import com.ylab.app.model.user.UserSearchHit;
 import com.ylab.app.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,8 +29,14 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
+    private static final int MAX_USERS_LIMIT = 1000;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MIN_SEARCH_LENGTH = 3;
+    private static final int MAX_SEARCH_LENGTH = 50;
+
     private final UserDao userDao;
     private final PasswordEncoder passwordEncoder;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     /**
      * Registers a new user with the given name and password, assigning the role as USER.
@@ -39,6 +51,7 @@ public class UserServiceImpl implements UserService {
         validateFromUserNameAndPassword(name, password);
         User user = new User(name, passwordEncoder.encode(password), UserRole.USER);
         userDao.insertUser(user);
+        cacheInvalidationBus.invalidate(CacheNames.USERS, name);
         return user;
     }
 
@@ -61,13 +74,21 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Retrieves a list of all users in the system.
+     * Retrieves a page of the users in the system, ordered by id.
+     * Pages are read by keyset, so a page costs the same whatever its position.
      *
-     * @return the list of all users
+     * @param afterId the id of the last user of the previous page, zero for the first page
+     * @param limit   the maximum number of users to retrieve
+     * @return the page of users, without their passwords
+     * @throws UserValidationException if the id is negative or the limit is out of range
      */
     @Override
-    public List<User> getAllUsers() {
-        return new ArrayList<>(userDao.getAllUsers());
+    @Transactional(readOnly = true)
+    public List<User> getAllUsers(long afterId, int limit) {
+        if (afterId < 0 || limit < 1 || limit > MAX_USERS_LIMIT) {
+            throw new UserValidationException("Incorrect user page position or limit!");
+        }
+        return new ArrayList<>(userDao.getAllUsers(afterId, limit));
     }
 
     /**
@@ -88,20 +109,66 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Finds a user in the system by their login.
+     * Found users are cached, as every authenticated request looks its user up by login;
+     * they are read without their password, so the cache holds no password hashes.
      *
      * @param login the login (username) of the user to find
-     * @return the user with the specified login, or null if no such user is found
+     * @return the user with the specified login
      * @throws ResourceNotFoundException if the user with the given login is not found
      */
     @Override
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#login")
     public User getUserByLogin(String login) {
         User user = userDao.getUserByLogin(login);
-        if (user.getName() == null) {
+        if (user == null) {
             throw new ResourceNotFoundException("User not found.");
         }
         return user;
     }
 
+    /**
+     * Finds a user with their password hash by their login, for authentication.
+     * The hash is read from the database on every call and never cached.
+     *
+     * @param login the login (username) of the user to find
+     * @return the user with the specified login
+     * @throws ResourceNotFoundException if the user with the given login is not found
+     */
+    @Override
+    public User getUserCredentialsByLogin(String login) {
+        User user = userDao.getUserCredentialsByLogin(login);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found.");
+        }
+        return user;
+    }
+
+    /**
+     * Searches the users whose name starts with the query, ignoring case, for an admin user.
+     * Queries shorter than three characters are rejected: they match too large a share of the users
+     * for the ranking to stay cheap.
+     *
+     * @param adminUser the admin user searching the users
+     * @param query     the prefix of the user names
+     * @param after     the cursor after which the page starts
+     * @param limit     the maximum number of users to retrieve
+     * @return the page of matching users, without their passwords
+     * @throws UserValidationException if the adminUser is null or unauthorized, or the query or limit is out of range
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserSearchHit> searchUsers(User adminUser, String query, UserSearchCursor after, int limit) {
+        if (adminUser == null || !hasRoleAdmin(adminUser)) {
+            throw new UserValidationException("Invalid or unauthorized user");
+        }
+        String prefix = query == null ? "" : query.strip();
+        if (prefix.length() < MIN_SEARCH_LENGTH || prefix.length() > MAX_SEARCH_LENGTH
+                || limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new UserValidationException("Incorrect search query or limit!");
+        }
+        return userDao.searchUsers(prefix, after, limit);
+    }
+
     /**
      * Validates the username and password for any potential issues.
      *
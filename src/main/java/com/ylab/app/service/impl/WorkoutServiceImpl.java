@@ -1,5 +1,8 @@
 package com.ylab.app.service.impl;
 
+import com.ylab.app.cache.CacheInvalidationBus;
+import com.ylab.app.cache.CacheNames;
+import com.ylab.app.cache.SingleFlight;
 import com.ylab.app.dbService.dao.WorkoutDao;
 import com.ylab.app.exception.resourceException.ResourceNotFoundException;
 import com.ylab.app.exception.userException.UserValidationException;
@@ -7,15 +10,23 @@ import com.ylab.app.exception.workoutException.WorkoutException;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.workout.Workout;
 import com.ylab.app.model.workout.WorkoutAdditionalParams;
+import com.ylab.app.model.workout.WorkoutChange;
+import com.ylab.app.model.workout.WorkoutChangeFeed;
+import com.ylab.app.model.workout.WorkoutChangeType;
 import com.ylab.app.model.workout.WorkoutType;
 import com.ylab.app.service.UserService;
 import com.ylab.app.service.WorkoutService;
-import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * WorkoutServiceImpl class
@@ -27,10 +38,35 @@ import java.util.List;
  * @since 09.04.2024
  */
 @Service
-@RequiredArgsConstructor
 public class WorkoutServiceImpl implements WorkoutService {
+    private static final int MAX_CHANGES_LIMIT = 1000;
+    private static final String ALL_WORKOUTS_FLIGHT = "workouts.all";
+    private static final String PARAMS_STATS_FLIGHT = "workouts.params.stats";
+
     private final UserService userService;
     private final WorkoutDao workoutDao;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Instantiates a new workout service.
+     *
+     * @param userService          the user service checking the roles
+     * @param workoutDao           the workout dao
+     * @param cacheInvalidationBus the bus invalidating the workout caches on every node
+     * @param singleFlight         the single flight sharing the queries of concurrent identical requests
+     * @param transactionManager   the transaction manager of the read-only queries run by a single flight leader
+     */
+    public WorkoutServiceImpl(UserService userService, WorkoutDao workoutDao, CacheInvalidationBus cacheInvalidationBus,
+                              SingleFlight singleFlight, PlatformTransactionManager transactionManager) {
+        this.userService = userService;
+        this.workoutDao = workoutDao;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.singleFlight = singleFlight;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * Adds a new workout to the system.
@@ -59,6 +95,7 @@ public class WorkoutServiceImpl implements WorkoutService {
      * @throws WorkoutException if there is an error retrieving the workouts
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Workout> getWorkoutsOnDate(User user, LocalDateTime targetDate) {
         if (targetDate == null) {
             throw new WorkoutException("Incorrect date!");
@@ -83,6 +120,7 @@ public class WorkoutServiceImpl implements WorkoutService {
         }
         updatedWorkout.setUser(user);
         workoutDao.editWorkout(updatedWorkout, workoutId);
+        cacheInvalidationBus.invalidate(CacheNames.WORKOUTS, workoutId);
         return updatedWorkout;
     }
 
@@ -99,7 +137,7 @@ public class WorkoutServiceImpl implements WorkoutService {
             throw new ResourceNotFoundException("Resource not found");
         }
         workoutDao.deleteWorkout(workoutId);
-
+        cacheInvalidationBus.invalidate(CacheNames.WORKOUTS, workoutId);
     }
 
     /**
@@ -112,6 +150,7 @@ public class WorkoutServiceImpl implements WorkoutService {
      * @throws WorkoutException if there is an error in calculating the calories
      */
     @Override
+    @Transactional(readOnly = true)
     public int getCaloriesBurnedInTimePeriod(User user, LocalDateTime startDate, LocalDateTime endDate) {
         validationWorkoutUserAndDate(startDate, endDate);
         return workoutDao.getTotalCaloriesBurnedByUser(user, startDate, endDate);
@@ -119,6 +158,8 @@ public class WorkoutServiceImpl implements WorkoutService {
 
     /**
      * Gets statistical data of additional parameters (e.g., heart rate, steps) for all workouts of a user within a given time frame.
+     * Concurrent identical requests share one query; only the caller running it opens a read-only transaction,
+     * so waiting callers hold no connection.
      *
      * @param user      the user whose stats are being queried
      * @param type      the type of workout for which the stats are being queried
@@ -130,11 +171,14 @@ public class WorkoutServiceImpl implements WorkoutService {
     @Override
     public List<WorkoutAdditionalParams> getAdditionalParamsStats(User user, WorkoutType type, LocalDateTime startDate, LocalDateTime endDate) {
         validationWorkoutUserAndDate(startDate, endDate);
-        return workoutDao.findWorkoutParamsByTypeUserAndDate(user, type, startDate, endDate);
+        return singleFlight.execute(PARAMS_STATS_FLIGHT, List.of(user.getName(), type, startDate, endDate),
+                () -> readOnlyTransaction.execute(status -> workoutDao.findWorkoutParamsByTypeUserAndDate(user, type, startDate, endDate)));
     }
 
     /**
      * Retrieves all the workouts in the system for an admin user.
+     * The role is checked for every caller; concurrent callers then share one query, run in a read-only
+     * transaction by the first of them.
      *
      * @param adminUser the admin user requesting the workouts
      * @return a list of all workouts in the system
@@ -145,17 +189,19 @@ public class WorkoutServiceImpl implements WorkoutService {
         if (adminUser == null || !userService.hasRoleAdmin(adminUser)) {
             throw new UserValidationException("Invalid or unauthorized user");
         }
-        return workoutDao.findAllWorkoutList();
+        return singleFlight.execute(ALL_WORKOUTS_FLIGHT, ALL_WORKOUTS_FLIGHT,
+                () -> readOnlyTransaction.execute(status -> workoutDao.findAllWorkoutList()));
     }
 
     /**
-     * Retrieves a workout by its ID.
+     * Retrieves a workout by its ID. Found workouts are cached until the workout is edited or deleted on any node.
      *
      * @param workoutId the ID of the workout to retrieve
      * @return the workout corresponding to the given ID
      * @throws ResourceNotFoundException if the workout with the specified ID is not found
      */
     @Override
+    @Cacheable(cacheNames = CacheNames.WORKOUTS, key = "#workoutId.toString()")
     public Workout getWorkoutById(Long workoutId) {
         Workout existingWorkout = workoutDao.findWorkoutById(workoutId);
         if (existingWorkout == null) {
@@ -164,6 +210,37 @@ public class WorkoutServiceImpl implements WorkoutService {
         return existingWorkout;
     }
 
+    /**
+     * Retrieves the changes of the user's workouts made after the given change sequence.
+     * <p>
+     * Only the latest entry of each workout in the page is returned, and upserts of workouts changed again
+     * later in the log are left to that later entry. The next sequence continues after the last entry read,
+     * so a client following it applies every change exactly once in order. Runs without a read-only
+     * transaction because reading stamps the sequences of newly finished changes on the primary.
+     *
+     * @param user  the user whose workout changes are being queried
+     * @param since the last change sequence already received, zero for a full synchronization
+     * @param limit the maximum number of log entries to read
+     * @return a page of the change feed
+     * @throws WorkoutException if the sequence is negative or the limit is out of range
+     */
+    @Override
+    public WorkoutChangeFeed getWorkoutChanges(User user, long since, int limit) {
+        if (since < 0 || limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new WorkoutException("Incorrect change feed position or limit!");
+        }
+        List<WorkoutChange> entries = workoutDao.findChangesSince(user, since, limit);
+        Map<Long, WorkoutChange> latest = new LinkedHashMap<>();
+        for (WorkoutChange entry : entries) {
+            latest.remove(entry.getWorkoutId());
+            if (entry.getType() == WorkoutChangeType.DELETE || entry.getWorkout() != null) {
+                latest.put(entry.getWorkoutId(), entry);
+            }
+        }
+        long nextSince = entries.isEmpty() ? since : entries.get(entries.size() - 1).getSeq();
+        return new WorkoutChangeFeed(List.copyOf(latest.values()), nextSince, entries.size() == limit);
+    }
+
     /**
      * Validates the user and date parameters for workout operations.
      *
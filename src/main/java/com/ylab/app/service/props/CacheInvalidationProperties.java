@@ -0,0 +1,22 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * CacheInvalidationProperties class represents the batching properties of the cache invalidation bus.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.invalidation")
+public class CacheInvalidationProperties {
+    private Duration batchInterval = Duration.ofMillis(50);
+    private int maxPayloadSize = 7000;
+    private Duration retryDelay = Duration.ofSeconds(1);
+}
@@ -0,0 +1,37 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * DataSourcePoolProperties class represents the sizing properties of the JDBC connection pool.
+ * <p>
+ * When {@code maxSize} is not positive the pool size is derived from the available processors
+ * using the formula {@code cores * coreMultiplier + spindleCount}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = DataSourcePoolProperties.PREFIX)
+public class DataSourcePoolProperties {
+    public static final String PREFIX = "datasource.pool";
+
+    private int maxSize;
+    private int coreMultiplier = 2;
+    private int spindleCount = 1;
+
+    /**
+     * Resolves the maximum pool size, deriving it from the available processors when not set explicitly.
+     *
+     * @return the maximum number of connections in the pool
+     */
+    public int resolveMaxSize() {
+        if (maxSize > 0) {
+            return maxSize;
+        }
+        return Runtime.getRuntime().availableProcessors() * coreMultiplier + spindleCount;
+    }
+}
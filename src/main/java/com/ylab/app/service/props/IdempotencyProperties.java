@@ -0,0 +1,24 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * IdempotencyProperties class represents the properties of the store replaying responses for idempotency keys.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+    private Duration ttl = Duration.ofHours(24);
+    private int maxEntries = 10000;
+    private int maxKeyLength = 255;
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+    private int cleanupBatchSize = 1000;
+}
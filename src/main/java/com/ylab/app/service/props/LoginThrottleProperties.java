@@ -0,0 +1,28 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * LoginThrottleProperties class represents the token bucket properties throttling the authentication endpoints.
+ * <p>
+ * A bucket holds up to its capacity of attempts and gets one attempt back per refill period.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.login-throttle")
+public class LoginThrottleProperties {
+    private boolean enabled = true;
+    private int ipCapacity = 20;
+    private Duration ipRefillPeriod = Duration.ofSeconds(3);
+    private int usernameCapacity = 5;
+    private Duration usernameRefillPeriod = Duration.ofMinutes(1);
+    private int maxTrackedKeys = 100000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+}
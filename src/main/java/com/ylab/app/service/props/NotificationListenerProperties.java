@@ -0,0 +1,22 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * NotificationListenerProperties class represents the properties of the PostgreSQL notification listener.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.notification")
+public class NotificationListenerProperties {
+    private boolean enabled = true;
+    private Duration pollTimeout = Duration.ofSeconds(1);
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
@@ -0,0 +1,23 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OutboxRelayProperties class represents the polling properties of the outbox relay.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxRelayProperties {
+    private boolean enabled = true;
+    private int batchSize = 100;
+    private int maxBatchesPerPoll = 10;
+    private Duration pollInterval = Duration.ofMillis(500);
+}
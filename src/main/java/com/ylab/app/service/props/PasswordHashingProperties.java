@@ -0,0 +1,36 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * PasswordHashingProperties class represents the properties of the bounded pool hashing passwords.
+ * <p>
+ * When {@code threads} is not positive the pool has one thread per available processor. Registered by
+ * {@link com.ylab.app.config.ApplicationConfig}, so the slices importing it bind the properties too.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@ConfigurationProperties(prefix = "security.hashing")
+public class PasswordHashingProperties {
+    private int threads;
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(5);
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Resolves the number of hashing threads, deriving it from the available processors when not set explicitly.
+     *
+     * @return the number of hashing threads
+     */
+    public int resolveThreads() {
+        if (threads > 0) {
+            return threads;
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
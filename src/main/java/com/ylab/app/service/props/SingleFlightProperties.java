@@ -0,0 +1,20 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * SingleFlightProperties class represents the properties of request coalescing for expensive reads.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "single-flight")
+public class SingleFlightProperties {
+    private Duration timeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,24 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * TokenRevocationProperties class represents the properties of the refresh token store and the revocation denylist.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.revocation")
+public class TokenRevocationProperties {
+    private int expectedRevocations = 10000;
+    private double falsePositiveRate = 0.01;
+    private Duration reloadInterval = Duration.ofMinutes(1);
+    private Duration cleanupInterval = Duration.ofHours(1);
+    private int cleanupBatchSize = 1000;
+}
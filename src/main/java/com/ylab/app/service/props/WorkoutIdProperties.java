@@ -0,0 +1,20 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * WorkoutIdProperties class represents the properties of the pooled allocation of workout and param ids.
+ * <p>
+ * Each stripe holds its own block of ids, so up to this many blocks per sequence are left unused on shutdown.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "workout.ids")
+public class WorkoutIdProperties {
+    private int stripes = 4;
+}
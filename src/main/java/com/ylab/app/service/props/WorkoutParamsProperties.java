@@ -0,0 +1,44 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * WorkoutParamsProperties class represents the storage layout of the workout parameters.
+ * <p>
+ * The layout is also the Liquibase context, so the first start with {@code jsonb} moves the existing parameters
+ * into the workouts. The move is one way: a database switched to {@code jsonb} must stay on it.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "workout.params")
+public class WorkoutParamsProperties {
+    private Storage storage = Storage.TABLE;
+
+    /**
+     * Storage enum lists the layouts of the workout parameters.
+     */
+    public enum Storage {
+        /**
+         * One row per parameter in the workout_param table.
+         */
+        TABLE,
+        /**
+         * A JSONB array of name and value pairs in the params column of the workout.
+         */
+        JSONB
+    }
+
+    /**
+     * Checks whether the parameters are stored in the params column of the workout.
+     *
+     * @return true for the jsonb layout, false for the table layout
+     */
+    public boolean isJsonb() {
+        return storage == Storage.JSONB;
+    }
+}
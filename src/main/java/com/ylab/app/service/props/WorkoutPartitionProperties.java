@@ -0,0 +1,19 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * WorkoutPartitionProperties class represents the maintenance properties of the monthly workout partitions.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "workout.partition")
+public class WorkoutPartitionProperties {
+    private int monthsAhead = 3;
+    private String maintenanceCron = "0 0 3 * * *";
+}
@@ -0,0 +1,26 @@
+package com.ylab.app.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * WorkoutStreamProperties class represents the properties of the server-sent workout change stream.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "workout.stream")
+public class WorkoutStreamProperties {
+    private int maxSubscribers = 10000;
+    private int bufferSize = 256;
+    private int pageSize = 100;
+    private int senderThreads = 2;
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    private Duration pendingRetryInterval = Duration.ofMillis(500);
+}
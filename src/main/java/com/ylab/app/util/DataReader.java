@@ -15,6 +15,12 @@ import java.util.Objects;
 public class DataReader {
     public static final String USER_QUERY = "user_query.yml";
     public static final String WORKOUT_QUERY = "workout_query.yml";
+    public static final String REPLICA_QUERY = "replica_query.yml";
+    public static final String PARTITION_QUERY = "partition_query.yml";
+    public static final String OUTBOX_QUERY = "outbox_query.yml";
+    public static final String NOTIFICATION_QUERY = "notification_query.yml";
+    public static final String IDEMPOTENCY_QUERY = "idempotency_query.yml";
+    public static final String REFRESH_TOKEN_QUERY = "refresh_token_query.yml";
 
     /**
      * Reads the user query string specified by the value.
@@ -40,4 +46,76 @@ public class DataReader {
         yaml.setResources(new ClassPathResource(WORKOUT_QUERY));
         return Objects.requireNonNull(yaml.getObject()).getProperty(value);
     }
+
+    /**
+     * Reads the replica query string specified by the value.
+     *
+     * @param value the key for the replica query string
+     * @return the replica query string
+     */
+    public static String readReplicaQuery(String value) {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource(REPLICA_QUERY));
+        return Objects.requireNonNull(yaml.getObject()).getProperty(value);
+    }
+
+    /**
+     * Reads the partition maintenance query string specified by the value.
+     *
+     * @param value the key for the partition maintenance query string
+     * @return the partition maintenance query string
+     */
+    public static String readPartitionQuery(String value) {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource(PARTITION_QUERY));
+        return Objects.requireNonNull(yaml.getObject()).getProperty(value);
+    }
+
+    /**
+     * Reads the outbox query string specified by the value.
+     *
+     * @param value the key for the outbox query string
+     * @return the outbox query string
+     */
+    public static String readOutboxQuery(String value) {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource(OUTBOX_QUERY));
+        return Objects.requireNonNull(yaml.getObject()).getProperty(value);
+    }
+
+    /**
+     * Reads the notification query string specified by the value.
+     *
+     * @param value the key for the notification query string
+     * @return the notification query string
+     */
+    public static String readNotificationQuery(String value) {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource(NOTIFICATION_QUERY));
+        return Objects.requireNonNull(yaml.getObject()).getProperty(value);
+    }
+
+    /**
+     * Reads the idempotency query string specified by the value.
+     *
+     * @param value the key for the idempotency query string
+     * @return the idempotency query string
+     */
+    public static String readIdempotencyQuery(String value) {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource(IDEMPOTENCY_QUERY));
+        return Objects.requireNonNull(yaml.getObject()).getProperty(value);
+    }
+
+    /**
+     * Reads the refresh token query string specified by the value.
+     *
+     * @param value the key for the refresh token query string
+     * @return the refresh token query string
+     */
+    public static String readRefreshTokenQuery(String value) {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource(REFRESH_TOKEN_QUERY));
+        return Objects.requireNonNull(yaml.getObject()).getProperty(value);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.ylab.app.util;
+
+import static com.ylab.app.util.DataReader.readIdempotencyQuery;
+
+/**
+ * DataResultIdempotencyQuery class provides methods to retrieve idempotency query details from the resource bundle.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class DataResultIdempotencyQuery {
+    private static final String INSERT_IDEMPOTENCY_REQUEST = "insert.idempotency_request";
+    private static final String SELECT_IDEMPOTENCY_REQUEST = "select.idempotency_request";
+    private static final String UPDATE_IDEMPOTENCY_RESPONSE = "update.idempotency_response";
+    private static final String DELETE_EXPIRED_IDEMPOTENCY_REQUESTS = "delete.expired_idempotency_requests";
+
+    /**
+     * Retrieves the query claiming an idempotency key, taking over an expired one.
+     *
+     * @return the insert idempotency request query
+     */
+    public static String insertIdempotencyRequestQuery() {
+        return readIdempotencyQuery(INSERT_IDEMPOTENCY_REQUEST);
+    }
+
+    /**
+     * Retrieves the query selecting an unexpired idempotent request.
+     *
+     * @return the select idempotency request query
+     */
+    public static String getSelectIdempotencyRequest() {
+        return readIdempotencyQuery(SELECT_IDEMPOTENCY_REQUEST);
+    }
+
+    /**
+     * Retrieves the query storing the response of an idempotent request.
+     *
+     * @return the update idempotency response query
+     */
+    public static String updateIdempotencyResponseQuery() {
+        return readIdempotencyQuery(UPDATE_IDEMPOTENCY_RESPONSE);
+    }
+
+    /**
+     * Retrieves the query deleting a batch of expired idempotent requests.
+     *
+     * @return the delete expired idempotency requests query
+     */
+    public static String deleteExpiredIdempotencyRequestsQuery() {
+        return readIdempotencyQuery(DELETE_EXPIRED_IDEMPOTENCY_REQUESTS);
+    }
+}
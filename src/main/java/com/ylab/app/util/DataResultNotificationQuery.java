@@ -0,0 +1,22 @@
+package com.ylab.app.util;
+
+import static com.ylab.app.util.DataReader.readNotificationQuery;
+
+/**
+ * DataResultNotificationQuery class provides methods to retrieve notification query details from the resource bundle.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class DataResultNotificationQuery {
+    private static final String NOTIFY_CHANNEL = "notify.channel";
+
+    /**
+     * Retrieves the query sending a notification with a payload to a channel.
+     *
+     * @return the notify channel query
+     */
+    public static String notifyChannelQuery() {
+        return readNotificationQuery(NOTIFY_CHANNEL);
+    }
+}
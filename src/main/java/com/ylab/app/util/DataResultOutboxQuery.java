@@ -0,0 +1,42 @@
+package com.ylab.app.util;
+
+import static com.ylab.app.util.DataReader.readOutboxQuery;
+
+/**
+ * DataResultOutboxQuery class provides methods to retrieve outbox query details from the resource bundle.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class DataResultOutboxQuery {
+    private static final String INSERT_OUTBOX_EVENT = "insert.outbox_event";
+    private static final String SELECT_OUTBOX_BATCH = "select.outbox_batch";
+    private static final String DELETE_OUTBOX_EVENTS = "delete.outbox_events";
+
+    /**
+     * Retrieves the query appending an event to the outbox.
+     *
+     * @return the insert outbox event query
+     */
+    public static String insertOutboxEventQuery() {
+        return readOutboxQuery(INSERT_OUTBOX_EVENT);
+    }
+
+    /**
+     * Retrieves the query locking the oldest undelivered outbox events.
+     *
+     * @return the select outbox batch query
+     */
+    public static String getSelectOutboxBatch() {
+        return readOutboxQuery(SELECT_OUTBOX_BATCH);
+    }
+
+    /**
+     * Retrieves the query deleting delivered outbox events.
+     *
+     * @return the delete outbox events query
+     */
+    public static String deleteOutboxEventsQuery() {
+        return readOutboxQuery(DELETE_OUTBOX_EVENTS);
+    }
+}
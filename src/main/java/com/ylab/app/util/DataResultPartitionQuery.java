@@ -0,0 +1,22 @@
+package com.ylab.app.util;
+
+import static com.ylab.app.util.DataReader.readPartitionQuery;
+
+/**
+ * DataResultPartitionQuery class provides methods to retrieve partition maintenance query details from the resource bundle.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class DataResultPartitionQuery {
+    private static final String ENSURE_WORKOUT_PARTITIONS = "function.ensure_workout_partitions";
+
+    /**
+     * Retrieves the query creating the missing monthly workout partitions between two dates.
+     *
+     * @return the ensure workout partitions query
+     */
+    public static String ensureWorkoutPartitionsQuery() {
+        return readPartitionQuery(ENSURE_WORKOUT_PARTITIONS);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ylab.app.util;
+
+import static com.ylab.app.util.DataReader.readRefreshTokenQuery;
+
+/**
+ * DataResultRefreshTokenQuery class provides methods to retrieve refresh token query details from the resource bundle.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class DataResultRefreshTokenQuery {
+    private static final String INSERT_REFRESH_TOKEN = "insert.refresh_token";
+    private static final String USE_REFRESH_TOKEN = "update.use_refresh_token";
+    private static final String REVOKE_REFRESH_TOKEN_FAMILY = "update.revoke_refresh_token_family";
+    private static final String SELECT_REFRESH_TOKEN_EXISTS = "select.refresh_token_exists";
+    private static final String SELECT_REVOKED_SESSIONS = "select.revoked_sessions";
+    private static final String DELETE_EXPIRED_REFRESH_TOKENS = "delete.expired_refresh_tokens";
+
+    /**
+     * Retrieves the query storing an issued refresh token.
+     *
+     * @return the insert refresh token query
+     */
+    public static String insertRefreshTokenQuery() {
+        return readRefreshTokenQuery(INSERT_REFRESH_TOKEN);
+    }
+
+    /**
+     * Retrieves the query marking a refresh token used and returning its user.
+     *
+     * @return the use refresh token query
+     */
+    public static String useRefreshTokenQuery() {
+        return readRefreshTokenQuery(USE_REFRESH_TOKEN);
+    }
+
+    /**
+     * Retrieves the query revoking every refresh token of a login session.
+     *
+     * @return the revoke refresh token family query
+     */
+    public static String revokeRefreshTokenFamilyQuery() {
+        return readRefreshTokenQuery(REVOKE_REFRESH_TOKEN_FAMILY);
+    }
+
+    /**
+     * Retrieves the query checking whether a refresh token was issued.
+     *
+     * @return the select refresh token exists query
+     */
+    public static String getSelectRefreshTokenExists() {
+        return readRefreshTokenQuery(SELECT_REFRESH_TOKEN_EXISTS);
+    }
+
+    /**
+     * Retrieves the query selecting the login sessions revoked recently.
+     *
+     * @return the select revoked sessions query
+     */
+    public static String getSelectRevokedSessions() {
+        return readRefreshTokenQuery(SELECT_REVOKED_SESSIONS);
+    }
+
+    /**
+     * Retrieves the query deleting a batch of expired refresh tokens.
+     *
+     * @return the delete expired refresh tokens query
+     */
+    public static String deleteExpiredRefreshTokensQuery() {
+        return readRefreshTokenQuery(DELETE_EXPIRED_REFRESH_TOKENS);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ylab.app.util;
+
+import static com.ylab.app.util.DataReader.readReplicaQuery;
+
+/**
+ * DataResultReplicaQuery class provides methods to retrieve read replica query details from the resource bundle.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class DataResultReplicaQuery {
+    private static final String SELECT_REPLICA_LAG = "select.replica_lag";
+
+    /**
+     * Retrieves the query measuring the replication lag of a replica in seconds.
+     *
+     * @return the replica lag query
+     */
+    public static String getSelectReplicaLag() {
+        return readReplicaQuery(SELECT_REPLICA_LAG);
+    }
+}
@@ -10,10 +10,11 @@ import static com.ylab.app.util.DataReader.readUserQuery;
  */
 public class DataResultUserQuery {
     private static final String INSERT_USER_QUERY = "insert.schema.user";
-    private static final String LOGIN_QUERY = "login.user";
     private static final String LIST_USERS = "list.users";
     public static final String FIND_USER_BY_ID = "user.id";
     public static final String FIND_USER_BY_LOGIN = "user.login";
+    public static final String FIND_USER_CREDENTIALS_BY_LOGIN = "user.credentials";
+    private static final String SEARCH_USERS = "search.users";
 
     /**
      * Retrieves the insert user query.
@@ -25,16 +26,7 @@ public class DataResultUserQuery {
     }
 
     /**
-     * Retrieves the login query.
-     *
-     * @return the login query
-     */
-    public static String getLoginQuery() {
-        return readUserQuery(LOGIN_QUERY);
-    }
-
-    /**
-     * Retrieves the list users query.
+     * Retrieves the list users query, reading a page of user profiles after a user id.
      *
      * @return the list users query
      */
@@ -59,4 +51,22 @@ public class DataResultUserQuery {
     public static String getFindUserByLogin() {
         return readUserQuery(FIND_USER_BY_LOGIN);
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets find user credentials by login.
+     *
+     * @return the find user credentials by login
+     */
+    public static String getFindUserCredentialsByLogin() {
+        return readUserQuery(FIND_USER_CREDENTIALS_BY_LOGIN);
+    }
+
+    /**
+     * Retrieves the search users query, reading a ranked page of user profiles whose name starts with a prefix.
+     *
+     * @return the search users query
+     */
+    public static String getSearchUsersQuery() {
+        return readUserQuery(SEARCH_USERS);
+    }
+}
@@ -10,7 +10,6 @@ import static com.ylab.app.util.DataReader.readWorkoutQuery;
  */
 public class DataResultWorkoutQuery {
     private static final String INSERT_WORKOUT_QUERY = "insert.workout";
-    private static final String INSERT_WORKOUT_PARAMS_QUERY = "insert.workout_params";
     private static final String EDIT_WORKOUT_QUERY = "update.workout";
     private static final String EDIT_WORKOUT_PARAMS_QUERY = "update.workout_params";
     private static final String DELETE_WORKOUT_QUERY = "delete.workout";
@@ -18,13 +17,22 @@ public class DataResultWorkoutQuery {
     private static final String WORKOUT_USER_ON_DATE_QUERY = "select.workout_by_date";
     private static final String WORKOUT_PARAMS_LIST_QUERY = "select.workout_params_by_id";
     private static final String SELECT_CALORIES_TOTAL = "select.total_calories";
-    private static final String SELECT_WORKOUT_PARAMS_ID = "select.workout_params_by_criteria";
-    private static final String SELECT_WORKOUT_PARAMS_STATISTIC = "select.workout_param_statistic";
+    private static final String SELECT_WORKOUT_PARAMS_BY_CRITERIA = "select.workout_params_by_criteria";
+    private static final String SELECT_WORKOUT_PARAMS_WITHOUT_JSONB_BY_CRITERIA = "select.workout_params_without_jsonb_by_criteria";
+    private static final String SELECT_WORKOUT_PARAMS_JSONB_BY_CRITERIA = "select.workout_params_jsonb_by_criteria";
     private static final String SELECT_WORKOUT_LIST = "select.all_workouts";
     private static final String SELECT_WORKOUT_BY_ID = "select.workout_by_id";
+    private static final String SELECT_WORKOUT_CHANGES = "select.workout_changes";
+    private static final String SELECT_LATEST_WORKOUT_CHANGE_SEQ = "select.latest_workout_change_seq";
+    private static final String SELECT_PENDING_WORKOUT_CHANGES = "select.pending_workout_changes";
+    private static final String STAMP_WORKOUT_CHANGES = "function.stamp_workout_changes";
+    private static final String INSERT_PARAM_DEFINITION = "insert.param_definition";
+    private static final String SELECT_PARAM_DEFINITION_ID = "select.param_definition_id";
+    private static final String SELECT_PARAM_DEFINITION_NAME = "select.param_definition_name";
+    private static final String SELECT_SEQUENCE_BLOCK = "select.sequence_block";
 
     /**
-     * Retrieves the insert workout query.
+     * Retrieves the insert workout query, which inserts the workout together with the arrays of its param rows.
      *
      * @return the insert workout query
      */
@@ -32,15 +40,6 @@ public class DataResultWorkoutQuery {
         return readWorkoutQuery(INSERT_WORKOUT_QUERY);
     }
 
-    /**
-     * Retrieves the insert workout params query.
-     *
-     * @return the insert workout params query
-     */
-    public static String insertWorkoutParamsQuery() {
-        return readWorkoutQuery(INSERT_WORKOUT_PARAMS_QUERY);
-    }
-
     /**
      * Retrieves the workout user on date query.
      *
@@ -105,21 +104,30 @@ public class DataResultWorkoutQuery {
     }
 
     /**
-     * Retrieves the select workout params ID query.
+     * Retrieves the select workout params by type, user and date range query.
      *
-     * @return the select workout params ID query
+     * @return the select workout params by criteria query
      */
-    public static String getSelectWorkoutParamsId() {
-        return readWorkoutQuery(SELECT_WORKOUT_PARAMS_ID);
+    public static String getSelectWorkoutParamsByCriteria() {
+        return readWorkoutQuery(SELECT_WORKOUT_PARAMS_BY_CRITERIA);
     }
 
     /**
-     * Retrieves the select workout params statistic query.
+     * Retrieves the select of the parameter rows of the workouts without JSONB parameters by type, user and date range.
      *
-     * @return the select workout params statistic query
+     * @return the select workout params without jsonb by criteria query
      */
-    public static String getSelectWorkoutParamsStatistic() {
-        return readWorkoutQuery(SELECT_WORKOUT_PARAMS_STATISTIC);
+    public static String getSelectWorkoutParamsWithoutJsonbByCriteria() {
+        return readWorkoutQuery(SELECT_WORKOUT_PARAMS_WITHOUT_JSONB_BY_CRITERIA);
+    }
+
+    /**
+     * Retrieves the select of the JSONB parameters of the workouts by type, user and date range.
+     *
+     * @return the select workout params jsonb by criteria query
+     */
+    public static String getSelectWorkoutParamsJsonbByCriteria() {
+        return readWorkoutQuery(SELECT_WORKOUT_PARAMS_JSONB_BY_CRITERIA);
     }
 
     /**
@@ -139,4 +147,76 @@ public class DataResultWorkoutQuery {
     public static String getSelectWorkoutById() {
         return readWorkoutQuery(SELECT_WORKOUT_BY_ID);
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the query selecting the changes of a user's workouts after a change sequence.
+     *
+     * @return the select workout changes query
+     */
+    public static String getSelectWorkoutChanges() {
+        return readWorkoutQuery(SELECT_WORKOUT_CHANGES);
+    }
+
+    /**
+     * Retrieves the query assigning change sequences to the changes of finished transactions.
+     *
+     * @return the stamp workout changes query
+     */
+    public static String stampWorkoutChangesQuery() {
+        return readWorkoutQuery(STAMP_WORKOUT_CHANGES);
+    }
+
+    /**
+     * Retrieves the query selecting the highest assigned change sequence.
+     *
+     * @return the select latest workout change sequence query
+     */
+    public static String getSelectLatestWorkoutChangeSeq() {
+        return readWorkoutQuery(SELECT_LATEST_WORKOUT_CHANGE_SEQ);
+    }
+
+    /**
+     * Retrieves the query checking whether a user has finished changes still waiting for a change sequence.
+     *
+     * @return the select pending workout changes query
+     */
+    public static String getSelectPendingWorkoutChanges() {
+        return readWorkoutQuery(SELECT_PENDING_WORKOUT_CHANGES);
+    }
+
+    /**
+     * Retrieves the query adding a parameter name to the dictionary unless it is already there.
+     *
+     * @return the insert param definition query
+     */
+    public static String insertParamDefinitionQuery() {
+        return readWorkoutQuery(INSERT_PARAM_DEFINITION);
+    }
+
+    /**
+     * Retrieves the query selecting the dictionary id of a parameter name.
+     *
+     * @return the select param definition id query
+     */
+    public static String getSelectParamDefinitionId() {
+        return readWorkoutQuery(SELECT_PARAM_DEFINITION_ID);
+    }
+
+    /**
+     * Retrieves the query selecting the parameter name of a dictionary id.
+     *
+     * @return the select param definition name query
+     */
+    public static String getSelectParamDefinitionName() {
+        return readWorkoutQuery(SELECT_PARAM_DEFINITION_NAME);
+    }
+
+    /**
+     * Retrieves the query taking the next block of ids from a sequence along with the size of the block.
+     *
+     * @return the select sequence block query
+     */
+    public static String getSelectSequenceBlock() {
+        return readWorkoutQuery(SELECT_SEQUENCE_BLOCK);
+    }
+}
@@ -7,12 +7,15 @@ import com.ylab.app.web.dto.UserDto;
 import com.ylab.app.web.dto.auth.JwtRequest;
 import com.ylab.app.web.dto.auth.JwtResponse;
 import com.ylab.app.web.mapper.UserMapper;
+import com.ylab.app.web.security.LoginThrottle;
 import com.ylab.aspect.EnableLogging;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -35,29 +38,43 @@ public class AuthController {
     private final AuthService authService;
     private final UserService userService;
     private final UserMapper userMapper;
+    private final LoginThrottle loginThrottle;
 
     /**
      * Login with JWT credentials and generate a JWT response.
+     * Attempts are throttled per client address, and failed attempts per username.
+     * Behind a proxy the client address is taken from {@code X-Forwarded-For}, trusted only when the request
+     * comes from one of the {@code server.tomcat.remoteip.internal-proxies}.
      *
+     * @param request the HTTP request, identifying the client address
      * @param jwtRequest the JWT login request
      * @return the JWT response containing access and refresh tokens
      */
     @PostMapping("/login")
     @Operation(summary = "Authorization user")
-    public ResponseEntity<JwtResponse> login(@Validated @RequestBody JwtRequest jwtRequest) {
-        JwtResponse response = authService.login(jwtRequest);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<JwtResponse> login(HttpServletRequest request, @Validated @RequestBody JwtRequest jwtRequest) {
+        loginThrottle.checkLogin(request.getRemoteAddr(), jwtRequest.getUsername());
+        try {
+            JwtResponse response = authService.login(jwtRequest);
+            return ResponseEntity.ok(response);
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(jwtRequest.getUsername());
+            throw e;
+        }
     }
 
     /**
      * Register a new user based on the provided UserDto.
+     * Attempts are throttled per client address.
      *
+     * @param request the HTTP request, identifying the client address
      * @param dto the UserDto containing user registration information
      * @return the UserDto of the registered user
      */
     @PostMapping("/register")
     @Operation(summary = "Registration user")
-    public ResponseEntity<UserDto> register(@Validated @RequestBody UserDto dto) {
+    public ResponseEntity<UserDto> register(HttpServletRequest request, @Validated @RequestBody UserDto dto) {
+        loginThrottle.checkClient(request.getRemoteAddr());
         User user = userMapper.userDtoToUser(dto);
         User createUser = userService.registerUser(user.getName(), user.getPassword());
         UserDto createdUserDto = userMapper.userToUserDto(createUser);
@@ -76,4 +93,17 @@ public class AuthController {
         JwtResponse response = authService.refresh(refreshToken);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Log out the session of the provided refresh token.
+     *
+     * @param refreshToken the refresh token of the session to end
+     * @return the empty response
+     */
+    @PostMapping("/logout")
+    @Operation(summary = "Logout user")
+    public ResponseEntity<Void> logout(@RequestBody String refreshToken) {
+        authService.logout(refreshToken);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
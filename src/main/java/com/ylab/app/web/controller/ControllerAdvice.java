@@ -3,10 +3,17 @@ package com.ylab.app.web.controller;
 import com.ylab.app.exception.dbException.AccessDeniedException;
 import com.ylab.app.exception.dbException.DatabaseReadException;
 import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.exception.idempotencyException.IdempotencyConflictException;
+import com.ylab.app.exception.idempotencyException.IdempotencyKeyReuseException;
 import com.ylab.app.exception.resourceException.ResourceNotFoundException;
+import com.ylab.app.exception.securityException.LoginThrottledException;
+import com.ylab.app.exception.securityException.PasswordHashingUnavailableException;
 import com.ylab.app.exception.userException.UserValidationException;
 import com.ylab.app.exception.workoutException.WorkoutException;
+import com.ylab.app.exception.workoutException.WorkoutStreamException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,10 +21,13 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.time.format.DateTimeParseException;
 
 /**
  * ControllerAdvice class handles exception handling for the application's controllers.
+ * Errors are answered with RFC 7807 problem details ({@code application/problem+json}) whose detail holds
+ * the message that used to be the whole response body.
  *
  * @author razlivinsky
  * @since 02.05.2024
@@ -29,104 +39,178 @@ public class ControllerAdvice {
      * Handles the exception when a requested resource is not found.
      *
      * @param e the ResourceNotFoundException instance
-     * @return the response entity with a not found status and the exception's message
+     * @return the response entity with a not found status and the exception's message as the problem detail
      */
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
-    public ResponseEntity<String> handleResourceNotFound(ResourceNotFoundException e) {
-        return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+    public ResponseEntity<ProblemDetail> handleResourceNotFound(ResourceNotFoundException e) {
+        return problem(HttpStatus.NOT_FOUND, e.getMessage());
     }
 
     /**
      * Handles the exception when there is a user validation error.
      *
      * @param e the UserValidationException instance
-     * @return the response with a bad request status and the exception's message
+     * @return the response entity with a bad request status and the exception's message as the problem detail
      */
     @ExceptionHandler(UserValidationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ResponseEntity<String> handleUserValidation(UserValidationException e) {
-        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ProblemDetail> handleUserValidation(UserValidationException e) {
+        return problem(HttpStatus.BAD_REQUEST, e.getMessage());
     }
 
     /**
      * Handles exceptions related to workout operations.
      *
      * @param e the WorkoutException instance
-     * @return the response entity with a bad request status and the exception's message
+     * @return the response entity with a bad request status and the exception's message as the problem detail
      */
     @ExceptionHandler(WorkoutException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ResponseEntity<String> handleWorkout(WorkoutException e) {
-        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ProblemDetail> handleWorkout(WorkoutException e) {
+        return problem(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    /**
+     * Handles the exception when the workout change stream is at its subscriber limit.
+     *
+     * @param e the WorkoutStreamException instance
+     * @return the response entity with a service unavailable status and the exception's message as the problem detail
+     */
+    @ExceptionHandler(WorkoutStreamException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ProblemDetail> handleWorkoutStream(WorkoutStreamException e) {
+        return problem(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+
+    /**
+     * Handles the exception when a request with the same idempotency key is still being processed.
+     *
+     * @param e the IdempotencyConflictException instance
+     * @return the response entity with a conflict status and the exception's message as the problem detail
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ProblemDetail> handleIdempotencyConflict(IdempotencyConflictException e) {
+        return problem(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    /**
+     * Handles the exception when an idempotency key is reused for a different request.
+     *
+     * @param e the IdempotencyKeyReuseException instance
+     * @return the response entity with an unprocessable entity status and the exception's message as the problem detail
+     */
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ResponseEntity<ProblemDetail> handleIdempotencyKeyReuse(IdempotencyKeyReuseException e) {
+        return problem(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+    }
+
+    /**
+     * Handles the exception when the password hashing pool is saturated.
+     *
+     * @param e the PasswordHashingUnavailableException instance
+     * @return the response entity with a service unavailable status, a Retry-After header
+     * and the exception's message as the problem detail
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ProblemDetail> handlePasswordHashingUnavailable(PasswordHashingUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(e.getRetryAfter()))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    /**
+     * Handles the exception when too many authentication attempts were made.
+     *
+     * @param e the LoginThrottledException instance
+     * @return the response entity with a too many requests status, a Retry-After header
+     * and the exception's message as the problem detail
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<ProblemDetail> handleLoginThrottled(LoginThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(e.getRetryAfter()))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage()));
     }
 
     /**
      * Handles the exception when access to a resource is denied.
      *
-     * @return the response entity with a forbidden status and an "Access denied" message
+     * @return the response entity with a forbidden status and an "Access denied" problem detail
      */
     @ExceptionHandler({AccessDeniedException.class, org.springframework.security.access.AccessDeniedException.class})
     @ResponseStatus(HttpStatus.FORBIDDEN)
-    public ResponseEntity<String> handleAccessDenied() {
-        return new ResponseEntity<>("Access denied", HttpStatus.FORBIDDEN);
+    public ResponseEntity<ProblemDetail> handleAccessDenied() {
+        return problem(HttpStatus.FORBIDDEN, "Access denied");
     }
 
     /**
      * Handles exceptions related to database write operations.
      *
-     * @return the response entity with an internal server error status and an "Error database write" message
+     * @return the response entity with an internal server error status and an "Error database write" problem detail
      */
     @ExceptionHandler(DatabaseWriteException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ResponseEntity<String> handleDatabaseWriteException() {
-        return new ResponseEntity<>("Error database write", HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<ProblemDetail> handleDatabaseWriteException() {
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, "Error database write");
     }
 
     /**
      * Handles exceptions related to database read operations.
      *
-     * @return the response entity with an internal server error status and an "Error database read" message
+     * @return the response entity with an internal server error status and an "Error database read" problem detail
      */
     @ExceptionHandler(DatabaseReadException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ResponseEntity<String> handleDatabaseReadException() {
-        return new ResponseEntity<>("Error database read", HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<ProblemDetail> handleDatabaseReadException() {
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, "Error database read");
     }
 
     /**
      * Handles exceptions related to date and time parsing.
      *
      * @param e the DateTimeParseException instance
-     * @return the response entity with a bad request status and a descriptive message about the invalid date format
+     * @return the response entity with a bad request status and a descriptive problem detail about the invalid date format
      */
     @ExceptionHandler(DateTimeParseException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ResponseEntity<String> handleDateTimeParseException(DateTimeParseException e) {
-        return new ResponseEntity<>("Invalid date format: " + e.getMessage() + " required date format 2024-01-01 22:00", HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ProblemDetail> handleDateTimeParseException(DateTimeParseException e) {
+        return problem(HttpStatus.BAD_REQUEST, "Invalid date format: " + e.getMessage() + " required date format 2024-01-01 22:00");
     }
 
     /**
      * Handles exceptions related to malformed HTTP request bodies.
      *
      * @param e the HttpMessageNotReadableException instance
-     * @return the response entity with a bad request status and a message indicating a malformed request body
+     * @return the response entity with a bad request status and a problem detail indicating a malformed request body
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ResponseEntity<String> handleHttpMessageNotReadable(HttpMessageNotReadableException e) {
-        return new ResponseEntity<>("Malformed request body: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ProblemDetail> handleHttpMessageNotReadable(HttpMessageNotReadableException e) {
+        return problem(HttpStatus.BAD_REQUEST, "Malformed request body: " + e.getMessage());
     }
 
     /**
      * Handles exceptions related to invalid method arguments.
      *
      * @param e the MethodArgumentNotValidException instance
-     * @return the response entity with a bad request status and a message indicating invalid data
+     * @return the response entity with a bad request status and a problem detail indicating invalid data
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ResponseEntity<String> handleMethodArgumentNotValid(MethodArgumentNotValidException e) {
-        return new ResponseEntity<>("Invalid data: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ProblemDetail> handleMethodArgumentNotValid(MethodArgumentNotValidException e) {
+        return problem(HttpStatus.BAD_REQUEST, "Invalid data: " + e.getMessage());
+    }
+
+    private static ResponseEntity<ProblemDetail> problem(HttpStatus status, String detail) {
+        return ResponseEntity.status(status).body(ProblemDetail.forStatusAndDetail(status, detail));
+    }
+
+    private static String retryAfterSeconds(Duration retryAfter) {
+        return String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
     }
 }
@@ -1,6 +1,8 @@
 package com.ylab.app.web.controller;
 
 import com.ylab.app.model.user.User;
+import com.ylab.app.model.user.UserSearchCursor;
+import com.ylab.app.model.user.UserSearchHit;
 import com.ylab.app.service.UserService;
 import com.ylab.app.web.dto.UserDto;
 import com.ylab.app.web.mapper.UserMapper;
@@ -9,10 +11,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -31,6 +36,8 @@ import java.util.List;
 @Tag(name = "User Controller", description = "User API")
 @EnableLogging
 public class UserController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final UserService userService;
     private final UserMapper userMapper;
 
@@ -49,15 +56,52 @@ public class UserController {
     }
 
     /**
-     * Retrieves a list of all users available in the system.
+     * Retrieves a page of the users available in the system, ordered by id.
+     * When the page is full, the X-Next-Cursor header holds the afterId of the next page.
      *
-     * @return a response entity containing a list of user DTOs representing all users
+     * @param afterId the id of the last user of the previous page, zero for the first page
+     * @param limit   the maximum number of users to retrieve
+     * @return a response entity containing a list of user DTOs representing a page of users
      */
     @GetMapping("/all")
-    @Operation(summary = "Get all userDto")
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        List<User> users = userService.getAllUsers();
+    @Operation(summary = "Get a page of userDto")
+    public ResponseEntity<List<UserDto>> getAllUsers(@RequestParam(defaultValue = "0") long afterId,
+                                                     @RequestParam(defaultValue = "100") int limit) {
+        List<User> users = userService.getAllUsers(afterId, limit);
         List<UserDto> userDtos = userMapper.listUserToUserDto(users);
+        if (users.size() == limit) {
+            return ResponseEntity.ok()
+                    .header(NEXT_CURSOR_HEADER, String.valueOf(users.get(users.size() - 1).getId()))
+                    .body(userDtos);
+        }
+        return ResponseEntity.ok(userDtos);
+    }
+
+    /**
+     * Searches the users whose name starts with the query, ignoring case, ranked by how close the name is
+     * to the query. Available to admin users.
+     * When the page is full, the X-Next-Cursor header holds the cursor of the next page.
+     *
+     * @param userDetails the authenticated admin user searching the users
+     * @param q           the prefix of the user names, at least three characters
+     * @param cursor      the cursor returned with the previous page, absent for the first page
+     * @param limit       the maximum number of users to retrieve
+     * @return a response entity containing a list of user DTOs representing a page of matching users
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search userDto by name prefix")
+    public ResponseEntity<List<UserDto>> searchUsers(@AuthenticationPrincipal UserDetails userDetails,
+                                                     @RequestParam String q,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        User admin = userService.getUserByLogin(userDetails.getUsername());
+        List<UserSearchHit> hits = userService.searchUsers(admin, q, UserSearchCursor.fromToken(cursor), limit);
+        List<UserDto> userDtos = userMapper.listUserToUserDto(hits.stream().map(UserSearchHit::getUser).toList());
+        if (hits.size() == limit) {
+            return ResponseEntity.ok()
+                    .header(NEXT_CURSOR_HEADER, UserSearchCursor.after(hits.get(hits.size() - 1)).toToken())
+                    .body(userDtos);
+        }
         return ResponseEntity.ok(userDtos);
     }
 }
\ No newline at end of file
@@ -1,26 +1,33 @@
 package com.ylab.app.web.controller;
 
+import com.ylab.app.idempotency.IdempotencyStore;
+import com.ylab.app.idempotency.IdempotentResult;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.workout.Workout;
 import com.ylab.app.model.workout.WorkoutAdditionalParams;
+import com.ylab.app.model.workout.WorkoutChangeFeed;
 import com.ylab.app.model.workout.WorkoutType;
 import com.ylab.app.service.UserService;
 import com.ylab.app.service.WorkoutService;
 import com.ylab.app.web.dto.WorkoutAdditionalParamsDto;
+import com.ylab.app.web.dto.WorkoutChangeFeedDto;
 import com.ylab.app.web.dto.WorkoutDto;
 import com.ylab.app.web.mapper.WorkoutAdditionalParamsMapper;
 import com.ylab.app.web.mapper.WorkoutMapper;
+import com.ylab.app.web.stream.WorkoutStreamHub;
 import com.ylab.aspect.EnableLogging;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,25 +46,39 @@ import java.util.List;
 @Tag(name = "Workout Controller", description = "Workout API")
 @EnableLogging
 public class WorkoutController {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final WorkoutService workoutService;
     private final WorkoutMapper workoutMapper;
     private final UserService userService;
     private final WorkoutAdditionalParamsMapper additionalParamsMapper;
+    private final WorkoutStreamHub workoutStreamHub;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * Add a new workout.
+     * A request sent with an Idempotency-Key header is executed once; retries with the same key and body get
+     * the original response with the Idempotent-Replayed header set.
      *
      * @param userDetails User who is adding the workout
+     * @param idempotencyKey Optional key identifying retries of the same request
      * @param workoutDto Workout details to be added
      * @return ResponseEntity containing the added workout details
      */
     @PostMapping("/")
     @Operation(summary = "Add workoutDto")
-    public ResponseEntity<WorkoutDto> addWorkout(@AuthenticationPrincipal UserDetails userDetails, @Validated @RequestBody WorkoutDto workoutDto) {
-        User user = userService.getUserByLogin(userDetails.getUsername());
-        Workout workout = workoutMapper.workoutDtoToWorkout(workoutDto);
-        Workout createWorkout = workoutService.addWorkout(user, workout);
-        return ResponseEntity.status(HttpStatus.CREATED).body(workoutMapper.workoutToWorkoutDto(createWorkout));
+    public ResponseEntity<WorkoutDto> addWorkout(@AuthenticationPrincipal UserDetails userDetails,
+                                                 @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                 @Validated @RequestBody WorkoutDto workoutDto) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(createWorkout(userDetails, workoutDto));
+        }
+        IdempotentResult<WorkoutDto> result = idempotencyStore.execute(userDetails.getUsername(), idempotencyKey,
+                workoutDto, WorkoutDto.class, () -> createWorkout(userDetails, workoutDto));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.body());
     }
 
     /**
@@ -107,6 +128,42 @@ public class WorkoutController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Get the changes of the user's workouts after a change sequence, for delta synchronization.
+     * A client stores nextSince and passes it as since on the next call; zero starts a full synchronization.
+     *
+     * @param userDetails the authenticated user requesting the changes
+     * @param since the last change sequence already received
+     * @param limit the maximum number of changes to read
+     * @return ResponseEntity with a page of the change feed
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "Get workout changes since a change sequence")
+    public ResponseEntity<WorkoutChangeFeedDto> getWorkoutChanges(@AuthenticationPrincipal UserDetails userDetails,
+                                                                  @RequestParam(defaultValue = "0") long since,
+                                                                  @RequestParam(defaultValue = "100") int limit) {
+        User user = userService.getUserByLogin(userDetails.getUsername());
+        WorkoutChangeFeed feed = workoutService.getWorkoutChanges(user, since, limit);
+        return ResponseEntity.ok(workoutMapper.workoutChangeFeedToDto(feed));
+    }
+
+    /**
+     * Stream the changes of the user's workouts as server-sent events while they are committed.
+     * Each event carries a change entry with the change sequence as its id; a client reconnecting with
+     * Last-Event-ID resumes after it.
+     *
+     * @param userDetails the authenticated user subscribing to the changes
+     * @param lastEventId the last change sequence received, absent to stream the changes from now on
+     * @return the emitter of the event stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream workout changes")
+    public SseEmitter streamWorkoutChanges(@AuthenticationPrincipal UserDetails userDetails,
+                                           @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        User user = userService.getUserByLogin(userDetails.getUsername());
+        return workoutStreamHub.subscribe(user, lastEventId);
+    }
+
     /**
      * Get workout by ID.
      *
@@ -180,4 +237,11 @@ public class WorkoutController {
         List<WorkoutDto> workoutDtoList = workoutMapper.listWorkoutToWorkoutDto(workoutList);
         return ResponseEntity.ok(workoutDtoList);
     }
-}
\ No newline at end of file
+
+    private WorkoutDto createWorkout(UserDetails userDetails, WorkoutDto workoutDto) {
+        User user = userService.getUserByLogin(userDetails.getUsername());
+        Workout workout = workoutMapper.workoutDtoToWorkout(workoutDto);
+        Workout createWorkout = workoutService.addWorkout(user, workout);
+        return workoutMapper.workoutToWorkoutDto(createWorkout);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ylab.app.web.dto;
+
+import com.ylab.app.model.workout.WorkoutChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * WorkoutChangeDto class represents a Data Transfer Object for an entry of the workout change feed.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Workout change DTO")
+public class WorkoutChangeDto {
+    @Schema(description = "Change sequence", example = "42")
+    private long seq;
+
+    @Schema(description = "Change type: UPSERT carries the current workout, DELETE is a tombstone", example = "UPSERT")
+    private WorkoutChangeType type;
+
+    @Schema(description = "Workout Id", example = "1")
+    private Long workoutId;
+
+    @Schema(description = "Current state of the workout, absent for a tombstone")
+    private WorkoutDto workout;
+}
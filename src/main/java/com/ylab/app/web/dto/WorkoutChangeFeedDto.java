@@ -0,0 +1,29 @@
+package com.ylab.app.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * WorkoutChangeFeedDto class represents a Data Transfer Object for a page of the workout change feed.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Workout change feed DTO")
+public class WorkoutChangeFeedDto {
+    @Schema(description = "Changes in sequence order")
+    private List<WorkoutChangeDto> changes;
+
+    @Schema(description = "Sequence to pass as since for the next page", example = "42")
+    private long nextSince;
+
+    @Schema(description = "Whether more changes are available right away", example = "false")
+    private boolean hasMore;
+}
@@ -1,6 +1,10 @@
 package com.ylab.app.web.mapper;
 
 import com.ylab.app.model.workout.Workout;
+import com.ylab.app.model.workout.WorkoutChange;
+import com.ylab.app.model.workout.WorkoutChangeFeed;
+import com.ylab.app.web.dto.WorkoutChangeDto;
+import com.ylab.app.web.dto.WorkoutChangeFeedDto;
 import com.ylab.app.web.dto.WorkoutDto;
 import org.mapstruct.Mapper;
 
@@ -39,4 +43,20 @@ public interface WorkoutMapper {
      * @return the workout entity
      */
     Workout workoutDtoToWorkout(WorkoutDto workoutDto);
-}
\ No newline at end of file
+
+    /**
+     * Maps an entry of the workout change feed to its data transfer object (DTO).
+     *
+     * @param change the change entry
+     * @return the change data transfer object
+     */
+    WorkoutChangeDto workoutChangeToDto(WorkoutChange change);
+
+    /**
+     * Maps a page of the workout change feed to its data transfer object (DTO).
+     *
+     * @param feed the page of the change feed
+     * @return the change feed data transfer object
+     */
+    WorkoutChangeFeedDto workoutChangeFeedToDto(WorkoutChangeFeed feed);
+}
@@ -0,0 +1,195 @@
+package com.ylab.app.web.security;
+
+import com.ylab.app.exception.securityException.PasswordHashingUnavailableException;
+import com.ylab.app.service.props.PasswordHashingProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BoundedPasswordEncoder class runs the hashing of a delegate password encoder on a dedicated bounded pool.
+ * <p>
+ * Hashing is CPU bound, so the pool is sized to the available processors and a burst of logins or registrations
+ * cannot take every processor away from the other requests. The request thread waits for its hash without using
+ * the processor. When the queue of the pool is full, or a hash is not done within the timeout, the call fails
+ * with a {@link PasswordHashingUnavailableException} telling the client when to retry.
+ * <p>
+ * Publishes the {@code password.hash} timer tagged with the operation ({@code encode} or {@code matches}),
+ * {@code password.hash.rejected} tagged with the reason ({@code queue_full} or {@code timeout}), and the
+ * {@code password.hash.queue.size} and {@code password.hash.active} gauges.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final Duration retryAfter;
+    private final OperationStats encodeStats = new OperationStats();
+    private final OperationStats matchesStats = new OperationStats();
+    private final AtomicLong queueFull = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    /**
+     * Instantiates a new bounded password encoder.
+     *
+     * @param delegate   the password encoder doing the hashing
+     * @param properties the password hashing properties
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties) {
+        this.delegate = delegate;
+        this.timeoutNanos = properties.getTimeout().toNanos();
+        this.retryAfter = properties.getRetryAfter();
+        int threads = properties.resolveThreads();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Encodes the raw password on the hashing pool.
+     *
+     * @param rawPassword the password to encode
+     * @return the encoded password
+     * @throws PasswordHashingUnavailableException if the hashing pool is saturated
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword), encodeStats);
+    }
+
+    /**
+     * Verifies the raw password against the encoded one on the hashing pool.
+     *
+     * @param rawPassword     the password to verify
+     * @param encodedPassword the stored encoded password
+     * @return true if the passwords match
+     * @throws PasswordHashingUnavailableException if the hashing pool is saturated
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword), matchesStats);
+    }
+
+    /**
+     * Checks whether the encoded password should be encoded again, without hashing.
+     *
+     * @param encodedPassword the stored encoded password
+     * @return true if the password should be encoded again
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Registers the password hashing meters.
+     *
+     * @param registry the meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerTimer(registry, "encode", encodeStats);
+        registerTimer(registry, "matches", matchesStats);
+        FunctionCounter.builder("password.hash.rejected", queueFull, AtomicLong::get)
+                .tag("reason", "queue_full")
+                .register(registry);
+        FunctionCounter.builder("password.hash.rejected", timedOut, AtomicLong::get)
+                .tag("reason", "timeout")
+                .register(registry);
+        Gauge.builder("password.hash.queue.size", executor, pool -> pool.getQueue().size())
+                .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+    }
+
+    /**
+     * Stops the hashing threads.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T hash(Callable<T> operation, OperationStats stats) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return operation.call();
+                } finally {
+                    stats.record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queueFull.incrementAndGet();
+            throw new PasswordHashingUnavailableException("Too many password checks in progress", retryAfter);
+        }
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            timedOut.incrementAndGet();
+            throw new PasswordHashingUnavailableException("Password check timed out", retryAfter);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the password check", e);
+        }
+    }
+
+    private static void registerTimer(MeterRegistry registry, String operation, OperationStats stats) {
+        FunctionTimer.builder("password.hash", stats, OperationStats::getCount, OperationStats::getTotalNanos,
+                        TimeUnit.NANOSECONDS)
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static class OperationStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+
+        void record(long nanos) {
+            totalNanos.addAndGet(nanos);
+            count.incrementAndGet();
+        }
+
+        long getCount() {
+            return count.get();
+        }
+
+        double getTotalNanos() {
+            return totalNanos.get();
+        }
+    }
+}
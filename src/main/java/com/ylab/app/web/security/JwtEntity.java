@@ -1,5 +1,6 @@
 package com.ylab.app.web.security;
 
+import com.ylab.app.model.user.UserRole;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.springframework.security.core.GrantedAuthority;
@@ -9,6 +10,7 @@ import java.util.Collection;
 
 /**
  * JwtEntity class represents the entity for JWT-based user details.
+ * It carries the id and role of the user, so an authenticated principal is enough to issue tokens.
  *
  * @author razlivinsky
  * @since 30.04.2024
@@ -19,6 +21,7 @@ public class JwtEntity implements UserDetails {
     private Long id;
     private final String username;
     private final String password;
+    private final UserRole role;
     private Collection<? extends GrantedAuthority> authorities;
 
     /**
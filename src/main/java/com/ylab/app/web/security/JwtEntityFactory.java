@@ -24,6 +24,7 @@ public class JwtEntityFactory {
                 user.getId(),
                 user.getName(),
                 user.getPassword(),
+                user.getRole(),
                 Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name()))
         );
     }
@@ -1,5 +1,6 @@
 package com.ylab.app.web.security;
 
+import com.ylab.app.exception.resourceException.ResourceNotFoundException;
 import com.ylab.app.exception.userException.UserValidationException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -46,7 +47,7 @@ public class JwtTokenFilter extends GenericFilterBean {
                 if (authentication != null) {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
-            } catch (UserValidationException ignore) {}
+            } catch (UserValidationException | ResourceNotFoundException ignore) {}
         }
         filterChain.doFilter(servletRequest, servletResponse);
     }
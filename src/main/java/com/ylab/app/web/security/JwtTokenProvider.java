@@ -1,10 +1,12 @@
 package com.ylab.app.web.security;
 
+import com.ylab.app.dbService.dao.RefreshTokenDao;
 import com.ylab.app.exception.dbException.AccessDeniedException;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
 import com.ylab.app.service.UserService;
 import com.ylab.app.service.props.JwtProperties;
+import com.ylab.app.service.props.TokenRevocationProperties;
 import com.ylab.app.web.dto.auth.JwtResponse;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
@@ -12,27 +14,44 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JwtTokenProvider class handles the creation and validation of JWT tokens for authentication.
+ * <p>
+ * Every login opens a session, carried by both tokens in the {@code sid} claim. Refresh tokens are stored and
+ * can be used once: a refresh rotates them within the session, and presenting a used refresh token again
+ * revokes the whole session, as it means the token was stolen. Access tokens of a revoked session are rejected
+ * through the {@link TokenDenylist} until they expire.
  *
  * @author razlivinsky
  * @since 30.04.2024
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JwtTokenProvider {
+    private static final String SESSION_CLAIM = "sid";
+    private static final String TYPE_CLAIM = "type";
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+
     private final JwtProperties jwtProperties;
-    private final UserDetailsService userDetailsService;
     private final UserService userService;
+    private final RefreshTokenDao refreshTokenDao;
+    private final TokenDenylist tokenDenylist;
+    private final TokenRevocationProperties revocationProperties;
     private Key key;
 
     /**
@@ -45,65 +64,64 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Creates an access token using the provided user information and roles.
+     * Opens a new session for the user and issues its access and refresh tokens.
      *
-     * @param userId   the user id for the token
-     * @param username the username for the token
-     * @param role    the roles associated with the user
-     * @return the generated access token
+     * @param userId   the user id for the tokens
+     * @param username the username for the tokens
+     * @param role     the role associated with the user
+     * @return the JWT response containing the access and refresh tokens
      */
-    public String createAccessToken(Long userId, String username, UserRole role) {
-        Claims claims = Jwts.claims().setSubject(username);
-        claims.put("id", userId);
-        claims.put("roles", role);
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + jwtProperties.getAccess());
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(key)
-                .compact();
-    }
-
-    /**
-     * Creates a refresh token using the provided user information.
-     *
-     * @param userId   the user id for the token
-     * @param username the username for the token
-     * @return the generated refresh token
-     */
-    public String createRefreshToken(Long userId, String username) {
-        Claims claims = Jwts.claims().setSubject(username);
-        claims.put("id", userId);
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + jwtProperties.getAccess());
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(key)
-                .compact();
+    public JwtResponse issueTokens(Long userId, String username, UserRole role) {
+        return issueTokens(userId, username, role, UUID.randomUUID());
     }
 
     /**
      * Refreshes the user tokens based on the provided refresh token.
+     * The refresh token is used up; a token that was already used revokes its session.
      *
      * @param refreshToken the refresh token to validate and use for token refresh
      * @return the updated JWT response containing new access and refresh tokens
      */
+    @Transactional(noRollbackFor = AccessDeniedException.class)
     public JwtResponse refreshUserTokens(String refreshToken) {
-        JwtResponse jwtResponse = new JwtResponse();
-        if(!validateToken(refreshToken)) {
+        Claims claims = parseRefreshToken(refreshToken);
+        UUID jti = parseUuid(claims.getId());
+        UUID sessionId = parseUuid(claims.get(SESSION_CLAIM, String.class));
+        Optional<User> user = refreshTokenDao.use(jti, sessionId);
+        if (user.isEmpty()) {
+            if (refreshTokenDao.exists(jti, sessionId)) {
+                log.warn("Refresh token of session {} presented again, revoking the session", sessionId);
+                revokeSession(sessionId);
+            }
             throw new AccessDeniedException();
         }
-        Long userId = Long.valueOf(getId(refreshToken));
-        User user = userService.getUserById(userId);
-        jwtResponse.setId(userId);
-        jwtResponse.setUsername(user.getName());
-        jwtResponse.setAccessToken(createAccessToken(userId, user.getName(), user.getRole()));
-        jwtResponse.setRefreshToken(createRefreshToken(userId, user.getName()));
-        return jwtResponse;
+        return issueTokens(user.get().getId(), user.get().getName(), user.get().getRole(), sessionId);
+    }
+
+    /**
+     * Revokes the session of the provided refresh token, rejecting its refresh and access tokens.
+     *
+     * @param refreshToken the refresh token of the session to revoke
+     */
+    @Transactional
+    public void revokeRefreshToken(String refreshToken) {
+        Claims claims = parseRefreshToken(refreshToken);
+        revokeSession(parseUuid(claims.get(SESSION_CLAIM, String.class)));
+    }
+
+    /**
+     * Deletes the expired refresh tokens in batches.
+     */
+    @Scheduled(fixedDelayString = "#{@tokenRevocationProperties.cleanupInterval.toMillis()}")
+    public void purgeExpiredRefreshTokens() {
+        try {
+            int deleted;
+            do {
+                deleted = refreshTokenDao.deleteExpired(revocationProperties.getCleanupBatchSize());
+            } while (deleted == revocationProperties.getCleanupBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete expired refresh tokens: {}", e.getMessage());
+        }
     }
 
     /**
@@ -122,47 +140,102 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Retrieves the user ID from the provided token.
+     * Retrieves the user authentication details based on the provided token.
+     * The user is looked up by the cached profile lookup, which does not read the password hash.
      *
-     * @param token the token from which to retrieve the user ID
-     * @return the user ID extracted from the token
+     * @param token the token from which to retrieve user authentication details
+     * @return the user authentication details, or null for a refresh token or a token of a revoked session
      */
-    private String getId(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("id")
-                .toString();
+    public Authentication getAuthentication(String token) {
+        Claims claims = getClaims(token);
+        if (REFRESH_TYPE.equals(claims.get(TYPE_CLAIM))) {
+            return null;
+        }
+        String sessionId = claims.get(SESSION_CLAIM, String.class);
+        if (sessionId != null && tokenDenylist.isRevoked(sessionId)) {
+            return null;
+        }
+        UserDetails userDetails = JwtEntityFactory.create(userService.getUserByLogin(claims.getSubject()));
+        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
-    /**
-     * Retrieves the username from the provided token.
-     *
-     * @param token the token from which to retrieve the username
-     * @return the username extracted from the token
-     */
-    private String getUsername(String token) {
+    private JwtResponse issueTokens(Long userId, String username, UserRole role, UUID sessionId) {
+        UUID jti = UUID.randomUUID();
+        Date now = new Date();
+        Date refreshValidity = new Date(now.getTime() + jwtProperties.getRefresh());
+        refreshTokenDao.insert(jti, sessionId, userId, refreshValidity.toInstant());
+
+        JwtResponse jwtResponse = new JwtResponse();
+        jwtResponse.setId(userId);
+        jwtResponse.setUsername(username);
+        jwtResponse.setAccessToken(createAccessToken(userId, username, role, sessionId, now));
+        jwtResponse.setRefreshToken(createRefreshToken(userId, username, sessionId, jti, now, refreshValidity));
+        return jwtResponse;
+    }
+
+    private String createAccessToken(Long userId, String username, UserRole role, UUID sessionId, Date now) {
+        Claims claims = Jwts.claims().setSubject(username);
+        claims.put("id", userId);
+        claims.put("roles", role);
+        claims.put(SESSION_CLAIM, sessionId.toString());
+        claims.put(TYPE_CLAIM, ACCESS_TYPE);
+        Date validity = new Date(now.getTime() + jwtProperties.getAccess());
+        return Jwts.builder()
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(validity)
+                .signWith(key)
+                .compact();
+    }
+
+    private String createRefreshToken(Long userId, String username, UUID sessionId, UUID jti, Date now,
+                                      Date validity) {
+        Claims claims = Jwts.claims().setSubject(username);
+        claims.put("id", userId);
+        claims.put(SESSION_CLAIM, sessionId.toString());
+        claims.put(TYPE_CLAIM, REFRESH_TYPE);
+        return Jwts.builder()
+                .setClaims(claims)
+                .setId(jti.toString())
+                .setIssuedAt(now)
+                .setExpiration(validity)
+                .signWith(key)
+                .compact();
+    }
+
+    private void revokeSession(UUID sessionId) {
+        refreshTokenDao.revokeSession(sessionId);
+        tokenDenylist.revoke(sessionId.toString());
+    }
+
+    private Claims parseRefreshToken(String refreshToken) {
+        if (!validateToken(refreshToken)) {
+            throw new AccessDeniedException();
+        }
+        Claims claims = getClaims(refreshToken);
+        if (!REFRESH_TYPE.equals(claims.get(TYPE_CLAIM))) {
+            throw new AccessDeniedException();
+        }
+        return claims;
+    }
+
+    private Claims getClaims(String token) {
         return Jwts
                 .parserBuilder()
                 .setSigningKey(key)
                 .build()
                 .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+                .getBody();
     }
 
-    /**
-     * Retrieves the user authentication details based on the provided token.
-     *
-     * @param token the token from which to retrieve user authentication details
-     * @return the user authentication details
-     */
-    public Authentication getAuthentication(String token) {
-        String username = getUsername(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    private static UUID parseUuid(String value) {
+        if (value == null) {
+            throw new AccessDeniedException();
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new AccessDeniedException();
+        }
     }
-}
\ No newline at end of file
+}
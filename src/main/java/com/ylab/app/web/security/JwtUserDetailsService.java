@@ -1,5 +1,6 @@
 package com.ylab.app.web.security;
 
+import com.ylab.app.exception.resourceException.ResourceNotFoundException;
 import com.ylab.app.model.user.User;
 import com.ylab.app.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 
 /**
  * JwtUserDetailsService class provides the user details for JWT authentication.
+ * The details include the password hash, as they are used to check the credentials of a login.
  *
  * @author razlivinsky
  * @since 30.04.2024
@@ -28,7 +30,11 @@ public class JwtUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userService.getUserByLogin(username);
-        return JwtEntityFactory.create(user);
+        try {
+            User user = userService.getUserCredentialsByLogin(username);
+            return JwtEntityFactory.create(user);
+        } catch (ResourceNotFoundException e) {
+            throw new UsernameNotFoundException(e.getMessage());
+        }
     }
 }
\ No newline at end of file
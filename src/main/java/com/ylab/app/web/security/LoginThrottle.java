@@ -0,0 +1,162 @@
+package com.ylab.app.web.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ylab.app.exception.securityException.LoginThrottledException;
+import com.ylab.app.service.props.LoginThrottleProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LoginThrottle class limits the authentication attempts with token buckets per client address and per username.
+ * <p>
+ * Every login and registration takes a token from the bucket of the client address. Only failed logins take a
+ * token from the bucket of the username, so a user signing in from many devices is not throttled, while guessing
+ * the password of one account is slowed down whatever the number of addresses used. A login is rejected while
+ * either bucket is empty. Buckets are kept in a bounded in-process cache and dropped when idle.
+ * <p>
+ * Publishes {@code auth.throttled} tagged with the exhausted bucket: {@code ip} or {@code username}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Component
+public class LoginThrottle {
+    private final LoginThrottleProperties properties;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> usernameBuckets;
+    private final Counter ipThrottled;
+    private final Counter usernameThrottled;
+
+    /**
+     * Instantiates a new login throttle.
+     *
+     * @param properties    the login throttle properties
+     * @param meterRegistry the meter registry publishing the rejections
+     */
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ipBuckets = buckets(properties);
+        this.usernameBuckets = buckets(properties);
+        this.ipThrottled = throttledCounter(meterRegistry, "ip");
+        this.usernameThrottled = throttledCounter(meterRegistry, "username");
+    }
+
+    /**
+     * Takes a login attempt from the bucket of the client address and checks the bucket of the username.
+     *
+     * @param clientAddress the address of the client
+     * @param username      the username being logged in
+     * @throws LoginThrottledException if the client or the username has no attempts left
+     */
+    public void checkLogin(String clientAddress, String username) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        checkClient(clientAddress);
+        Duration wait = usernameBucket(username).timeUntilAvailable();
+        if (!wait.isZero()) {
+            usernameThrottled.increment();
+            throw new LoginThrottledException("Too many failed logins for this user", wait);
+        }
+    }
+
+    /**
+     * Takes an attempt from the bucket of the client address.
+     *
+     * @param clientAddress the address of the client
+     * @throws LoginThrottledException if the client has no attempts left
+     */
+    public void checkClient(String clientAddress) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Duration wait = ipBuckets.get(clientAddress,
+                key -> new TokenBucket(properties.getIpCapacity(), properties.getIpRefillPeriod())).tryTake();
+        if (!wait.isZero()) {
+            ipThrottled.increment();
+            throw new LoginThrottledException("Too many authentication attempts", wait);
+        }
+    }
+
+    /**
+     * Takes an attempt from the bucket of the username after a failed login.
+     *
+     * @param username the username whose login failed
+     */
+    public void recordFailure(String username) {
+        if (properties.isEnabled()) {
+            usernameBucket(username).tryTake();
+        }
+    }
+
+    private TokenBucket usernameBucket(String username) {
+        return usernameBuckets.get(username,
+                key -> new TokenBucket(properties.getUsernameCapacity(), properties.getUsernameRefillPeriod()));
+    }
+
+    private static Cache<String, TokenBucket> buckets(LoginThrottleProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, String bucket) {
+        return Counter.builder("auth.throttled")
+                .tag("bucket", bucket)
+                .register(meterRegistry);
+    }
+
+    private static class TokenBucket {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final long refillNanos;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        TokenBucket(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillNanos = refillPeriod.toNanos();
+            this.tokens = capacity;
+        }
+
+        Duration tryTake() {
+            lock.lock();
+            try {
+                refill();
+                if (tokens >= 1) {
+                    tokens--;
+                    return Duration.ZERO;
+                }
+                return untilNextToken();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Duration timeUntilAvailable() {
+            lock.lock();
+            try {
+                refill();
+                return tokens >= 1 ? Duration.ZERO : untilNextToken();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (double) (now - refilledAt) / refillNanos);
+            refilledAt = now;
+        }
+
+        private Duration untilNextToken() {
+            return Duration.ofNanos(Math.max(1, (long) ((1 - tokens) * refillNanos)));
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.ylab.app.web.security;
+
+import com.ylab.app.dbService.dao.RefreshTokenDao;
+import com.ylab.app.dbService.notify.PgNotificationListener;
+import com.ylab.app.dbService.notify.PgNotificationPublisher;
+import com.ylab.app.model.token.RevokedSession;
+import com.ylab.app.service.props.JwtProperties;
+import com.ylab.app.service.props.TokenRevocationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TokenDenylist class keeps the login sessions whose access tokens must no longer be accepted.
+ * <p>
+ * A revoked session stays on the list until the last access token issued for it has expired. The check of a
+ * request goes to a compact bloom filter first; only when the filter reports a possible match is the exact map
+ * consulted, so the common case of a session that was never revoked costs a few bit lookups and no query.
+ * <p>
+ * Revocations are sent to the other nodes as {@code token_revocation} notifications after the revoking
+ * transaction commits. The list is also reloaded from the refresh token table at startup, after the notification
+ * listener reconnects and every reload interval, which drops expired entries and rebuilds the filter. Publishes
+ * the {@code token.denylist.size} gauge and {@code token.denylist.hits} tagged with the result: {@code revoked}
+ * or {@code false_positive}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+@Component
+public class TokenDenylist implements SmartInitializingSingleton {
+    static final String CHANNEL = "token_revocation";
+
+    private final RefreshTokenDao refreshTokenDao;
+    private final PgNotificationPublisher publisher;
+    private final JwtProperties jwtProperties;
+    private final TokenRevocationProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final Counter revokedHits;
+    private final Counter falsePositives;
+    private volatile BloomFilter filter;
+
+    /**
+     * Instantiates a new token denylist.
+     *
+     * @param refreshTokenDao      the refresh token dao holding the revoked sessions
+     * @param publisher            the publisher of the revocation notifications
+     * @param notificationListener the listener of the revocation notifications
+     * @param jwtProperties        the jwt properties holding the lifetime of access tokens
+     * @param properties           the token revocation properties
+     * @param meterRegistry        the meter registry publishing the denylist metrics
+     */
+    public TokenDenylist(RefreshTokenDao refreshTokenDao, PgNotificationPublisher publisher,
+                         PgNotificationListener notificationListener, JwtProperties jwtProperties,
+                         TokenRevocationProperties properties, MeterRegistry meterRegistry) {
+        this.refreshTokenDao = refreshTokenDao;
+        this.publisher = publisher;
+        this.jwtProperties = jwtProperties;
+        this.properties = properties;
+        this.filter = new BloomFilter(properties.getExpectedRevocations(), properties.getFalsePositiveRate());
+        this.revokedHits = hitCounter(meterRegistry, "revoked");
+        this.falsePositives = hitCounter(meterRegistry, "false_positive");
+        Gauge.builder("token.denylist.size", revoked, Map::size)
+                .register(meterRegistry);
+        notificationListener.addListener(CHANNEL, this::onNotification);
+        notificationListener.addReconnectListener(this::reload);
+    }
+
+    /**
+     * Loads the revoked sessions before requests are served.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    /**
+     * Checks whether the access tokens of a login session were revoked.
+     *
+     * @param sessionId the identifier of the login session
+     * @return true if the session was revoked
+     */
+    public boolean isRevoked(String sessionId) {
+        if (!filter.mightContain(sessionId)) {
+            return false;
+        }
+        Instant until = revoked.get(sessionId);
+        if (until != null && until.isAfter(Instant.now())) {
+            revokedHits.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Revokes the access tokens of a login session on this node and, after the current transaction commits,
+     * on all other nodes.
+     *
+     * @param sessionId the identifier of the login session
+     */
+    public void revoke(String sessionId) {
+        Instant until = Instant.now().plusMillis(jwtProperties.getAccess());
+        add(sessionId, until);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(sessionId, until);
+                }
+            });
+        } else {
+            publish(sessionId, until);
+        }
+    }
+
+    /**
+     * Reloads the revoked sessions from the database, dropping the expired ones and rebuilding the filter.
+     */
+    @Scheduled(initialDelayString = "#{@tokenRevocationProperties.reloadInterval.toMillis()}",
+            fixedDelayString = "#{@tokenRevocationProperties.reloadInterval.toMillis()}")
+    public void reload() {
+        Duration accessLifetime = Duration.ofMillis(jwtProperties.getAccess());
+        List<RevokedSession> sessions;
+        try {
+            sessions = refreshTokenDao.findRevokedSessions(accessLifetime);
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload revoked sessions: {}", e.getMessage());
+            return;
+        }
+        lock.lock();
+        try {
+            Instant now = Instant.now();
+            revoked.values().removeIf(until -> !until.isAfter(now));
+            for (RevokedSession session : sessions) {
+                Instant until = session.getRevokedAt().plus(accessLifetime);
+                if (until.isAfter(now)) {
+                    revoked.merge(session.getSessionId().toString(), until,
+                            (current, loaded) -> current.isAfter(loaded) ? current : loaded);
+                }
+            }
+            BloomFilter rebuilt = new BloomFilter(Math.max(properties.getExpectedRevocations(), revoked.size() * 2),
+                    properties.getFalsePositiveRate());
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(String sessionId, Instant until) {
+        lock.lock();
+        try {
+            revoked.merge(sessionId, until, (current, added) -> current.isAfter(added) ? current : added);
+            filter.put(sessionId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publish(String sessionId, Instant until) {
+        try {
+            publisher.publish(CHANNEL, sessionId + "," + until.toEpochMilli());
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish revocation of session {}, other nodes pick it up on reload: {}",
+                    sessionId, e.getMessage());
+        }
+    }
+
+    private void onNotification(String payload) {
+        int separator = payload.indexOf(',');
+        add(payload.substring(0, separator), Instant.ofEpochMilli(Long.parseLong(payload.substring(separator + 1))));
+    }
+
+    private static Counter hitCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("token.denylist.hits")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * BloomFilter class is a fixed size set of keys answering "possibly present" or "certainly absent".
+     * Keys are set with double hashing over a 64-bit hash; bits are set atomically, so lookups need no lock.
+     */
+    static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedKeys, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.max(1, (bits + 63) / 64);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = wordCount * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+        }
+
+        void put(String key) {
+            long hash = hash(key);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = index(hash, i);
+                long mask = 1L << bit;
+                words.getAndAccumulate((int) (bit >>> 6), mask, (word, value) -> word | value);
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = index(hash, i);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int sizeInBytes() {
+            return words.length() * Long.BYTES;
+        }
+
+        private long index(long hash, int i) {
+            int combined = (int) hash + i * (int) (hash >>> 32);
+            return (combined & Integer.MAX_VALUE) % bitCount;
+        }
+
+        private static long hash(String key) {
+            long hash = 0;
+            for (int i = 0; i < key.length(); i++) {
+                hash = 31 * hash + key.charAt(i);
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ylab.app.web.stream;
+
+import com.ylab.app.model.user.User;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WorkoutStreamChannel class groups the subscribers of one user, so the changes of the user are read once
+ * per notification however many connections the user has open.
+ * <p>
+ * The lock serializes reading the changes and positioning new subscribers; the position is the last change
+ * sequence read for the channel.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class WorkoutStreamChannel {
+    private final User user;
+    private final List<WorkoutStreamSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicBoolean fetchScheduled = new AtomicBoolean();
+    private volatile boolean pending;
+    private boolean positioned;
+    private long position;
+
+    WorkoutStreamChannel(User user) {
+        this.user = user;
+    }
+
+    User getUser() {
+        return user;
+    }
+
+    List<WorkoutStreamSubscriber> getSubscribers() {
+        return subscribers;
+    }
+
+    ReentrantLock getLock() {
+        return lock;
+    }
+
+    boolean isPositioned() {
+        return positioned;
+    }
+
+    long getPosition() {
+        return position;
+    }
+
+    void setPosition(long position) {
+        this.position = position;
+        this.positioned = true;
+    }
+
+    boolean isPending() {
+        return pending;
+    }
+
+    void setPending(boolean pending) {
+        this.pending = pending;
+    }
+
+    boolean markFetchScheduled() {
+        return fetchScheduled.compareAndSet(false, true);
+    }
+
+    void clearFetchScheduled() {
+        fetchScheduled.set(false);
+    }
+}
@@ -0,0 +1,276 @@
+package com.ylab.app.web.stream;
+
+import com.ylab.app.config.WorkerThreads;
+import com.ylab.app.dbService.dao.WorkoutDao;
+import com.ylab.app.dbService.notify.PgNotificationListener;
+import com.ylab.app.exception.workoutException.WorkoutStreamException;
+import com.ylab.app.model.user.User;
+import com.ylab.app.model.workout.WorkoutChange;
+import com.ylab.app.service.props.WorkoutStreamProperties;
+import com.ylab.app.web.mapper.WorkoutMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WorkoutStreamHub class pushes the committed changes of a user's workouts to the user's open event streams.
+ * <p>
+ * The workout change trigger notifies the {@code workout_change} channel with the owner id on commit, on whichever
+ * node the change was made. On a notification the hub reads the user's new entries of the change log once,
+ * whatever the number of connections, and queues them to each connection as {@code workout-change} events whose
+ * id is the change sequence. A client reconnecting with {@code Last-Event-ID} resumes after that sequence; a
+ * client without it receives the changes made from the moment it connected.
+ * <p>
+ * Changes held back from the change sequence by an older open transaction are read again every pending retry
+ * interval until they are stamped, and all channels are read again after the notification connection was lost.
+ * Idle connections only hold their emitter and an empty buffer; a heartbeat comment is sent every heartbeat
+ * interval to keep proxies from closing them and to detect closed clients. Publishes the
+ * {@code workout.stream.subscribers} gauge, {@code workout.stream.events.sent} and {@code workout.stream.overflows}.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@Slf4j
+@Component
+public class WorkoutStreamHub implements DisposableBean {
+    static final String CHANNEL = "workout_change";
+    private static final String EVENT_NAME = "workout-change";
+
+    private final WorkoutDao workoutDao;
+    private final WorkoutMapper workoutMapper;
+    private final WorkoutStreamProperties properties;
+    private final Map<Long, WorkoutStreamChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService fetchExecutor;
+    private final ExecutorService senderExecutor;
+    private final Counter sent;
+    private final Counter overflows;
+
+    /**
+     * Instantiates a new workout stream hub.
+     *
+     * @param workoutDao           the workout dao reading the change log
+     * @param workoutMapper        the mapper of the change events
+     * @param notificationListener the listener of the change notifications
+     * @param properties           the workout stream properties
+     * @param meterRegistry        the meter registry publishing the stream metrics
+     * @param workerThreads        the factory of the fetch and sender threads
+     */
+    public WorkoutStreamHub(WorkoutDao workoutDao, WorkoutMapper workoutMapper,
+                            PgNotificationListener notificationListener, WorkoutStreamProperties properties,
+                            MeterRegistry meterRegistry, WorkerThreads workerThreads) {
+        this.workoutDao = workoutDao;
+        this.workoutMapper = workoutMapper;
+        this.properties = properties;
+        this.fetchExecutor = Executors.newFixedThreadPool(2, workerThreads.factory("workout-stream-fetch"));
+        this.senderExecutor = Executors.newFixedThreadPool(properties.getSenderThreads(), workerThreads.factory("workout-stream-send"));
+        this.sent = meterRegistry.counter("workout.stream.events.sent");
+        this.overflows = meterRegistry.counter("workout.stream.overflows");
+        Gauge.builder("workout.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+        notificationListener.addListener(CHANNEL, this::onNotification);
+        notificationListener.addReconnectListener(this::fetchAll);
+    }
+
+    /**
+     * Opens an event stream of the user's workout changes.
+     *
+     * @param user        the user whose workout changes are streamed
+     * @param lastEventId the last change sequence the client received, or null to stream changes from now on
+     * @return the emitter of the stream
+     * @throws WorkoutStreamException if the maximum number of subscribers is reached
+     */
+    public SseEmitter subscribe(User user, Long lastEventId) {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new WorkoutStreamException("Too many workout stream subscribers, retry later");
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        WorkoutStreamSubscriber subscriber = new WorkoutStreamSubscriber(emitter, properties.getBufferSize(),
+                senderExecutor, sent, overflows);
+        WorkoutStreamChannel channel = channels.compute(user.getId(), (id, existing) -> {
+            WorkoutStreamChannel joined = existing == null ? new WorkoutStreamChannel(user) : existing;
+            joined.getSubscribers().add(subscriber);
+            return joined;
+        });
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        emitter.onCompletion(() -> leave(user.getId(), subscriber));
+        subscriber.offer(SseEmitter.event().comment("connected").build());
+        try {
+            join(channel, subscriber, lastEventId);
+        } catch (RuntimeException e) {
+            leave(user.getId(), subscriber);
+            throw e;
+        }
+        scheduleFetch(channel);
+        return emitter;
+    }
+
+    /**
+     * Sends a heartbeat comment to every open stream.
+     */
+    @Scheduled(fixedDelayString = "#{@workoutStreamProperties.heartbeatInterval.toMillis()}")
+    public void heartbeat() {
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        for (WorkoutStreamChannel channel : channels.values()) {
+            channel.getSubscribers().forEach(subscriber -> subscriber.offer(heartbeat));
+        }
+    }
+
+    /**
+     * Reads again the channels whose changes were held back from the change sequence.
+     */
+    @Scheduled(fixedDelayString = "#{@workoutStreamProperties.pendingRetryInterval.toMillis()}")
+    public void retryPending() {
+        for (WorkoutStreamChannel channel : channels.values()) {
+            if (channel.isPending()) {
+                scheduleFetch(channel);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of open streams.
+     *
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Retrieves the channels of the users with open streams.
+     *
+     * @return the channels
+     */
+    Collection<WorkoutStreamChannel> getChannels() {
+        return channels.values();
+    }
+
+    /**
+     * Completes every open stream and stops the fetch and sender threads.
+     */
+    @Override
+    public void destroy() {
+        for (WorkoutStreamChannel channel : channels.values()) {
+            channel.getSubscribers().forEach(WorkoutStreamSubscriber::close);
+        }
+        fetchExecutor.shutdownNow();
+        senderExecutor.shutdownNow();
+    }
+
+    private void join(WorkoutStreamChannel channel, WorkoutStreamSubscriber subscriber, Long lastEventId) {
+        ReentrantLock lock = channel.getLock();
+        lock.lock();
+        try {
+            if (!channel.isPositioned()) {
+                channel.setPosition(lastEventId != null ? lastEventId : workoutDao.findLatestChangeSeq());
+            }
+            long position = lastEventId != null ? lastEventId : channel.getPosition();
+            subscriber.join(position);
+            while (position < channel.getPosition() && subscriber.isAccepting()) {
+                List<WorkoutChange> page = workoutDao.findChangesSince(channel.getUser(), position, properties.getPageSize());
+                for (WorkoutChange change : page) {
+                    if (change.getSeq() > channel.getPosition()) {
+                        return;
+                    }
+                    subscriber.offerChange(change.getSeq(), changeEvent(change));
+                }
+                if (page.size() < properties.getPageSize()) {
+                    return;
+                }
+                position = page.get(page.size() - 1).getSeq();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void leave(Long userId, WorkoutStreamSubscriber subscriber) {
+        channels.computeIfPresent(userId, (id, channel) -> {
+            if (channel.getSubscribers().remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return channel.getSubscribers().isEmpty() ? null : channel;
+        });
+    }
+
+    private void onNotification(String userId) {
+        WorkoutStreamChannel channel;
+        try {
+            channel = channels.get(Long.valueOf(userId));
+        } catch (NumberFormatException e) {
+            log.warn("Ignored workout change notification with invalid user id {}", userId);
+            return;
+        }
+        if (channel != null) {
+            scheduleFetch(channel);
+        }
+    }
+
+    private void fetchAll() {
+        channels.values().forEach(this::scheduleFetch);
+    }
+
+    private void scheduleFetch(WorkoutStreamChannel channel) {
+        if (channel.markFetchScheduled()) {
+            fetchExecutor.execute(() -> fetch(channel));
+        }
+    }
+
+    private void fetch(WorkoutStreamChannel channel) {
+        channel.clearFetchScheduled();
+        ReentrantLock lock = channel.getLock();
+        lock.lock();
+        try {
+            if (!channel.isPositioned()) {
+                return;
+            }
+            int pageSize = properties.getPageSize();
+            List<WorkoutChange> page;
+            do {
+                if (channel.getSubscribers().stream().noneMatch(WorkoutStreamSubscriber::isAccepting)) {
+                    return;
+                }
+                page = workoutDao.findChangesSince(channel.getUser(), channel.getPosition(), pageSize);
+                for (WorkoutChange change : page) {
+                    Set<DataWithMediaType> event = changeEvent(change);
+                    channel.setPosition(change.getSeq());
+                    channel.getSubscribers().forEach(subscriber -> subscriber.offerChange(change.getSeq(), event));
+                }
+            } while (page.size() == pageSize);
+            channel.setPending(workoutDao.hasPendingChanges(channel.getUser()));
+        } catch (RuntimeException e) {
+            channel.setPending(true);
+            log.warn("Failed to read workout changes of {}: {}", channel.getUser().getName(), e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Set<DataWithMediaType> changeEvent(WorkoutChange change) {
+        return SseEmitter.event()
+                .id(String.valueOf(change.getSeq()))
+                .name(EVENT_NAME)
+                .data(workoutMapper.workoutChangeToDto(change), MediaType.APPLICATION_JSON)
+                .build();
+    }
+}
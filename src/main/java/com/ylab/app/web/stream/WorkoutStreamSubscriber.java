@@ -0,0 +1,211 @@
+package com.ylab.app.web.stream;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WorkoutStreamSubscriber class is a single connection of the workout change stream.
+ * <p>
+ * Events are queued in a bounded buffer and written by the shared sender threads, at most one drain per
+ * connection at a time, so a slow client never blocks the fetch or the other connections. When the buffer is
+ * full the subscriber stops accepting events, sends what it has queued and completes the stream; the client
+ * reconnects with the last event id it received and resumes from there.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class WorkoutStreamSubscriber {
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor sender;
+    private final Counter sent;
+    private final Counter overflows;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Set<DataWithMediaType>> queue = new ArrayDeque<>(2);
+    private boolean draining;
+    private boolean closing;
+    private boolean closed;
+    private boolean joined;
+    private long position;
+
+    /**
+     * Instantiates a new subscriber.
+     *
+     * @param emitter   the emitter of the connection
+     * @param capacity  the maximum number of queued events
+     * @param sender    the executor writing the queued events
+     * @param sent      the counter of sent events
+     * @param overflows the counter of subscribers closed on a full buffer
+     */
+    WorkoutStreamSubscriber(SseEmitter emitter, int capacity, Executor sender, Counter sent, Counter overflows) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.sender = sender;
+        this.sent = sent;
+        this.overflows = overflows;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Retrieves the number of events waiting to be sent.
+     *
+     * @return the number of queued events
+     */
+    int getQueuedCount() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Positions the subscriber; until then it takes no change events.
+     * Called under the lock of the channel, which guards the position.
+     *
+     * @param position the last change sequence the client already has
+     */
+    void join(long position) {
+        this.position = position;
+        this.joined = true;
+    }
+
+    /**
+     * Checks whether the subscriber still takes events.
+     *
+     * @return false once the subscriber overflowed or was closed
+     */
+    boolean isAccepting() {
+        lock.lock();
+        try {
+            return !closing && !closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues a change event unless the subscriber already received its change sequence.
+     * Called under the lock of the channel, which guards the position.
+     *
+     * @param seq   the change sequence of the event
+     * @param event the event
+     */
+    void offerChange(long seq, Set<DataWithMediaType> event) {
+        if (!joined || seq <= position) {
+            return;
+        }
+        position = seq;
+        offer(event);
+    }
+
+    /**
+     * Queues an event for sending.
+     *
+     * @param event the event
+     */
+    void offer(Set<DataWithMediaType> event) {
+        lock.lock();
+        try {
+            if (closing || closed) {
+                return;
+            }
+            if (queue.size() >= capacity) {
+                closing = true;
+                overflows.increment();
+            } else {
+                queue.add(event);
+            }
+            if (!draining) {
+                draining = true;
+                execute();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes the stream, dropping the queued events.
+     */
+    void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+        emitter.complete();
+    }
+
+    private void execute() {
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining = false;
+            closed = true;
+            queue.clear();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Set<DataWithMediaType> event;
+            boolean complete = false;
+            lock.lock();
+            try {
+                event = queue.poll();
+                if (event == null) {
+                    draining = false;
+                    if (closing && !closed) {
+                        closed = true;
+                        complete = true;
+                    } else {
+                        return;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (complete) {
+                emitter.complete();
+                return;
+            }
+            try {
+                emitter.send(event);
+                sent.increment();
+            } catch (IOException | IllegalStateException e) {
+                lock.lock();
+                try {
+                    closed = true;
+                    draining = false;
+                    queue.clear();
+                } finally {
+                    lock.unlock();
+                }
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+}
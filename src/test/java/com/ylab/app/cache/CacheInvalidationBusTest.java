@@ -0,0 +1,106 @@
+package com.ylab.app.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.config.WorkerThreads;
+import com.ylab.app.dbService.notify.PgNotificationListener;
+import com.ylab.app.dbService.notify.PgNotificationPublisher;
+import com.ylab.app.service.props.CacheInvalidationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CacheInvalidationBusTest class represents the test suite for the cluster-wide cache invalidation bus.
+ * The notification connection is mocked; the local caches are in-memory caches.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+    @Mock
+    private PgNotificationPublisher publisher;
+
+    @Mock
+    private PgNotificationListener notificationListener;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ConcurrentMapCacheManager cacheManager;
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheNames.USERS, CacheNames.WORKOUTS);
+        bus = new CacheInvalidationBus(cacheManager, publisher, notificationListener, objectMapper,
+                new CacheInvalidationProperties(), new SimpleMeterRegistry(), new WorkerThreads(new MockEnvironment()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.destroy();
+    }
+
+    @Test
+    @DisplayName("Invalidations should evict locally and be published together in one notification")
+    void invalidate_ShouldEvictLocallyAndPublishOneBatch() throws Exception {
+        cacheManager.getCache(CacheNames.WORKOUTS).put("1", "workout");
+        cacheManager.getCache(CacheNames.USERS).put("test", "user");
+
+        bus.invalidate(CacheNames.WORKOUTS, 1L);
+        bus.invalidate(CacheNames.WORKOUTS, 2L);
+        bus.invalidate(CacheNames.USERS, "test");
+
+        assertThat(cacheManager.getCache(CacheNames.WORKOUTS).get("1")).isNull();
+        assertThat(cacheManager.getCache(CacheNames.USERS).get("test")).isNull();
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(publisher, timeout(2000)).publish(eq("cache_invalidation"), payload.capture());
+        JsonNode keys = objectMapper.readTree(payload.getValue()).get("keys");
+        assertThat(keys.get(CacheNames.WORKOUTS)).hasSize(2);
+        assertThat(keys.get(CacheNames.USERS).get(0).asText()).isEqualTo("test");
+        verifyNoMoreInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("Invalidations from another node should evict, those from this node should be ignored")
+    @SuppressWarnings("unchecked")
+    void notification_ShouldEvictKeysOfOtherNodes() {
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(notificationListener).addListener(eq("cache_invalidation"), listener.capture());
+        cacheManager.getCache(CacheNames.WORKOUTS).put("1", "workout");
+        cacheManager.getCache(CacheNames.WORKOUTS).put("2", "workout");
+
+        listener.getValue().accept("{\"node\":\"other\",\"keys\":{\"workouts\":[\"1\"]}}");
+
+        assertThat(cacheManager.getCache(CacheNames.WORKOUTS).get("1")).isNull();
+        assertThat(cacheManager.getCache(CacheNames.WORKOUTS).get("2")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("A reconnection of the listener should clear all local caches")
+    void reconnect_ShouldClearAllCaches() {
+        ArgumentCaptor<Runnable> reconnect = ArgumentCaptor.forClass(Runnable.class);
+        verify(notificationListener).addReconnectListener(reconnect.capture());
+        cacheManager.getCache(CacheNames.WORKOUTS).put("1", "workout");
+        cacheManager.getCache(CacheNames.USERS).put("test", "user");
+
+        reconnect.getValue().run();
+
+        assertThat(cacheManager.getCache(CacheNames.WORKOUTS).get("1")).isNull();
+        assertThat(cacheManager.getCache(CacheNames.USERS).get("test")).isNull();
+    }
+}
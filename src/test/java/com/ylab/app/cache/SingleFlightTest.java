@@ -0,0 +1,154 @@
+package com.ylab.app.cache;
+
+import com.ylab.app.service.props.SingleFlightProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SingleFlightTest class represents the test suite for coalescing concurrent identical computations.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    private SingleFlightProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+    private CountDownLatch entered;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SingleFlightProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(properties, meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        entered = new CountDownLatch(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent identical calls should share one computation")
+    void execute_ConcurrentCalls_ShouldShareOneComputation() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = submitCallers("report", () -> {
+            computations.incrementAndGet();
+            await(release);
+            return "result";
+        });
+        awaitCallers();
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(calls("report", "leader")).isEqualTo(1);
+        assertThat(calls("report", "coalesced")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("A failed computation should fail every waiting call")
+    void execute_FailedComputation_ShouldFailWaitingCalls() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = submitCallers("failing", () -> {
+            await(release);
+            throw new IllegalArgumentException("failed");
+        });
+        awaitCallers();
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Sequential calls and different keys should not share results")
+    void execute_SequentialCallsOrDifferentKeys_ShouldCompute() {
+        AtomicInteger computations = new AtomicInteger();
+
+        singleFlight.execute("report", 1, computations::incrementAndGet);
+        singleFlight.execute("report", 1, computations::incrementAndGet);
+        singleFlight.execute("report", 2, computations::incrementAndGet);
+
+        assertThat(computations.get()).isEqualTo(3);
+        assertThat(calls("report", "coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("A call waiting longer than the timeout should compute itself")
+    void execute_LeaderTooSlow_ShouldComputeAfterTimeout() throws Exception {
+        properties.setTimeout(Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("slow", 1, () -> {
+            await(release);
+            return "leader";
+        }));
+        while (meterRegistry.find("single.flight.calls").tag("role", "leader").counter() == null) {
+            Thread.sleep(5);
+        }
+
+        String result = singleFlight.execute("slow", 1, () -> "own");
+        release.countDown();
+
+        assertThat(result).isEqualTo("own");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        assertThat(calls("slow", "timeout")).isEqualTo(1);
+    }
+
+    private List<Future<String>> submitCallers(String name, Supplier<String> computation) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                entered.countDown();
+                return singleFlight.execute(name, "key", computation);
+            }));
+        }
+        return results;
+    }
+
+    private void awaitCallers() throws InterruptedException {
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+    }
+
+    private double calls(String name, String role) {
+        Counter counter = meterRegistry.find("single.flight.calls").tag("name", name).tag("role", role).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
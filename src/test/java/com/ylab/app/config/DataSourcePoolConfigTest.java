@@ -0,0 +1,58 @@
+package com.ylab.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DataSourcePoolConfigTest class represents the test suite for the sizing of the Hikari pools.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class DataSourcePoolConfigTest {
+
+    @Test
+    @DisplayName("The primary pool is sized from datasource.pool")
+    void primaryPool_ShouldBeSized() {
+        MockEnvironment environment = new MockEnvironment().withProperty("datasource.pool.max-size", "7");
+        BeanPostProcessor postProcessor = DataSourcePoolConfig.hikariPoolSizePostProcessor(environment);
+        HikariDataSource dataSource = new HikariDataSource();
+
+        postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("The replica pool keeps its own size")
+    void replicaPool_ShouldBeLeftAlone() {
+        MockEnvironment environment = new MockEnvironment().withProperty("datasource.pool.max-size", "7");
+        BeanPostProcessor postProcessor = DataSourcePoolConfig.hikariPoolSizePostProcessor(environment);
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(3);
+
+        postProcessor.postProcessAfterInitialization(dataSource, "replicaDataSource");
+
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("An explicit spring.datasource.hikari.maximum-pool-size takes precedence")
+    void explicitHikariSize_ShouldTakePrecedence() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("datasource.pool.max-size", "7")
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "12");
+        BeanPostProcessor postProcessor = DataSourcePoolConfig.hikariPoolSizePostProcessor(environment);
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(12);
+
+        postProcessor.postProcessAfterInitialization(dataSource, "primaryDataSource");
+
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(12);
+    }
+}
@@ -9,6 +9,7 @@ import com.ylab.app.web.dto.UserDto;
 import com.ylab.app.web.dto.auth.JwtRequest;
 import com.ylab.app.web.dto.auth.JwtResponse;
 import com.ylab.app.web.mapper.UserMapper;
+import com.ylab.app.web.security.LoginThrottle;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,8 +18,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -42,6 +45,9 @@ class AuthControllerTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @InjectMocks
     private AuthController authController;
 
@@ -52,7 +58,7 @@ class AuthControllerTest {
         JwtResponse jwtResponseMock = new JwtResponse(1L, "username", "accessToken", "refreshToken");
         when(authService.login(jwtRequest)).thenReturn(jwtResponseMock);
 
-        ResponseEntity<JwtResponse> response = authController.login(jwtRequest);
+        ResponseEntity<JwtResponse> response = authController.login(new MockHttpServletRequest(), jwtRequest);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(jwtResponseMock);
@@ -70,7 +76,7 @@ class AuthControllerTest {
         when(userService.registerUser("John Doe", "password123")).thenReturn(createdUser);
         when(userMapper.userToUserDto(createdUser)).thenReturn(createdUserDto);
 
-        ResponseEntity<UserDto> response = authController.register(userDto);
+        ResponseEntity<UserDto> response = authController.register(new MockHttpServletRequest(), userDto);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
         assertThat(response.getBody()).isEqualTo(createdUserDto);
@@ -88,4 +94,15 @@ class AuthControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(jwtResponseMock);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Logout with a refresh token should end its session")
+    void logoutWithRefreshToken_ShouldEndSession() {
+        String refreshToken = "refreshToken";
+
+        ResponseEntity<Void> response = authController.logout(refreshToken);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        verify(authService).logout(refreshToken);
+    }
+}
@@ -2,6 +2,8 @@ package com.ylab.app.controller;
 
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
+import com.ylab.app.model.user.UserSearchCursor;
+import com.ylab.app.model.user.UserSearchHit;
 import com.ylab.app.service.UserService;
 import com.ylab.app.web.controller.UserController;
 import com.ylab.app.web.dto.UserDto;
@@ -14,11 +16,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -62,12 +66,46 @@ class UserControllerTest {
     void getAllUsers_ShouldReturnListOfUserDtos() {
         List<User> users = new ArrayList<>();
         List<UserDto> userDtos = new ArrayList<>();
-        when(userService.getAllUsers()).thenReturn(users);
+        when(userService.getAllUsers(0L, 100)).thenReturn(users);
         when(userMapper.listUserToUserDto(users)).thenReturn(userDtos);
 
-        ResponseEntity<List<UserDto>> response = userController.getAllUsers();
+        ResponseEntity<List<UserDto>> response = userController.getAllUsers(0L, 100);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(userDtos);
+        assertThat(response.getHeaders().containsKey("X-Next-Cursor")).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Get a full page of users should return the cursor of the next page")
+    void getAllUsers_ShouldReturnNextCursorForFullPage() {
+        List<User> users = List.of(new User(3L, "first", null, UserRole.USER), new User(7L, "second", null, UserRole.USER));
+        List<UserDto> userDtos = new ArrayList<>();
+        when(userService.getAllUsers(0L, 2)).thenReturn(users);
+        when(userMapper.listUserToUserDto(users)).thenReturn(userDtos);
+
+        ResponseEntity<List<UserDto>> response = userController.getAllUsers(0L, 2);
+
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("Search users with a full page should return a cursor resuming after the last hit")
+    void searchUsers_ShouldReturnCursorOfNextPage() {
+        UserDetails userDetails = mock(UserDetails.class);
+        User admin = new User(1L, "admin", null, UserRole.ADMIN);
+        User found = new User(5L, "natasha", null, UserRole.USER);
+        List<UserDto> userDtos = new ArrayList<>();
+        when(userDetails.getUsername()).thenReturn("admin");
+        when(userService.getUserByLogin("admin")).thenReturn(admin);
+        when(userService.searchUsers(admin, "nat", UserSearchCursor.FIRST, 1))
+                .thenReturn(List.of(new UserSearchHit(found, 0.375f)));
+        when(userMapper.listUserToUserDto(List.of(found))).thenReturn(userDtos);
+
+        ResponseEntity<List<UserDto>> response = userController.searchUsers(userDetails, "nat", null, 1);
+
+        assertThat(response.getBody()).isEqualTo(userDtos);
+        String token = response.getHeaders().getFirst("X-Next-Cursor");
+        assertThat(UserSearchCursor.fromToken(token)).isEqualTo(new UserSearchCursor(0.375f, 5L));
+    }
+}
@@ -1,5 +1,6 @@
 package com.ylab.app.controller;
 
+import com.ylab.app.idempotency.IdempotencyStore;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
 import com.ylab.app.model.workout.Workout;
@@ -12,6 +13,7 @@ import com.ylab.app.web.dto.WorkoutAdditionalParamsDto;
 import com.ylab.app.web.dto.WorkoutDto;
 import com.ylab.app.web.mapper.WorkoutAdditionalParamsMapper;
 import com.ylab.app.web.mapper.WorkoutMapper;
+import com.ylab.app.web.stream.WorkoutStreamHub;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -56,6 +58,12 @@ public class WorkoutControllerTest {
     @Mock
     private WorkoutMapper workoutMapper;
 
+    @Mock
+    private WorkoutStreamHub workoutStreamHub;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
     @InjectMocks
     private WorkoutController workoutController;
 
@@ -68,7 +76,7 @@ public class WorkoutControllerTest {
         when(userService.getUserByLogin(userDetails.getUsername())).thenReturn(user);
         when(workoutMapper.workoutDtoToWorkout(workoutDto)).thenReturn(addedWorkout);
 
-        ResponseEntity<WorkoutDto> response = workoutController.addWorkout(userDetails, workoutDto);
+        ResponseEntity<WorkoutDto> response = workoutController.addWorkout(userDetails, null, workoutDto);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
     }
@@ -0,0 +1,37 @@
+package com.ylab.app.exception;
+
+import com.ylab.app.exception.dbException.DatabaseReadException;
+import com.ylab.app.exception.resourceException.ResourceNotFoundException;
+import com.ylab.app.exception.userException.UserValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BusinessExceptionTest class represents the test suite for the stackless exceptions of expected request outcomes.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class BusinessExceptionTest {
+
+    @Test
+    @DisplayName("Business exceptions should keep their message and cause without a stack trace")
+    void businessException_ShouldNotRecordStackTrace() {
+        IllegalArgumentException cause = new IllegalArgumentException("bad role");
+        UserValidationException exception = new UserValidationException("Invalid user", cause);
+        exception.addSuppressed(new IllegalStateException());
+
+        assertThat(new ResourceNotFoundException("Resource not found").getStackTrace()).isEmpty();
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(exception).hasMessage("Invalid user").hasCause(cause);
+    }
+
+    @Test
+    @DisplayName("Database exceptions should keep their stack trace for investigation")
+    void databaseException_ShouldRecordStackTrace() {
+        assertThat(new DatabaseReadException("Invalid read").getStackTrace()).isNotEmpty();
+    }
+}
@@ -0,0 +1,148 @@
+package com.ylab.app.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.dbService.dao.IdempotencyDao;
+import com.ylab.app.exception.idempotencyException.IdempotencyKeyReuseException;
+import com.ylab.app.model.idempotency.IdempotencyRecord;
+import com.ylab.app.model.workout.WorkoutType;
+import com.ylab.app.service.props.IdempotencyProperties;
+import com.ylab.app.web.dto.WorkoutDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * IdempotencyStoreTest class represents the test suite for executing requests once per idempotency key.
+ * The idempotency table is mocked; transactions run on a no-op transaction manager.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+    private static final String USER = "test";
+    private static final String KEY = "key-1";
+
+    @Mock
+    private IdempotencyDao idempotencyDao;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(idempotencyDao, new TransactionTemplate(new NoOpTransactionManager()),
+                objectMapper, new IdempotencyProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("A retry should replay the stored response without executing the request again")
+    void execute_ShouldExecuteOnceAndReplayRetries() {
+        when(idempotencyDao.claim(eq(USER), eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        IdempotentResult<WorkoutDto> first = store.execute(USER, KEY, request(100), WorkoutDto.class, this::createWorkout);
+        IdempotentResult<WorkoutDto> retry = store.execute(USER, KEY, request(100), WorkoutDto.class, this::createWorkout);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.body()).isEqualTo(first.body());
+        verify(idempotencyDao).complete(eq(USER), eq(KEY), anyString());
+        verify(idempotencyDao, times(1)).claim(eq(USER), eq(KEY), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("A retry of a request completed on another instance should replay the response stored in the database")
+    void execute_ShouldReplayResponseStoredByAnotherInstance() {
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(idempotencyDao.claim(eq(USER), eq(KEY), hash.capture(), any(Duration.class))).thenReturn(false);
+        when(idempotencyDao.find(USER, KEY)).thenAnswer(invocation -> Optional.of(
+                new IdempotencyRecord(USER, KEY, hash.getValue(), objectMapper.writeValueAsString(createdWorkout()))));
+
+        IdempotentResult<WorkoutDto> result = store.execute(USER, KEY, request(100), WorkoutDto.class, this::createWorkout);
+
+        assertThat(executions.get()).isZero();
+        assertThat(result.replayed()).isTrue();
+        assertThat(result.body()).isEqualTo(createdWorkout());
+    }
+
+    @Test
+    @DisplayName("A key reused for a different request body should be rejected")
+    void execute_ShouldRejectKeyReusedForDifferentRequest() {
+        when(idempotencyDao.claim(eq(USER), eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+        store.execute(USER, KEY, request(100), WorkoutDto.class, this::createWorkout);
+
+        assertThatThrownBy(() -> store.execute(USER, KEY, request(200), WorkoutDto.class, this::createWorkout))
+                .isInstanceOf(IdempotencyKeyReuseException.class);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A failed request should not be remembered, so its retry executes again")
+    void execute_ShouldExecuteRetryOfFailedRequest() {
+        when(idempotencyDao.claim(eq(USER), eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        assertThatThrownBy(() -> store.execute(USER, KEY, request(100), WorkoutDto.class, () -> {
+            throw new IllegalStateException("insert failed");
+        })).isInstanceOf(IllegalStateException.class);
+        IdempotentResult<WorkoutDto> retry = store.execute(USER, KEY, request(100), WorkoutDto.class, this::createWorkout);
+
+        assertThat(retry.replayed()).isFalse();
+        assertThat(executions.get()).isEqualTo(1);
+        verify(idempotencyDao, times(1)).complete(eq(USER), eq(KEY), anyString());
+    }
+
+    private WorkoutDto request(int duration) {
+        return new WorkoutDto(0L, WorkoutType.CARDIO, LocalDateTime.of(2026, 10, 19, 8, 0), duration, 300, null);
+    }
+
+    private WorkoutDto createWorkout() {
+        executions.incrementAndGet();
+        return createdWorkout();
+    }
+
+    private WorkoutDto createdWorkout() {
+        return new WorkoutDto(42L, WorkoutType.CARDIO, LocalDateTime.of(2026, 10, 19, 8, 0), 100, 300, null);
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
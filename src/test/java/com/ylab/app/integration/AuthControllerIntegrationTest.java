@@ -8,6 +8,7 @@ import com.ylab.app.web.controller.AuthController;
 import com.ylab.app.web.dto.auth.JwtRequest;
 import com.ylab.app.web.dto.auth.JwtResponse;
 import com.ylab.app.web.mapper.UserMapper;
+import com.ylab.app.web.security.LoginThrottle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,9 @@ class AuthControllerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private LoginThrottle loginThrottle;
+
     @MockBean
     private AuthService authService;
 
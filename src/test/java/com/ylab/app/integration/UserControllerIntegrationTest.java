@@ -64,7 +64,7 @@ class UserControllerIntegrationTest {
         users.add(user);
         userDtos = new ArrayList<>();
         userDtos.add(userDto);
-        when(userService.getAllUsers()).thenReturn(users);
+        when(userService.getAllUsers(0L, 100)).thenReturn(users);
         when(userMapper.listUserToUserDto(users)).thenReturn(userDtos);
         when(userService.getUserById(userId)).thenReturn(user);
         when(userMapper.userToUserDto(user)).thenReturn(userDto);
@@ -3,6 +3,7 @@ package com.ylab.app.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ylab.app.config.ApplicationConfig;
+import com.ylab.app.idempotency.IdempotencyStore;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
 import com.ylab.app.model.workout.Workout;
@@ -15,6 +16,7 @@ import com.ylab.app.web.dto.WorkoutAdditionalParamsDto;
 import com.ylab.app.web.dto.WorkoutDto;
 import com.ylab.app.web.mapper.WorkoutAdditionalParamsMapper;
 import com.ylab.app.web.mapper.WorkoutMapper;
+import com.ylab.app.web.stream.WorkoutStreamHub;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -68,6 +71,12 @@ class WorkoutControllerIntegrationTest {
     @MockBean
     private WorkoutAdditionalParamsMapper additionalParamsMapper;
 
+    @MockBean
+    private WorkoutStreamHub workoutStreamHub;
+
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
     private User user;
     private Workout workout;
     private LocalDateTime date;
@@ -151,7 +160,11 @@ class WorkoutControllerIntegrationTest {
     void whenGetWorkoutsOnDate_thenReturnsBadRequest() throws Exception {
         mockMvc.perform(get("/workout/date/{targetDate}", "2024-05-15 22:11")
                         .with(SecurityMockMvcRequestPostProcessors.user("user").roles("USER")))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.title").value("Bad Request"))
+                .andExpect(jsonPath("$.instance").value("/workout/date/2024-05-15%2022:11"));
     }
 
     @Test
@@ -0,0 +1,100 @@
+package com.ylab.app.outbox;
+
+import com.ylab.app.dbService.dao.OutboxDao;
+import com.ylab.app.model.outbox.OutboxEvent;
+import com.ylab.app.model.outbox.OutboxEventType;
+import com.ylab.app.service.props.OutboxRelayProperties;
+import com.ylab.props.AuditProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OutboxRelayTest class represents the test suite for relaying outbox events to the audit storage.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxDao outboxDao;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final TransactionStatus status = new SimpleTransactionStatus();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        AuditOutboxConsumer consumer = new AuditOutboxConsumer(jdbcTemplate, new AuditProperties());
+        relay = new OutboxRelay(outboxDao, List.of(consumer), new TransactionTemplate(transactionManager),
+                new OutboxRelayProperties(), meterRegistry);
+        when(outboxDao.lockBatch(anyInt())).thenReturn(List.of(
+                new OutboxEvent(1L, OutboxEvent.WORKOUT, 10L, OutboxEventType.WORKOUT_CREATED, "{}", Instant.now()),
+                new OutboxEvent(2L, OutboxEvent.WORKOUT, 11L, OutboxEventType.WORKOUT_DELETED, "{}", Instant.now())));
+    }
+
+    @Test
+    @DisplayName("The audit messages and the deletion of the batch are committed together")
+    void relay_ShouldRecordAndDeleteInOneTransaction() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenAnswer(invocation -> {
+            invocation.getArgument(1, KeyHolder.class).getKeyList().add(Map.of("id", 1L));
+            return 1;
+        });
+
+        relay.relay();
+
+        verify(jdbcTemplate, times(2)).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+        verify(outboxDao).delete(List.of(1L, 2L));
+        verify(transactionManager).commit(status);
+        assertThat(meterRegistry.counter("outbox.events.relayed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A failed audit insert rolls the batch back so it is delivered again instead of being spilled")
+    void relay_WhenInsertFails_ShouldRollBack() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        relay.relay();
+
+        verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+        verify(outboxDao, never()).delete(any());
+        verify(transactionManager).rollback(status);
+        verify(transactionManager, never()).commit(any());
+        assertThat(meterRegistry.counter("outbox.relay.failures").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("outbox.events.relayed").count()).isZero();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ylab.app.repository;
+
+import com.ylab.app.dbService.dictionary.ParamDefinitionDictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ParamDefinitionDictionaryTest class represents the test suite for the dictionary of workout parameter names.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class ParamDefinitionDictionaryTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ParamDefinitionDictionary dictionary;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("A name is read from the database once and then served from the cache in both directions")
+    @SuppressWarnings("unchecked")
+    void idOf_ShouldCacheNameAndId() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq("heart_rate"))).thenReturn(3);
+
+        assertThat(dictionary.idOf("heart_rate")).isEqualTo(3);
+        assertThat(dictionary.idOf("heart_rate")).isEqualTo(3);
+        assertThat(dictionary.nameOf(3)).isEqualTo("heart_rate");
+
+        verify(jdbcTemplate, times(1)).query(anyString(), any(ResultSetExtractor.class), eq("heart_rate"));
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(String.class), any(Object[].class));
+        verify(jdbcTemplate, never()).query(contains("INSERT"), any(ResultSetExtractor.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("A name added within a transaction is only cached once the transaction commits")
+    @SuppressWarnings("unchecked")
+    void idOf_WithinTransaction_ShouldCacheAfterCommit() {
+        when(jdbcTemplate.query(contains("SELECT"), any(ResultSetExtractor.class), eq("steps")))
+                .thenReturn(null, 7);
+        when(jdbcTemplate.query(contains("INSERT"), any(ResultSetExtractor.class), eq("steps"))).thenReturn(7);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(dictionary.idOf("steps")).isEqualTo(7);
+        assertThat(dictionary.idOf("steps")).isEqualTo(7);
+        verify(jdbcTemplate, times(2)).query(contains("SELECT"), any(ResultSetExtractor.class), eq("steps"));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(dictionary.idOf("steps")).isEqualTo(7);
+        verify(jdbcTemplate, times(2)).query(contains("SELECT"), any(ResultSetExtractor.class), eq("steps"));
+        verify(jdbcTemplate, times(1)).query(contains("INSERT"), any(ResultSetExtractor.class), eq("steps"));
+    }
+
+    @Test
+    @DisplayName("A name that is neither added nor found afterwards fails with a data access error and is not cached")
+    @SuppressWarnings("unchecked")
+    void idOf_WhenIdNotVisible_ShouldThrow() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq("cadence"))).thenReturn(null);
+
+        assertThatThrownBy(() -> dictionary.idOf("cadence"))
+                .isInstanceOf(EmptyResultDataAccessException.class)
+                .hasMessageContaining("cadence");
+
+        assertThatThrownBy(() -> dictionary.idOf("cadence"))
+                .isInstanceOf(EmptyResultDataAccessException.class);
+        verify(jdbcTemplate, times(6)).query(anyString(), any(ResultSetExtractor.class), eq("cadence"));
+    }
+
+    @Test
+    @DisplayName("Null names and ids are passed through without a lookup")
+    void nullNameAndId_ShouldNotQuery() {
+        assertThat(dictionary.idOf(null)).isNull();
+        assertThat(dictionary.nameOf(null)).isNull();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,127 @@
+package com.ylab.app.repository;
+
+import com.ylab.app.dbService.sequence.PooledSequence;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * PooledSequenceTest class represents the test suite for the pooled allocation of ids from a sequence.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class PooledSequenceTest {
+    private static final String SEQUENCE = "my_schema.seq_workout_id";
+    private static final long INCREMENT = 50;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong sequenceValue = new AtomicLong(100);
+    private final AtomicInteger blocksTaken = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    private void stubSequence() {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(SEQUENCE))).thenAnswer(invocation -> {
+            blocksTaken.incrementAndGet();
+            return new long[]{sequenceValue.addAndGet(INCREMENT), INCREMENT};
+        });
+    }
+
+    @Test
+    @DisplayName("A block is taken once and its ids are handed out in order, after the ids already in use")
+    void next_ShouldHandOutBlockInOrder() {
+        stubSequence();
+        PooledSequence sequence = new PooledSequence(jdbcTemplate, SEQUENCE, 1);
+
+        assertThat(sequence.next()).isEqualTo(101L);
+        assertThat(sequence.next(3)).containsExactly(102L, 103L, 104L);
+        assertThat(sequence.next(46)).hasSize(46).endsWith(150L);
+        assertThat(blocksTaken).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Ids requested across the end of a block continue with the next block")
+    void next_AcrossBlocks_ShouldTakeNextBlock() {
+        stubSequence();
+        PooledSequence sequence = new PooledSequence(jdbcTemplate, SEQUENCE, 1);
+        sequence.next(49);
+
+        assertThat(sequence.next(3)).containsExactly(150L, 151L, 152L);
+        assertThat(blocksTaken).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("No ids are requested from the database for an empty request")
+    void next_Zero_ShouldNotQuery() {
+        PooledSequence sequence = new PooledSequence(jdbcTemplate, SEQUENCE, 4);
+
+        assertThat(sequence.next(0)).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Concurrent callers on all stripes never receive the same id")
+    void next_Concurrently_ShouldNotCollide() throws Exception {
+        stubSequence();
+        PooledSequence sequence = new PooledSequence(jdbcTemplate, SEQUENCE, 4);
+        int threads = 16;
+        int callsPerThread = 2_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicInteger handedOut = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < callsPerThread; i++) {
+                        long[] block = sequence.next(1 + i % 4);
+                        for (int j = 1; j < block.length; j++) {
+                            assertThat(block[j]).isGreaterThan(block[j - 1]);
+                        }
+                        for (long id : block) {
+                            ids.add(id);
+                        }
+                        handedOut.addAndGet(block.length);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(handedOut.get());
+        assertThat(ids).allMatch(id -> id > 100 && id <= sequenceValue.get());
+        assertThat(blocksTaken.get()).isLessThanOrEqualTo(handedOut.get() / (int) INCREMENT + 4);
+    }
+}
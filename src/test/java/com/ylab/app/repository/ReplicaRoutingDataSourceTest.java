@@ -0,0 +1,134 @@
+package com.ylab.app.repository;
+
+import com.ylab.app.dbService.routing.DataSourceRole;
+import com.ylab.app.dbService.routing.ReplicaLagMonitor;
+import com.ylab.app.dbService.routing.ReplicaRoutingDataSource;
+import com.ylab.app.service.props.ReplicaDataSourceProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReplicaRoutingDataSourceTest class represents the test suite for routing transactions between the primary
+ * and the read replica depending on the measured replication lag.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @Mock
+    private DataSource primaryDataSource;
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        replicaLagMonitor = new ReplicaLagMonitor(replicaJdbcTemplate, properties);
+        routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private void measuredLag(double seconds) {
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Double.class))).thenReturn(seconds);
+        replicaLagMonitor.checkLag();
+    }
+
+    @Test
+    @DisplayName("A read-only transaction goes to the replica while it is within the allowed lag")
+    void readOnly_WhenReplicaAvailable_ShouldUseReplica() throws SQLException {
+        measuredLag(1.5);
+        when(replicaDataSource.getConnection()).thenReturn(connection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+        verify(primaryDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("A read-only transaction goes to the primary when the replica lags more than the maximum")
+    void readOnly_WhenLagExceedsMaximum_ShouldUsePrimary() throws SQLException {
+        measuredLag(12);
+        when(primaryDataSource.getConnection()).thenReturn(connection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(replicaLagMonitor.getLagSeconds()).isEqualTo(12);
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("A read-only transaction goes to the primary when the lag cannot be measured")
+    void readOnly_WhenLagQueryFails_ShouldUsePrimary() throws SQLException {
+        measuredLag(1.5);
+        when(replicaJdbcTemplate.queryForObject(anyString(), eq(Double.class)))
+                .thenThrow(new DataAccessResourceFailureException("replica is down"));
+        replicaLagMonitor.checkLag();
+        when(primaryDataSource.getConnection()).thenReturn(connection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(replicaLagMonitor.getLagSeconds()).isNaN();
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("A read-write transaction always goes to the primary")
+    void readWrite_ShouldUsePrimary() throws SQLException {
+        measuredLag(0);
+        when(primaryDataSource.getConnection()).thenReturn(connection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+        verify(replicaDataSource, never()).getConnection();
+    }
+}
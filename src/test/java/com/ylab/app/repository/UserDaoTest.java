@@ -1,10 +1,14 @@
 package com.ylab.app.repository;
 
 import com.ylab.app.dbService.dao.impl.UserDaoImpl;
+import com.ylab.app.dbService.mappers.UserProfileRowMapper;
 import com.ylab.app.dbService.mappers.UserRowMapper;
+import com.ylab.app.dbService.mappers.UserSearchHitRowMapper;
 import com.ylab.app.exception.dbException.DatabaseReadException;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
+import com.ylab.app.model.user.UserSearchCursor;
+import com.ylab.app.model.user.UserSearchHit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,6 +54,12 @@ class UserDaoTest {
     @Mock
     private UserRowMapper userRowMapper;
 
+    @Mock
+    private UserProfileRowMapper userProfileRowMapper;
+
+    @Mock
+    private UserSearchHitRowMapper userSearchHitRowMapper;
+
     @InjectMocks
     private UserDaoImpl userDao;
 
@@ -94,9 +104,9 @@ class UserDaoTest {
     @Test
     @DisplayName("Get all users should return list of users from the database")
     void getAllUsers_ShouldReturnListOfUsers() {
-        when(jdbcTemplate.query(anyString(), eq(userRowMapper))).thenReturn(userList);
+        when(jdbcTemplate.query(anyString(), eq(userProfileRowMapper), eq(0L), eq(100))).thenReturn(userList);
 
-        List<User> result = userDao.getAllUsers();
+        List<User> result = userDao.getAllUsers(0L, 100);
 
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(userList);
@@ -105,7 +115,7 @@ class UserDaoTest {
     @Test
     @DisplayName("Find user by id should return user or null")
     void findUserById_ShouldReturnUser() {
-        when(jdbcTemplate.queryForObject(anyString(), eq(userRowMapper), eq(user1.getId()))).thenReturn(user1);
+        when(jdbcTemplate.queryForObject(anyString(), eq(userProfileRowMapper), eq(user1.getId()))).thenReturn(user1);
 
         User result = userDao.findUserById(user1.getId());
 
@@ -115,20 +125,30 @@ class UserDaoTest {
     @Test
     @DisplayName("Get user by login should return user or null")
     void getUserByLogin_ShouldReturnUser() {
-        when(jdbcTemplate.queryForObject(anyString(), eq(userRowMapper), eq(user1.getName()))).thenReturn(user1);
+        when(jdbcTemplate.queryForObject(anyString(), eq(userProfileRowMapper), eq(user1.getName()))).thenReturn(user1);
 
         User result = userDao.getUserByLogin(user1.getName());
 
         assertThat(result).isEqualTo(user1);
     }
 
+    @Test
+    @DisplayName("Get user credentials by login should map the row with the password hash")
+    void getUserCredentialsByLogin_ShouldReturnUserWithPassword() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(userRowMapper), eq(user1.getName()))).thenReturn(user1);
+
+        User result = userDao.getUserCredentialsByLogin(user1.getName());
+
+        assertThat(result).isEqualTo(user1);
+    }
+
     @Test
     @DisplayName("getAllUsers throws DatabaseReadException when retrieval fails")
     public void getAllUsers_ThrowDatabaseReadException_WhenRetrievalFails() {
-        when(jdbcTemplate.query(anyString(), eq(userRowMapper)))
+        when(jdbcTemplate.query(anyString(), eq(userProfileRowMapper), anyLong(), anyInt()))
                 .thenThrow(new DataAccessException("Database access failure") {});
 
-        Throwable thrown = catchThrowable(() -> userDao.getAllUsers());
+        Throwable thrown = catchThrowable(() -> userDao.getAllUsers(0L, 100));
         assertThat(thrown)
                 .isInstanceOf(DatabaseReadException.class)
                 .hasMessageContaining("Failed to retrieve all users");
@@ -137,7 +157,7 @@ class UserDaoTest {
     @Test
     @DisplayName("findUserById throws UserValidationException when user with the given ID is not found")
     public void findUserById_ThrowUserValidationException_WhenUserNotFound() {
-        when(jdbcTemplate.queryForObject(anyString(), eq(userRowMapper), anyLong())).thenThrow(EmptyResultDataAccessException.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(userProfileRowMapper), anyLong())).thenThrow(EmptyResultDataAccessException.class);
 
         User result = userDao.findUserById(9L);
 
@@ -147,7 +167,7 @@ class UserDaoTest {
     @Test
     @DisplayName("findUserById throws DatabaseReadException when retrieval fails")
     public void findUserById_ThrowDatabaseReadException_WhenRetrievalFails() {
-        when(jdbcTemplate.queryForObject(anyString(), eq(userRowMapper), anyLong()))
+        when(jdbcTemplate.queryForObject(anyString(), eq(userProfileRowMapper), anyLong()))
                 .thenThrow(new DataAccessException("Database access failure") {});
 
         Throwable thrown = catchThrowable(() -> userDao.findUserById(1L));
@@ -155,4 +175,16 @@ class UserDaoTest {
                 .isInstanceOf(DatabaseReadException.class)
                 .hasMessageContaining("Failed to retrieve user by id");
     }
+
+    @Test
+    @DisplayName("Search users should match the prefix literally and start after the cursor")
+    void searchUsers_ShouldEscapeWildcardsInPrefix() {
+        List<UserSearchHit> hits = List.of(new UserSearchHit(user1, 0.4f));
+        when(jdbcTemplate.query(anyString(), eq(userSearchHitRowMapper),
+                eq("te_s%t"), eq("te\\_s\\%t%"), eq("te_s%t"), eq(-0.5f), eq(7L), eq(20))).thenReturn(hits);
+
+        List<UserSearchHit> result = userDao.searchUsers("te_s%t", new UserSearchCursor(0.5f, 7L), 20);
+
+        assertThat(result).isEqualTo(hits);
+    }
 }
@@ -1,39 +1,46 @@
 package com.ylab.app.repository;
 
+import com.ylab.app.dbService.dao.OutboxDao;
 import com.ylab.app.dbService.dao.impl.WorkoutDaoImpl;
+import com.ylab.app.dbService.dictionary.ParamDefinitionDictionary;
+import com.ylab.app.dbService.mappers.WorkoutParamsJson;
 import com.ylab.app.dbService.mappers.WorkoutRowMapper;
+import com.ylab.app.dbService.partition.WorkoutPartitionMaintainer;
+import com.ylab.app.dbService.sequence.WorkoutIdAllocator;
 import com.ylab.app.exception.dbException.DatabaseReadException;
 import com.ylab.app.exception.dbException.DatabaseWriteException;
+import com.ylab.app.model.outbox.OutboxEvent;
+import com.ylab.app.model.outbox.OutboxEventType;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
 import com.ylab.app.model.workout.Workout;
 import com.ylab.app.model.workout.WorkoutAdditionalParams;
 import com.ylab.app.model.workout.WorkoutType;
+import com.ylab.app.service.props.WorkoutParamsProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 
+import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static com.ylab.app.util.DataResultWorkoutQuery.deleteWorkoutParamsQuery;
 import static com.ylab.app.util.DataResultWorkoutQuery.deleteWorkoutQuery;
+import static com.ylab.app.util.DataResultWorkoutQuery.getSelectWorkoutParamsJsonbByCriteria;
+import static com.ylab.app.util.DataResultWorkoutQuery.getSelectWorkoutParamsWithoutJsonbByCriteria;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.ThrowableAssert.catchThrowable;
 import static org.mockito.Mockito.*;
@@ -56,6 +63,27 @@ class WorkoutDaoTest {
     @Mock
     private JdbcTemplate jdbcTemplate;
 
+    @Mock
+    private WorkoutPartitionMaintainer partitionMaintainer;
+
+    @Mock
+    private OutboxDao outboxDao;
+
+    @Mock
+    private ParamDefinitionDictionary paramDictionary;
+
+    @Mock
+    private WorkoutRowMapper workoutRowMapper;
+
+    @Mock
+    private WorkoutParamsJson paramsJson;
+
+    @Mock
+    private WorkoutIdAllocator idAllocator;
+
+    @Spy
+    private WorkoutParamsProperties paramsProperties = new WorkoutParamsProperties();
+
     @InjectMocks
     private WorkoutDaoImpl workoutDao;
 
@@ -69,7 +97,7 @@ class WorkoutDaoTest {
 
     @BeforeEach
     void setUp() {
-        user = new User("test", "test", UserRole.USER);
+        user = new User(1L, "test", "test", UserRole.USER);
         params = new WorkoutAdditionalParams(1L, "jumping", 50L);
         workoutList = new ArrayList<>();
         listParams = new ArrayList<>();
@@ -89,24 +117,33 @@ class WorkoutDaoTest {
     @Test
     @DisplayName("insert workout a new workout into the database when successful")
     public void insertWorkout_InsertNewWorkout_WhenSuccessful() {
-        KeyHolder keyHolder = new GeneratedKeyHolder();
-        Map<String, Object> keys = new HashMap<>();
-        keys.put("id", 1L);
-        keyHolder.getKeyList().add(keys);
+        when(idAllocator.nextWorkoutId()).thenReturn(1L);
+        when(idAllocator.nextParamIds(1)).thenReturn(new long[]{51L});
+        when(paramDictionary.idOf("jumping")).thenReturn(4);
+
+        workoutDao.insertWorkout(workout);
 
-        ArgumentCaptor<PreparedStatementCreator> pscCaptor = ArgumentCaptor.forClass(PreparedStatementCreator.class);
-        ArgumentCaptor<KeyHolder> keyHolderCaptor = ArgumentCaptor.forClass(KeyHolder.class);
+        assertThat(workout.getId()).isEqualTo(1L);
+        assertThat(params.getId()).isEqualTo(1L);
+        verify(partitionMaintainer).ensurePartitionFor(date);
+        verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class));
+        verify(outboxDao).append(eq(OutboxEvent.WORKOUT), eq(1L), eq(OutboxEventType.WORKOUT_CREATED), any());
+    }
 
-        when(jdbcTemplate.update(pscCaptor.capture(), keyHolderCaptor.capture())).thenAnswer(invocation -> {
-            KeyHolder kh = invocation.getArgument(1, KeyHolder.class);
-            kh.getKeyList().addAll(keyHolder.getKeyList());
-            return 1;
-        });
+    @Test
+    @DisplayName("With the jsonb layout a workout is inserted with its params in a single statement")
+    public void insertWorkout_JsonbLayout_ShouldNotInsertParamRows() throws Exception {
+        paramsProperties.setStorage(WorkoutParamsProperties.Storage.JSONB);
+        when(paramsJson.write(listParams)).thenReturn("[[\"jumping\",50]]");
+        when(idAllocator.nextWorkoutId()).thenReturn(1L);
+        when(idAllocator.nextParamIds(0)).thenReturn(new long[0]);
 
         workoutDao.insertWorkout(workout);
 
         assertThat(workout.getId()).isEqualTo(1L);
-        assertThat(keyHolderCaptor.getValue().getKey().longValue()).isEqualTo(1L);
+        verify(paramsJson).write(listParams);
+        verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class));
+        verifyNoInteractions(paramDictionary);
     }
 
     @Test
@@ -114,7 +151,7 @@ class WorkoutDaoTest {
     void findWorkoutsByUserAndDate_ShouldReturnListOfWorkouts() {
         LocalDateTime targetDate = LocalDateTime.now();
         when(jdbcTemplate.query(anyString(),
-                any(WorkoutRowMapper.class), eq(user.getName()), any(Timestamp.class))).thenReturn(workoutList);
+                any(WorkoutRowMapper.class), eq(user.getId()), any(Timestamp.class), any(Timestamp.class))).thenReturn(workoutList);
 
         List<Workout> result = workoutDao.findWorkoutsByUserAndDate(user, targetDate);
 
@@ -148,11 +185,21 @@ class WorkoutDaoTest {
     @DisplayName("Delete workout should remove workout and its parameters from the database")
     void deleteWorkout_ShouldRemoveWorkoutAndParamsFromDatabase() {
         Long workoutId = 1L;
+        when(jdbcTemplate.update(anyString(), eq(workoutId))).thenReturn(1);
 
         workoutDao.deleteWorkout(workoutId);
 
         verify(jdbcTemplate, times(1)).update(eq(deleteWorkoutParamsQuery()), eq(workoutId));
         verify(jdbcTemplate, times(1)).update(eq(deleteWorkoutQuery()), eq(workoutId));
+        verify(outboxDao).append(eq(OutboxEvent.WORKOUT), eq(workoutId), eq(OutboxEventType.WORKOUT_DELETED), any());
+    }
+
+    @Test
+    @DisplayName("Delete workout should not append a change event when the workout does not exist")
+    void deleteWorkout_ShouldNotAppendEvent_WhenWorkoutDoesNotExist() {
+        workoutDao.deleteWorkout(workoutId);
+
+        verifyNoInteractions(outboxDao);
     }
 
     @Test
@@ -187,6 +234,35 @@ class WorkoutDaoTest {
         assertThat(result).isEqualTo(paramsList);
     }
 
+    @Test
+    @DisplayName("With the jsonb layout the params of workouts without a params document are read from their rows")
+    @SuppressWarnings("unchecked")
+    void findWorkoutParamsByTypeUserAndDate_JsonbLayoutWithoutDocument_ShouldReadParamRows() throws Exception {
+        paramsProperties.setStorage(WorkoutParamsProperties.Storage.JSONB);
+        LocalDateTime startDate = LocalDateTime.parse("2024-01-01T00:00:00");
+        LocalDateTime endDate = LocalDateTime.parse("2024-01-31T23:59:59");
+        WorkoutAdditionalParams jsonbParam = new WorkoutAdditionalParams(2L, "steps", 900L);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("params")).thenReturn(null, "[[\"steps\",900]]");
+        when(rs.getLong("id")).thenReturn(2L);
+        when(workoutRowMapper.readParams(2L, "[[\"steps\",900]]")).thenReturn(List.of(jsonbParam));
+        when(jdbcTemplate.query(eq(getSelectWorkoutParamsJsonbByCriteria()), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    RowMapper<List<WorkoutAdditionalParams>> rowMapper = invocation.getArgument(1);
+                    List<List<WorkoutAdditionalParams>> rows = new ArrayList<>();
+                    rows.add(rowMapper.mapRow(rs, 0));
+                    rows.add(rowMapper.mapRow(rs, 1));
+                    return rows;
+                });
+        when(jdbcTemplate.query(eq(getSelectWorkoutParamsWithoutJsonbByCriteria()), any(RowMapper.class), any(Object[].class)))
+                .thenReturn(List.of(params));
+
+        List<WorkoutAdditionalParams> result = workoutDao.findWorkoutParamsByTypeUserAndDate(user, WorkoutType.CARDIO, startDate, endDate);
+
+        assertThat(result).containsExactlyInAnyOrder(jsonbParam, params);
+        verify(workoutRowMapper, never()).readParams(anyLong(), isNull());
+    }
+
     @Test
     @DisplayName("Update workout throws DatabaseWriteException when retrieval fails")
     public void EditWorkout_ThrowDatabaseWriteException_WhenRetrievalFails() {
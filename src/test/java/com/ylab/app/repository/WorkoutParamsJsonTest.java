@@ -0,0 +1,42 @@
+package com.ylab.app.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ylab.app.dbService.mappers.WorkoutParamsJson;
+import com.ylab.app.model.workout.WorkoutAdditionalParams;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WorkoutParamsJsonTest class represents the test suite for the JSONB layout of the workout parameters.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class WorkoutParamsJsonTest {
+    private final WorkoutParamsJson paramsJson = new WorkoutParamsJson(new ObjectMapper());
+
+    @Test
+    @DisplayName("Params are written as name and value pairs and read back in order with repeated names")
+    void writeAndRead_ShouldKeepOrderAndRepeatedNames() throws Exception {
+        List<WorkoutAdditionalParams> params = List.of(
+                new WorkoutAdditionalParams(7L, "steps", 1200L),
+                new WorkoutAdditionalParams(7L, "heart_rate", 120L),
+                new WorkoutAdditionalParams(7L, "steps", null));
+
+        String json = paramsJson.write(params);
+
+        assertThat(json).isEqualTo("[[\"steps\",1200],[\"heart_rate\",120],[\"steps\",null]]");
+        assertThat(paramsJson.read(7L, json)).isEqualTo(params);
+    }
+
+    @Test
+    @DisplayName("A workout without params is stored as an empty array")
+    void write_WithoutParams_ShouldWriteEmptyArray() throws Exception {
+        assertThat(paramsJson.write(List.of())).isEqualTo("[]");
+        assertThat(paramsJson.read(7L, "[]")).isEmpty();
+    }
+}
@@ -0,0 +1,112 @@
+package com.ylab.app.security;
+
+import com.ylab.app.exception.securityException.PasswordHashingUnavailableException;
+import com.ylab.app.service.props.PasswordHashingProperties;
+import com.ylab.app.web.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BoundedPasswordEncoderTest class represents the test suite for hashing passwords on a bounded pool.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class BoundedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Hashing should run on the pool and be timed per operation")
+    void encodeAndMatches_ShouldDelegateAndRecordLatency() {
+        encoder = encoder(new BCryptPasswordEncoder(4), 1, 4, Duration.ofSeconds(5));
+
+        String hash = encoder.encode("secret");
+
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("password.hash").tag("operation", "encode").functionTimer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash").tag("operation", "matches").functionTimer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A hash should be rejected with a retry delay when the queue of the pool is full")
+    void matches_ShouldRejectWhenQueueIsFull() throws Exception {
+        encoder = encoder(new BlockingEncoder(), 1, 1, Duration.ofSeconds(5));
+        CompletableFuture.runAsync(() -> encoder.matches("running", "hash"));
+        CompletableFuture.runAsync(() -> encoder.matches("queued", "hash"));
+        awaitQueued();
+
+        assertThatThrownBy(() -> encoder.matches("rejected", "hash"))
+                .isInstanceOfSatisfying(PasswordHashingUnavailableException.class, e ->
+                        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(1)));
+        assertThat(rejected("queue_full")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A hash not done within the timeout should be rejected")
+    void matches_ShouldRejectWhenHashTimesOut() {
+        encoder = encoder(new BlockingEncoder(), 1, 1, Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> encoder.matches("slow", "hash"))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(rejected("timeout")).isEqualTo(1);
+    }
+
+    private BoundedPasswordEncoder encoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        BoundedPasswordEncoder boundedEncoder = new BoundedPasswordEncoder(delegate, properties);
+        boundedEncoder.bindTo(meterRegistry);
+        return boundedEncoder;
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("password.hash.rejected").tag("reason", reason).functionCounter().count();
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return matches(rawPassword, null) ? rawPassword.toString() : null;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.ylab.app.security;
+
+import com.ylab.app.dbService.dao.RefreshTokenDao;
+import com.ylab.app.exception.dbException.AccessDeniedException;
+import com.ylab.app.model.token.RevokedSession;
+import com.ylab.app.model.user.User;
+import com.ylab.app.model.user.UserRole;
+import com.ylab.app.service.UserService;
+import com.ylab.app.service.props.JwtProperties;
+import com.ylab.app.service.props.TokenRevocationProperties;
+import com.ylab.app.web.dto.auth.JwtResponse;
+import com.ylab.app.web.security.JwtTokenProvider;
+import com.ylab.app.web.security.TokenDenylist;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtTokenProviderTest class represents the test suite for the rotation and reuse detection of refresh tokens.
+ * The refresh tokens are kept in an in-memory store behaving like the refresh token table.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+    private static final String SECRET = "bmRmYnZ2amZudmp2anZqdm12YmR4aHhoZ2dzY3NseHBjb2NpdWRjZ3N2c2J4Y21ja0hGSEZIQkNCRkJGSEhOQ05DTkNNQ0tY";
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TokenDenylist tokenDenylist;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final InMemoryRefreshTokenDao refreshTokenDao = new InMemoryRefreshTokenDao();
+    private final User user = new User(1L, "admin", "hash", UserRole.ADMIN);
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setAccess(Duration.ofHours(1).toMillis());
+        jwtProperties.setRefresh(Duration.ofDays(30).toMillis());
+        JwtTokenProvider target = new JwtTokenProvider(jwtProperties, userService, refreshTokenDao, tokenDenylist,
+                new TokenRevocationProperties());
+        target.init();
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        tokenProvider = (JwtTokenProvider) factory.getProxy();
+        refreshTokenDao.users.put(user.getId(), user);
+    }
+
+    private static Claims claims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Test
+    @DisplayName("A refresh uses up the token and issues a new one in the same session")
+    void refresh_ShouldRotateTokenWithinSession() {
+        JwtResponse login = tokenProvider.issueTokens(user.getId(), user.getName(), user.getRole());
+
+        JwtResponse refreshed = tokenProvider.refreshUserTokens(login.getRefreshToken());
+
+        Claims before = claims(login.getRefreshToken());
+        Claims after = claims(refreshed.getRefreshToken());
+        assertThat(after.getId()).isNotEqualTo(before.getId());
+        assertThat(after.get("sid")).isEqualTo(before.get("sid"));
+        assertThat(claims(refreshed.getAccessToken()).get("sid")).isEqualTo(before.get("sid"));
+        assertThat(refreshed.getUsername()).isEqualTo("admin");
+        assertThat(refreshTokenDao.tokens.get(UUID.fromString(before.getId())).used).isTrue();
+        verify(tokenDenylist, never()).revoke(any());
+    }
+
+    @Test
+    @DisplayName("Presenting a rotated token again revokes the session and keeps the revocation")
+    void refresh_WithRotatedToken_ShouldRevokeSessionAndCommit() {
+        TransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        JwtResponse login = tokenProvider.issueTokens(user.getId(), user.getName(), user.getRole());
+        JwtResponse refreshed = tokenProvider.refreshUserTokens(login.getRefreshToken());
+        String sessionId = claims(login.getRefreshToken()).get("sid", String.class);
+
+        assertThatThrownBy(() -> tokenProvider.refreshUserTokens(login.getRefreshToken()))
+                .isInstanceOf(AccessDeniedException.class);
+
+        verify(tokenDenylist).revoke(sessionId);
+        assertThat(refreshTokenDao.revokedSessions).containsExactly(UUID.fromString(sessionId));
+        verify(transactionManager, times(2)).commit(status);
+        verify(transactionManager, never()).rollback(any());
+        assertThatThrownBy(() -> tokenProvider.refreshUserTokens(refreshed.getRefreshToken()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("A token of a revoked session is rejected and other sessions keep refreshing")
+    void refresh_WithRevokedSession_ShouldBeRejected() {
+        JwtResponse revoked = tokenProvider.issueTokens(user.getId(), user.getName(), user.getRole());
+        JwtResponse other = tokenProvider.issueTokens(user.getId(), user.getName(), user.getRole());
+        tokenProvider.revokeRefreshToken(revoked.getRefreshToken());
+
+        assertThatThrownBy(() -> tokenProvider.refreshUserTokens(revoked.getRefreshToken()))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(tokenProvider.refreshUserTokens(other.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("An access token cannot be used as a refresh token")
+    void refresh_WithAccessToken_ShouldBeRejected() {
+        JwtResponse login = tokenProvider.issueTokens(user.getId(), user.getName(), user.getRole());
+
+        assertThatThrownBy(() -> tokenProvider.refreshUserTokens(login.getAccessToken()))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(refreshTokenDao.tokens.values()).noneMatch(token -> token.used);
+    }
+
+    private static class InMemoryRefreshTokenDao implements RefreshTokenDao {
+        private final Map<UUID, StoredToken> tokens = new ConcurrentHashMap<>();
+        private final Map<Long, User> users = new ConcurrentHashMap<>();
+        private final List<UUID> revokedSessions = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void insert(UUID jti, UUID sessionId, Long userId, Instant expiresAt) {
+            tokens.put(jti, new StoredToken(sessionId, userId));
+        }
+
+        @Override
+        public Optional<User> use(UUID jti, UUID sessionId) {
+            StoredToken token = tokens.get(jti);
+            if (token == null || !token.sessionId.equals(sessionId) || token.used || token.revoked) {
+                return Optional.empty();
+            }
+            token.used = true;
+            return Optional.of(users.get(token.userId));
+        }
+
+        @Override
+        public boolean exists(UUID jti, UUID sessionId) {
+            StoredToken token = tokens.get(jti);
+            return token != null && token.sessionId.equals(sessionId);
+        }
+
+        @Override
+        public int revokeSession(UUID sessionId) {
+            revokedSessions.add(sessionId);
+            int revoked = 0;
+            for (StoredToken token : tokens.values()) {
+                if (token.sessionId.equals(sessionId) && !token.revoked) {
+                    token.revoked = true;
+                    revoked++;
+                }
+            }
+            return revoked;
+        }
+
+        @Override
+        public List<RevokedSession> findRevokedSessions(Duration within) {
+            return List.of();
+        }
+
+        @Override
+        public int deleteExpired(int limit) {
+            return 0;
+        }
+    }
+
+    private static class StoredToken {
+        private final UUID sessionId;
+        private final Long userId;
+        private boolean used;
+        private boolean revoked;
+
+        StoredToken(UUID sessionId, Long userId) {
+            this.sessionId = sessionId;
+            this.userId = userId;
+        }
+    }
+}
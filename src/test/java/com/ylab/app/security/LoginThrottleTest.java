@@ -0,0 +1,80 @@
+package com.ylab.app.security;
+
+import com.ylab.app.exception.securityException.LoginThrottledException;
+import com.ylab.app.service.props.LoginThrottleProperties;
+import com.ylab.app.web.security.LoginThrottle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LoginThrottleTest class represents the test suite for the token buckets throttling authentication attempts.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class LoginThrottleTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoginThrottleProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginThrottleProperties();
+        properties.setIpCapacity(3);
+        properties.setIpRefillPeriod(Duration.ofMinutes(1));
+        properties.setUsernameCapacity(2);
+        properties.setUsernameRefillPeriod(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("A client address should be throttled once its bucket is empty, other addresses should not")
+    void checkLogin_ShouldThrottleClientAddressWithEmptyBucket() {
+        LoginThrottle throttle = new LoginThrottle(properties, meterRegistry);
+        for (int i = 0; i < 3; i++) {
+            throttle.checkLogin("10.0.0.1", "user" + i);
+        }
+
+        assertThatThrownBy(() -> throttle.checkLogin("10.0.0.1", "other"))
+                .isInstanceOfSatisfying(LoginThrottledException.class, e ->
+                        assertThat(e.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1)));
+        assertThatCode(() -> throttle.checkLogin("10.0.0.2", "other")).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("auth.throttled", "bucket", "ip").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A username should be throttled after failed logins only, whatever the client address")
+    void checkLogin_ShouldThrottleUsernameAfterFailedLogins() {
+        LoginThrottle throttle = new LoginThrottle(properties, meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            throttle.checkLogin("10.0.1." + i, "admin");
+        }
+        throttle.recordFailure("admin");
+        throttle.recordFailure("admin");
+
+        assertThatThrownBy(() -> throttle.checkLogin("10.0.2.1", "admin"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> throttle.checkLogin("10.0.2.1", "test")).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("auth.throttled", "bucket", "username").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A disabled throttle should let every attempt through")
+    void checkLogin_ShouldNotThrottleWhenDisabled() {
+        properties.setEnabled(false);
+        LoginThrottle throttle = new LoginThrottle(properties, meterRegistry);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 10; i++) {
+                throttle.checkLogin("10.0.0.1", "admin");
+                throttle.recordFailure("admin");
+            }
+        }).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,120 @@
+package com.ylab.app.security;
+
+import com.ylab.app.dbService.dao.RefreshTokenDao;
+import com.ylab.app.dbService.notify.PgNotificationListener;
+import com.ylab.app.dbService.notify.PgNotificationPublisher;
+import com.ylab.app.model.token.RevokedSession;
+import com.ylab.app.service.props.JwtProperties;
+import com.ylab.app.service.props.TokenRevocationProperties;
+import com.ylab.app.web.security.TokenDenylist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TokenDenylistTest class represents the test suite for the denylist of revoked login sessions.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenDenylistTest {
+    private static final long ACCESS_LIFETIME = Duration.ofHours(1).toMillis();
+
+    @Mock
+    private RefreshTokenDao refreshTokenDao;
+
+    @Mock
+    private PgNotificationPublisher publisher;
+
+    @Mock
+    private PgNotificationListener notificationListener;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAccess(ACCESS_LIFETIME);
+        TokenRevocationProperties properties = new TokenRevocationProperties();
+        properties.setExpectedRevocations(1000);
+        denylist = new TokenDenylist(refreshTokenDao, publisher, notificationListener, jwtProperties, properties,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("A revoked session should be rejected and announced to the other nodes")
+    void revoke_ShouldRejectSessionAndPublishRevocation() {
+        String sessionId = UUID.randomUUID().toString();
+
+        denylist.revoke(sessionId);
+
+        assertThat(denylist.isRevoked(sessionId)).isTrue();
+        assertThat(denylist.isRevoked(UUID.randomUUID().toString())).isFalse();
+        verify(publisher).publish(eq("token_revocation"), startsWith(sessionId + ","));
+        assertThat(meterRegistry.counter("token.denylist.hits", "result", "revoked").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A reload should load the sessions revoked within the access token lifetime and drop expired ones")
+    void reload_ShouldLoadRevokedSessionsStillHoldingValidAccessTokens() {
+        UUID recent = UUID.randomUUID();
+        UUID expired = UUID.randomUUID();
+        when(refreshTokenDao.findRevokedSessions(Duration.ofMillis(ACCESS_LIFETIME))).thenReturn(List.of(
+                new RevokedSession(recent, Instant.now().minus(Duration.ofMinutes(10))),
+                new RevokedSession(expired, Instant.now().minus(Duration.ofHours(2)))));
+
+        denylist.reload();
+
+        assertThat(denylist.isRevoked(recent.toString())).isTrue();
+        assertThat(denylist.isRevoked(expired.toString())).isFalse();
+        assertThat(meterRegistry.get("token.denylist.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A revocation received from another node should reject the session")
+    @SuppressWarnings("unchecked")
+    void notification_ShouldRejectSessionRevokedOnAnotherNode() {
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(notificationListener).addListener(eq("token_revocation"), listener.capture());
+        String sessionId = UUID.randomUUID().toString();
+
+        listener.getValue().accept(sessionId + "," + Instant.now().plus(Duration.ofMinutes(5)).toEpochMilli());
+
+        assertThat(denylist.isRevoked(sessionId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sessions that were never revoked should rarely reach the exact lookup")
+    void isRevoked_ShouldKeepFalsePositivesNearConfiguredRate() {
+        for (int i = 0; i < 1000; i++) {
+            denylist.revoke(UUID.randomUUID().toString());
+        }
+
+        int checks = 10000;
+        for (int i = 0; i < checks; i++) {
+            assertThat(denylist.isRevoked(UUID.randomUUID().toString())).isFalse();
+        }
+
+        double falsePositives = meterRegistry.counter("token.denylist.hits", "result", "false_positive").count();
+        assertThat(falsePositives / checks).isLessThan(0.03);
+    }
+}
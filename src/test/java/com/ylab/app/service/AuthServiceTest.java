@@ -1,12 +1,10 @@
 package com.ylab.app.service;
 
-import com.ylab.app.exception.resourceException.ResourceNotFoundException;
-import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
 import com.ylab.app.service.impl.AuthServiceImpl;
-import com.ylab.app.service.impl.UserServiceImpl;
 import com.ylab.app.web.dto.auth.JwtRequest;
 import com.ylab.app.web.dto.auth.JwtResponse;
+import com.ylab.app.web.security.JwtEntity;
 import com.ylab.app.web.security.JwtTokenProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -17,8 +15,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
+import java.util.List;
+
 /**
  * AuthServiceTest class is designed to verify user authentication.
  * It utilizes Mockito to create mock objects necessary for testing.
@@ -33,9 +34,6 @@ public class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
-    @Mock
-    private UserServiceImpl userService;
-
     @Mock
     private JwtTokenProvider tokenProvider;
 
@@ -54,23 +52,20 @@ public class AuthServiceTest {
         JwtRequest request = new JwtRequest();
         request.setUsername(username);
         request.setPassword(password);
-        User user = new User();
-        user.setId(userId);
-        user.setName(username);
-        user.setRole(role);
-        Mockito.when(userService.getUserByLogin(username))
-                .thenReturn(user);
-        Mockito.when(tokenProvider.createAccessToken(userId, username, role))
-                .thenReturn(accessToken);
-        Mockito.when(tokenProvider.createRefreshToken(userId, username))
-                .thenReturn(refreshToken);
+        JwtEntity principal = new JwtEntity(userId, username, "hash", role, List.of());
+        UsernamePasswordAuthenticationToken authenticationRequest =
+                new UsernamePasswordAuthenticationToken(username, password);
+        Mockito.when(authenticationManager.authenticate(authenticationRequest))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        JwtResponse tokens = new JwtResponse();
+        tokens.setId(userId);
+        tokens.setUsername(username);
+        tokens.setAccessToken(accessToken);
+        tokens.setRefreshToken(refreshToken);
+        Mockito.when(tokenProvider.issueTokens(userId, username, role))
+                .thenReturn(tokens);
         JwtResponse response = authService.login(request);
-        Mockito.verify(authenticationManager)
-                .authenticate(
-                        new UsernamePasswordAuthenticationToken(
-                                request.getUsername(),
-                                request.getPassword())
-                );
+        Mockito.verify(authenticationManager).authenticate(authenticationRequest);
         Assertions.assertEquals(response.getUsername(), username);
         Assertions.assertEquals(response.getId(), userId);
         Assertions.assertNotNull(response.getAccessToken());
@@ -85,13 +80,11 @@ public class AuthServiceTest {
         JwtRequest request = new JwtRequest();
         request.setUsername(username);
         request.setPassword(password);
-        User user = new User();
-        user.setName(username);
-        Mockito.when(userService.getUserByLogin(username))
-                .thenThrow(ResourceNotFoundException.class);
-        Mockito.verifyNoInteractions(tokenProvider);
-        Assertions.assertThrows(ResourceNotFoundException.class,
+        Mockito.when(authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password)))
+                .thenThrow(BadCredentialsException.class);
+        Assertions.assertThrows(BadCredentialsException.class,
                 () -> authService.login(request));
+        Mockito.verifyNoInteractions(tokenProvider);
     }
 
     @Test
@@ -109,4 +102,12 @@ public class AuthServiceTest {
         Mockito.verify(tokenProvider).refreshUserTokens(refreshToken);
         Assertions.assertEquals(testResponse, response);
     }
+
+    @Test
+    @DisplayName("Successful logout")
+    void logout() {
+        String refreshToken = "refreshToken";
+        authService.logout(refreshToken);
+        Mockito.verify(tokenProvider).revokeRefreshToken(refreshToken);
+    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.ylab.app.service;
 
+import com.ylab.app.cache.CacheInvalidationBus;
 import com.ylab.app.dbService.dao.UserDao;
 import com.ylab.app.exception.resourceException.ResourceNotFoundException;
 import com.ylab.app.exception.userException.UserValidationException;
 import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
+import com.ylab.app.model.user.UserSearchCursor;
+import com.ylab.app.model.user.UserSearchHit;
 import com.ylab.app.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +42,9 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder encoder;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -84,12 +90,32 @@ public class UserServiceTest {
 
         List<User> result = List.of(user1, user2);
 
-        when(dao.getAllUsers()).thenReturn(result);
+        when(dao.getAllUsers(0L, 100)).thenReturn(result);
 
+        assertThat(userService.getAllUsers(0L, 100)).isEqualTo(result);
         assertThat(result).filteredOn(user -> user.getRole().equals(UserRole.USER)).isNotEmpty();
         assertThat(result).filteredOn(user -> user.getRole().equals(UserRole.ADMIN)).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("Get all users with a limit out of range")
+    public void getAllUsersWithIncorrectLimit() {
+        assertThatThrownBy(() -> userService.getAllUsers(0L, 1001))
+                .isInstanceOf(UserValidationException.class);
+        assertThatThrownBy(() -> userService.getAllUsers(-1L, 100))
+                .isInstanceOf(UserValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Find user credentials by login")
+    public void getFindUserCredentialsByLogin() {
+        User user = new User("test", "hash", UserRole.USER);
+
+        when(dao.getUserCredentialsByLogin(user.getName())).thenReturn(user);
+
+        assertThat(userService.getUserCredentialsByLogin(user.getName()).getPassword()).isEqualTo("hash");
+    }
+
     @Test
     @DisplayName("Check role for admin user")
     public void getFindUserByLogin() throws SQLException {
@@ -121,4 +147,28 @@ public class UserServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("User not found.");
     }
+
+    @Test
+    @DisplayName("Search users by name prefix for an admin user")
+    public void searchUsers() {
+        User admin = new User(1L, "admin", null, UserRole.ADMIN);
+        List<UserSearchHit> hits = List.of(new UserSearchHit(new User(2L, "natasha", null, UserRole.USER), 0.5f));
+
+        when(dao.searchUsers("nat", UserSearchCursor.FIRST, 20)).thenReturn(hits);
+
+        assertThat(userService.searchUsers(admin, " nat ", UserSearchCursor.FIRST, 20)).isEqualTo(hits);
+    }
+
+    @Test
+    @DisplayName("Search users is rejected for a non-admin user and for a short query")
+    public void searchUsersRejected() {
+        User user = new User(2L, "user", null, UserRole.USER);
+        User admin = new User(1L, "admin", null, UserRole.ADMIN);
+
+        assertThatThrownBy(() -> userService.searchUsers(user, "nat", UserSearchCursor.FIRST, 20))
+                .isInstanceOf(UserValidationException.class);
+        assertThatThrownBy(() -> userService.searchUsers(admin, "na", UserSearchCursor.FIRST, 20))
+                .isInstanceOf(UserValidationException.class);
+        verify(dao, never()).searchUsers(anyString(), any(), anyInt());
+    }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.ylab.app.service;
 
+import com.ylab.app.cache.CacheInvalidationBus;
+import com.ylab.app.cache.CacheNames;
+import com.ylab.app.cache.SingleFlight;
 import com.ylab.app.dbService.dao.WorkoutDao;
 import com.ylab.app.exception.userException.UserValidationException;
 import com.ylab.app.exception.workoutException.WorkoutException;
@@ -7,15 +10,24 @@ import com.ylab.app.model.user.User;
 import com.ylab.app.model.user.UserRole;
 import com.ylab.app.model.workout.Workout;
 import com.ylab.app.model.workout.WorkoutAdditionalParams;
+import com.ylab.app.model.workout.WorkoutChange;
+import com.ylab.app.model.workout.WorkoutChangeFeed;
+import com.ylab.app.model.workout.WorkoutChangeType;
 import com.ylab.app.model.workout.WorkoutType;
 import com.ylab.app.service.impl.WorkoutServiceImpl;
+import com.ylab.app.service.props.SingleFlightProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import java.sql.SQLException;
 import java.time.LocalDateTime;
@@ -44,6 +56,15 @@ public class WorkoutServiceTest {
     @Mock
     private WorkoutDao workoutDao;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SingleFlightProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private WorkoutServiceImpl workoutService;
 
@@ -110,6 +131,7 @@ public class WorkoutServiceTest {
         Workout result = workoutService.editWorkout(user, updatedWorkout, workoutId);
 
         verify(workoutDao).editWorkout(updatedWorkout, workoutId);
+        verify(cacheInvalidationBus).invalidate(CacheNames.WORKOUTS, workoutId);
 
         assertEquals(updatedWorkout, result);
     }
@@ -122,6 +144,7 @@ public class WorkoutServiceTest {
         workoutService.deleteWorkout(workoutId);
 
         verify(workoutDao).deleteWorkout(workoutId);
+        verify(cacheInvalidationBus).invalidate(CacheNames.WORKOUTS, workoutId);
     }
 
     @Test
@@ -144,6 +167,7 @@ public class WorkoutServiceTest {
         List<WorkoutAdditionalParams> actualParams = workoutService.getAdditionalParamsStats(user, WorkoutType.CARDIO, date, date);
 
         assertThat(actualParams).isEqualTo(expectedParams);
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
     }
 
     @Test
@@ -156,6 +180,11 @@ public class WorkoutServiceTest {
         List<Workout> actualWorkouts = workoutService.getAllReadingsWorkouts(user);
 
         assertThat(actualWorkouts).isEqualTo(expectedWorkouts);
+        InOrder inOrder = inOrder(singleFlight, transactionManager, workoutDao);
+        inOrder.verify(singleFlight).execute(any(), any(), any());
+        inOrder.verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        inOrder.verify(workoutDao).findAllWorkoutList();
+        inOrder.verify(transactionManager).commit(any());
     }
 
     @Test
@@ -167,4 +196,43 @@ public class WorkoutServiceTest {
                 .isInstanceOf(UserValidationException.class)
                 .hasMessageContaining("Invalid or unauthorized user");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Getting workout changes should keep the latest entry of each workout and continue after the last entry")
+    void getWorkoutChanges_ShouldReturnLatestChangePerWorkout() {
+        Workout other = new Workout();
+        other.setId(2L);
+        List<WorkoutChange> entries = List.of(
+                new WorkoutChange(5, WorkoutChangeType.UPSERT, workoutId, null),
+                new WorkoutChange(6, WorkoutChangeType.UPSERT, 2L, other),
+                new WorkoutChange(7, WorkoutChangeType.DELETE, workoutId, null));
+        when(workoutDao.findChangesSince(user, 4, 3)).thenReturn(entries);
+
+        WorkoutChangeFeed feed = workoutService.getWorkoutChanges(user, 4, 3);
+
+        assertThat(feed.getChanges()).extracting(WorkoutChange::getSeq).containsExactly(6L, 7L);
+        assertThat(feed.getNextSince()).isEqualTo(7);
+        assertThat(feed.isHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Getting workout changes should keep the position when there are no new changes")
+    void getWorkoutChanges_ShouldKeepPosition_WhenNoChanges() {
+        when(workoutDao.findChangesSince(user, 9, 100)).thenReturn(List.of());
+
+        WorkoutChangeFeed feed = workoutService.getWorkoutChanges(user, 9, 100);
+
+        assertThat(feed.getChanges()).isEmpty();
+        assertThat(feed.getNextSince()).isEqualTo(9);
+        assertThat(feed.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Getting workout changes should throw an exception if the limit is out of range")
+    void getWorkoutChanges_ShouldThrowException_WhenLimitOutOfRange() {
+        assertThatThrownBy(() -> workoutService.getWorkoutChanges(user, 0, 0))
+                .isInstanceOf(WorkoutException.class)
+                .hasMessageContaining("Incorrect change feed position or limit!");
+        verifyNoInteractions(workoutDao);
+    }
+}
@@ -0,0 +1,166 @@
+package com.ylab.app.web.stream;
+
+import com.ylab.app.config.WorkerThreads;
+import com.ylab.app.dbService.dao.WorkoutDao;
+import com.ylab.app.dbService.notify.PgNotificationListener;
+import com.ylab.app.exception.workoutException.WorkoutStreamException;
+import com.ylab.app.model.user.User;
+import com.ylab.app.model.user.UserRole;
+import com.ylab.app.model.workout.WorkoutChange;
+import com.ylab.app.model.workout.WorkoutChangeType;
+import com.ylab.app.service.props.WorkoutStreamProperties;
+import com.ylab.app.web.dto.WorkoutChangeDto;
+import com.ylab.app.web.mapper.WorkoutMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * WorkoutStreamHubTest class represents the test suite for the workout change stream hub.
+ * The change log and the notification listener are mocked; the emitters are not attached to a response, so
+ * sent events are buffered by the emitters instead of being written.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkoutStreamHubTest {
+    @Mock
+    private WorkoutDao workoutDao;
+
+    @Mock
+    private WorkoutMapper workoutMapper;
+
+    @Mock
+    private PgNotificationListener notificationListener;
+
+    private WorkoutStreamProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicInteger threadsStarted = new AtomicInteger();
+    private WorkoutStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WorkoutStreamProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        WorkerThreads workerThreads = new WorkerThreads(new MockEnvironment()) {
+            @Override
+            public ThreadFactory factory(String name) {
+                ThreadFactory factory = super.factory(name);
+                return runnable -> {
+                    threadsStarted.incrementAndGet();
+                    return factory.newThread(runnable);
+                };
+            }
+        };
+        hub = new WorkoutStreamHub(workoutDao, workoutMapper, notificationListener, properties, meterRegistry,
+                workerThreads);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.destroy();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Thousands of idle subscribers share one channel per user, start no threads and keep empty buffers")
+    void subscribe_ManyIdleSubscribers_ShouldShareChannels() throws InterruptedException {
+        int users = 50;
+        int subscribers = 5000;
+        properties.setBufferSize(4);
+        when(workoutDao.findLatestChangeSeq()).thenReturn(0L);
+        lenient().when(workoutDao.findChangesSince(any(User.class), anyLong(), anyInt())).thenReturn(List.of());
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            userList.add(new User((long) i, "user" + i, "password", UserRole.USER));
+        }
+
+        for (int i = 0; i < subscribers; i++) {
+            hub.subscribe(userList.get(i % users), null);
+        }
+        hub.heartbeat();
+        hub.heartbeat();
+
+        assertThat(hub.getSubscriberCount()).isEqualTo(subscribers);
+        assertThat(hub.getChannels()).hasSize(users)
+                .allSatisfy(channel -> assertThat(channel.getSubscribers()).hasSize(subscribers / users));
+        assertThat(threadsStarted.get()).isLessThanOrEqualTo(2 + properties.getSenderThreads());
+        verify(workoutDao, times(users)).findLatestChangeSeq();
+        waitUntil(() -> meterRegistry.get("workout.stream.events.sent").counter().count() == 3.0 * subscribers);
+        assertThat(hub.getChannels().stream().flatMap(channel -> channel.getSubscribers().stream()))
+                .allMatch(subscriber -> subscriber.getQueuedCount() == 0);
+        assertThat(meterRegistry.get("workout.stream.overflows").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("A notification reads the user's changes once and queues them to every subscriber")
+    @SuppressWarnings("unchecked")
+    void notification_ShouldReadChangesOnceForAllSubscribersOfUser() {
+        User user = new User(1L, "test", "test", UserRole.USER);
+        WorkoutChange change = new WorkoutChange(6, WorkoutChangeType.DELETE, 10L, null);
+        AtomicBoolean committed = new AtomicBoolean();
+        when(workoutDao.findLatestChangeSeq()).thenReturn(5L);
+        when(workoutDao.findChangesSince(eq(user), anyLong(), anyInt()))
+                .thenAnswer(invocation -> committed.get() && invocation.<Long>getArgument(1) < 6 ? List.of(change) : List.of());
+        when(workoutMapper.workoutChangeToDto(change)).thenReturn(new WorkoutChangeDto(6, WorkoutChangeType.DELETE, 10L, null));
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(notificationListener).addListener(eq("workout_change"), listener.capture());
+        hub.subscribe(user, null);
+        hub.subscribe(user, null);
+        hub.subscribe(user, null);
+
+        committed.set(true);
+        listener.getValue().accept("1");
+
+        verify(workoutMapper, timeout(2000)).workoutChangeToDto(change);
+        verify(workoutDao, timeout(2000).atLeastOnce()).hasPendingChanges(user);
+        assertThat(meterRegistry.get("workout.stream.subscribers").gauge().value()).isEqualTo(3);
+        verify(workoutMapper, times(1)).workoutChangeToDto(any());
+    }
+
+    @Test
+    @DisplayName("Subscribing beyond the maximum number of subscribers should be rejected")
+    void subscribe_OverLimit_ShouldThrowWorkoutStreamException() {
+        properties.setMaxSubscribers(1);
+        User user = new User(1L, "test", "test", UserRole.USER);
+        when(workoutDao.findLatestChangeSeq()).thenReturn(0L);
+        lenient().when(workoutDao.findChangesSince(any(User.class), anyLong(), anyInt())).thenReturn(List.of());
+        hub.subscribe(user, null);
+
+        assertThatThrownBy(() -> hub.subscribe(user, null))
+                .isInstanceOf(WorkoutStreamException.class);
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ylab.app.web.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WorkoutStreamSubscriberTest class represents the test suite for the bounded buffer of a workout stream connection.
+ * The sender tasks are collected and run by the test, so the buffer fills deterministically.
+ *
+ * @author razlivinsky
+ * @since 19.10.2026
+ */
+class WorkoutStreamSubscriberTest {
+    private static final int CAPACITY = 3;
+
+    private final List<Runnable> senderTasks = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Counter sent;
+    private Counter overflows;
+    private WorkoutStreamSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        sent = meterRegistry.counter("sent");
+        overflows = meterRegistry.counter("overflows");
+        subscriber = new WorkoutStreamSubscriber(new SseEmitter(), CAPACITY, senderTasks::add, sent, overflows);
+    }
+
+    private static Set<DataWithMediaType> event(String comment) {
+        return SseEmitter.event().comment(comment).build();
+    }
+
+    @Test
+    @DisplayName("Events up to the buffer size are queued behind a single drain")
+    void offer_UpToCapacity_ShouldQueueAll() {
+        for (int i = 0; i < CAPACITY; i++) {
+            subscriber.offer(event("event " + i));
+        }
+
+        assertThat(subscriber.isAccepting()).isTrue();
+        assertThat(senderTasks).hasSize(1);
+
+        senderTasks.get(0).run();
+
+        assertThat(sent.count()).isEqualTo(CAPACITY);
+        assertThat(overflows.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("An event beyond the buffer size is dropped, the subscriber stops accepting and completes after the queued events")
+    void offer_BeyondCapacity_ShouldOverflow() {
+        for (int i = 0; i < CAPACITY + 5; i++) {
+            subscriber.offer(event("event " + i));
+        }
+
+        assertThat(subscriber.isAccepting()).isFalse();
+        assertThat(overflows.count()).isEqualTo(1);
+
+        senderTasks.get(0).run();
+        subscriber.offer(event("after overflow"));
+
+        assertThat(sent.count()).isEqualTo(CAPACITY);
+        assertThat(senderTasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Change events are taken only after joining and only past the known change sequence")
+    void offerChange_ShouldSkipKnownSequences() {
+        subscriber.offerChange(1, event("before join"));
+        subscriber.join(5);
+        subscriber.offerChange(4, event("already received"));
+        subscriber.offerChange(5, event("already received"));
+        subscriber.offerChange(6, event("new"));
+
+        senderTasks.forEach(Runnable::run);
+
+        assertThat(sent.count()).isEqualTo(1);
+        assertThat(subscriber.getPosition()).isEqualTo(6);
+    }
+}